@@ -0,0 +1,79 @@
+package com.thealgorithms.others;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Flips the bits of transmitted frames independently of each other with a given bit error rate,
+ * as a binary symmetric channel does.
+ *
+ * <p>Drawing one random number per bit costs as much as the bits themselves, although at a
+ * realistic bit error rate almost none of them change. Instead, the injector draws the number of
+ * correct bits before the next error, which follows a geometric distribution: for a uniform
+ * {@code u} in (0, 1], {@code floor(ln(u) / ln(1 - ber))} correct bits come before the next flip.
+ * A frame then costs one random number per error plus a subtraction. The count carries over from
+ * one frame to the next, so the errors of consecutive frames are distributed exactly as if every
+ * bit had been drawn separately.</p>
+ *
+ * Example usage:
+ * <pre>
+ * BitErrorInjector channel = new BitErrorInjector(1e-6, new SplittableRandom(42));
+ * int flipped = channel.inject(frame, 8 * frame.length);
+ * </pre>
+ */
+public final class BitErrorInjector {
+    // more correct bits than will ever be transmitted, small enough that adding a frame cannot overflow
+    private static final long NEVER = Long.MAX_VALUE >>> 1;
+
+    private final double logOfCorrect;
+    private final RandomGenerator random;
+    // correct bits left before the next error
+    private long correctBits;
+
+    /**
+     * @param ber the probability that a bit is flipped, from 0 to 1
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if the bit error rate is outside of [0, 1]
+     */
+    public BitErrorInjector(double ber, RandomGenerator random) {
+        if (!(ber >= 0 && ber <= 1)) {
+            throw new IllegalArgumentException("Bit error rate must be between 0 and 1: " + ber);
+        }
+        this.logOfCorrect = Math.log1p(-ber);
+        this.random = random;
+        this.correctBits = nextGap();
+    }
+
+    /**
+     * Transmits the first bits of a frame, where bit {@code i} is the bit {@code 7 - i % 8} of byte
+     * {@code i / 8}, so that the first bit is the most significant bit of the first byte.
+     *
+     * @param frame the frame, changed in place
+     * @param bitCount the number of bits that are transmitted
+     * @return the number of bits flipped
+     * @throws IllegalArgumentException if the frame has less than {@code bitCount} bits
+     */
+    public int inject(byte[] frame, int bitCount) {
+        if (bitCount < 0 || bitCount > 8L * frame.length) {
+            throw new IllegalArgumentException("Cannot transmit " + bitCount + " bits of a frame of " + frame.length + " bytes");
+        }
+        int flipped = 0;
+        long position = correctBits;
+        while (position < bitCount) {
+            int bit = (int) position;
+            frame[bit >>> 3] ^= (byte) (0x80 >>> (bit & 7));
+            flipped++;
+            position += 1 + nextGap();
+        }
+        correctBits = position - bitCount;
+        return flipped;
+    }
+
+    /**
+     * @return a number of correct bits before an error, at most NEVER
+     */
+    private long nextGap() {
+        // 1 - nextDouble() is in (0, 1], so the logarithm is finite; a zero rate gives NaN or infinity
+        double gap = Math.log(1 - random.nextDouble()) / logOfCorrect;
+        return gap < NEVER ? (long) gap : NEVER;
+    }
+}
@@ -1,57 +1,85 @@
 package com.thealgorithms.others;
 
-import java.util.ArrayList;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
+ * Simulates the transmission of random messages, protected by a CRC, over a channel with a
+ * given bit error rate, and counts how many of the damaged messages the CRC detects.
+ *
+ * <p>A message of {@code size} bits is packed into a byte array, most significant bit first. The
+ * sender appends the remainder of the division of the message, followed by as many zero bits as
+ * the degree of P, by P, which {@link CRCEngine} computes with table lookups. The channel flips
+ * bits with a {@link BitErrorInjector}, and the receiver divides the whole frame by P again: the
+ * remainder is zero unless the frame was damaged, or damaged in a way the CRC cannot detect.</p>
+ *
  * @author dimgrichr
  */
 public class CRCAlgorithm {
 
-    private int correctMess;
+    private long correctMess;
 
-    private int wrongMess;
+    private long wrongMess;
 
-    private int wrongMessCaught;
+    private long wrongMessCaught;
 
-    private int wrongMessNotCaught;
+    private long wrongMessNotCaught;
 
     private int messSize;
 
-    private double ber;
-
     private boolean messageChanged;
 
-    private ArrayList<Integer> message;
+    private final CRCEngine engine;
+
+    // the message and its CRC, bit i is bit 7 - i % 8 of byte i / 8
+    private final byte[] frame;
+
+    private int frameBits;
 
-    private ArrayList<Integer> p;
+    private final RandomGenerator randomGenerator;
 
-    private Random randomGenerator;
+    private final BitErrorInjector channel;
 
     /**
      * The algorithm's main constructor. The most significant variables, used in
      * the algorithm, are set in their initial values.
      *
      * @param str The binary number P, in a string form, which is used by the
-     * CRC algorithm
+     * CRC algorithm; it must start with 1 and have at most 65 digits
      * @param size The size of every transmitted message
      * @param ber The Bit Error Rate
      */
     public CRCAlgorithm(String str, int size, double ber) {
-        messageChanged = false;
-        message = new ArrayList<>();
+        this(str, size, ber, new SplittableRandom());
+    }
+
+    /**
+     * Constructs the algorithm with a given source of randomness, so that a simulation can be
+     * repeated.
+     *
+     * @param str The binary number P, in a string form
+     * @param size The size of every transmitted message
+     * @param ber The Bit Error Rate
+     * @param randomGenerator Generates the messages and the bit errors
+     */
+    public CRCAlgorithm(String str, int size, double ber, RandomGenerator randomGenerator) {
+        this(CRCEngine.ofGenerator(str), size, ber, randomGenerator);
+    }
+
+    /**
+     * Constructs the algorithm around an existing engine, so that many instances can share its tables.
+     *
+     * @param engine The division by P
+     * @param size The size of every transmitted message
+     * @param ber The Bit Error Rate
+     * @param randomGenerator Generates the messages and the bit errors
+     */
+    CRCAlgorithm(CRCEngine engine, int size, double ber, RandomGenerator randomGenerator) {
+        this.engine = engine;
         messSize = size;
-        p = new ArrayList<>();
-        for (int i = 0; i < str.length(); i++) {
-            p.add(Character.getNumericValue(str.charAt(i)));
-        }
-        randomGenerator = new Random();
-        correctMess = 0;
-        wrongMess = 0;
-        wrongMessCaught = 0;
-        wrongMessNotCaught = 0;
-        this.ber = ber;
+        frame = new byte[(size + engine.width() + 7) / 8];
+        this.randomGenerator = randomGenerator;
+        channel = new BitErrorInjector(ber, randomGenerator);
     }
 
     /**
@@ -59,7 +87,7 @@ public class CRCAlgorithm {
      *
      * @return wrongMess, the number of Wrong Messages
      */
-    public int getWrongMess() {
+    public long getWrongMess() {
         return wrongMess;
     }
 
@@ -69,7 +97,7 @@ public class CRCAlgorithm {
      * @return wrongMessCaught, the number of wrong messages, which are caught
      * by the CRC algoriithm
      */
-    public int getWrongMessCaught() {
+    public long getWrongMessCaught() {
         return wrongMessCaught;
     }
 
@@ -79,7 +107,7 @@ public class CRCAlgorithm {
      * @return wrongMessNotCaught, the number of wrong messages, which are not
      * caught by the CRC algorithm
      */
-    public int getWrongMessNotCaught() {
+    public long getWrongMessNotCaught() {
         return wrongMessNotCaught;
     }
 
@@ -88,7 +116,7 @@ public class CRCAlgorithm {
      *
      * @return correctMess, the number of the Correct Messages
      */
-    public int getCorrectMess() {
+    public long getCorrectMess() {
         return correctMess;
     }
 
@@ -99,7 +127,7 @@ public class CRCAlgorithm {
      */
     public void refactor() {
         messageChanged = false;
-        message = new ArrayList<>();
+        frameBits = 0;
     }
 
     /**
@@ -107,91 +135,76 @@ public class CRCAlgorithm {
      * can later be transmitted
      */
     public void generateRandomMess() {
-        for (int i = 0; i < messSize; i++) {
-            int x = ThreadLocalRandom.current().nextInt(0, 2);
-            message.add(x);
+        int bytes = (messSize + 7) / 8;
+        for (int i = 0; i < bytes; i += Long.BYTES) {
+            long bits = randomGenerator.nextLong();
+            for (int j = i; j < Math.min(bytes, i + Long.BYTES); j++) {
+                frame[j] = (byte) bits;
+                bits >>>= 8;
+            }
         }
+        frameBits = messSize;
     }
 
     /**
      * The most significant part of the CRC algorithm. The message is divided by
-     * P, so the dividedMessage ArrayList<Integer> is created. If check == true,
-     * the dividedMessaage is examined, in order to see if it contains any 1's.
-     * If it does, the message is considered to be wrong by the receiver,so the
-     * variable wrongMessCaught changes. If it does not, it is accepted, so one
-     * of the variables correctMess, wrongMessNotCaught, changes. If check ==
-     * false, the diviided Message is added at the end of the ArrayList<integer>
-     * message.
+     * P. If check == true, the remainder is examined, in order to see if it
+     * contains any 1's. If it does, the message is considered to be wrong by
+     * the receiver, so the variable wrongMessCaught changes. If it does not, it
+     * is accepted, so one of the variables correctMess, wrongMessNotCaught,
+     * changes. If check == false, the message is first followed by as many 0's
+     * as the degree of P, and the remainder is added at the end of the message.
      *
      * @param check the variable used to determine, if the message is going to
      * be checked from the receiver if true, it is checked otherwise, it is not
      */
     public void divideMessageWithP(boolean check) {
-        ArrayList<Integer> x = new ArrayList<>();
-        ArrayList<Integer> k = (ArrayList<Integer>) message.clone();
-        if (!check) {
-            for (int i = 0; i < p.size() - 1; i++) {
-                k.add(0);
-            }
+        int wholeBytes = frameBits >>> 3;
+        int restBits = frameBits & 7;
+        long register = engine.update(engine.start(), frame, 0, wholeBytes);
+        if (restBits > 0) {
+            register = engine.updateBits(register, (frame[wholeBytes] & 0xFF) >>> (8 - restBits), restBits);
         }
-        while (!k.isEmpty()) {
-            while (x.size() < p.size() && !k.isEmpty()) {
-                x.add(k.get(0));
-                k.remove(0);
-            }
-            if (x.size() == p.size()) {
-                for (int i = 0; i < p.size(); i++) {
-                    if (x.get(i) == p.get(i)) {
-                        x.set(i, 0);
-                    } else {
-                        x.set(i, 1);
-                    }
-                }
-                for (int i = 0; i < x.size() && x.get(i) != 1; i++) {
-                    x.remove(0);
-                }
-            }
-        }
-        ArrayList<Integer> dividedMessage = (ArrayList<Integer>) x.clone();
+        long remainder = engine.finish(register);
         if (!check) {
-            message.addAll(dividedMessage);
+            appendBits(remainder, engine.width());
+        } else if (!messageChanged) {
+            correctMess++;
+        } else if (remainder != 0) {
+            wrongMessCaught++;
         } else {
-            if (dividedMessage.contains(1) && messageChanged) {
-                wrongMessCaught++;
-            } else if (!dividedMessage.contains(1) && messageChanged) {
-                wrongMessNotCaught++;
-            } else if (!messageChanged) {
-                correctMess++;
-            }
+            wrongMessNotCaught++;
         }
     }
 
     /**
      * Once the message is transmitted, some of it's elements, is possible to
      * change from 1 to 0, or from 0 to 1, because of the Bit Error Rate (ber).
-     * For every element of the message, a random double number is created. If
-     * that number is smaller than ber, then the spesific element changes. On
-     * the other hand, if it's bigger than ber, it does not. Based on these
-     * changes. the boolean variable messageChanged, gets the value: true, or
-     * false.
+     * Every bit is flipped with probability ber, independently of the others.
+     * Based on these changes. the boolean variable messageChanged, gets the
+     * value: true, or false.
      */
     public void changeMess() {
-        for (int y : message) {
-            double x = randomGenerator.nextDouble();
-            while (x < 0.0000 || x > 1.00000) {
-                x = randomGenerator.nextDouble();
-            }
-            if (x < ber) {
-                messageChanged = true;
-                if (y == 1) {
-                    message.set(message.indexOf(y), 0);
-                } else {
-                    message.set(message.indexOf(y), 1);
-                }
-            }
+        if (channel.inject(frame, frameBits) > 0) {
+            messageChanged = true;
         }
         if (messageChanged) {
             wrongMess++;
         }
     }
+
+    /**
+     * Appends the lowest bits of a value to the frame, most significant first.
+     */
+    private void appendBits(long bits, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            int mask = 0x80 >>> (frameBits & 7);
+            if (((bits >>> i) & 1) != 0) {
+                frame[frameBits >>> 3] |= (byte) mask;
+            } else {
+                frame[frameBits >>> 3] &= (byte) ~mask;
+            }
+            frameBits++;
+        }
+    }
 }
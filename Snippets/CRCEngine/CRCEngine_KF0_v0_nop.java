@@ -0,0 +1,283 @@
+package com.thealgorithms.others;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Table-driven cyclic redundancy check for any generator polynomial of 1 to 64 bits.
+ *
+ * <p>A CRC is described by the usual parameters of the Rocksoft model: the width, the polynomial
+ * without its leading term, the initial register value, whether the input bytes and the output are
+ * bit-reflected, and a value that is XORed into the output. Constants are provided for some common
+ * CRCs; {@link #ofGenerator(String)} creates a plain polynomial division as taught in textbooks.</p>
+ *
+ * <p>Input is processed eight bytes at a time with the slice-by-8 method: the next eight bytes
+ * are XORed into the register as one {@code long}, and the register after those 64 bits is the
+ * XOR of eight table lookups, one per byte. The eight tables of 256 entries are built when the
+ * engine is constructed. Remaining bytes use the first table one byte at a time, and single bits
+ * can be fed with {@link #updateBits(long, long, int)} for messages whose length is not a whole
+ * number of bytes.</p>
+ *
+ * <p>The register is kept left-aligned in a {@code long} for non-reflected CRCs and right-aligned
+ * for reflected ones, so that every width uses the same 64-bit code path.</p>
+ *
+ * Example usage:
+ * <pre>
+ * long crc = CRCEngine.CRC32.compute("123456789".getBytes(StandardCharsets.US_ASCII)); // 0xCBF43926
+ *
+ * long register = CRCEngine.CRC32.start();
+ * register = CRCEngine.CRC32.update(register, firstPart, 0, firstPart.length);
+ * register = CRCEngine.CRC32.update(register, secondPart);
+ * crc = CRCEngine.CRC32.finish(register);
+ * </pre>
+ */
+public final class CRCEngine {
+    /** CRC-32 as used by Ethernet, ZIP and PNG */
+    public static final CRCEngine CRC32 = new CRCEngine(32, 0x04C11DB7L, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL);
+    /** CRC-32C (Castagnoli) as used by iSCSI and ext4 */
+    public static final CRCEngine CRC32C = new CRCEngine(32, 0x1EDC6F41L, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL);
+    /** CRC-16/CCITT-FALSE */
+    public static final CRCEngine CRC16_CCITT_FALSE = new CRCEngine(16, 0x1021L, 0xFFFFL, false, false, 0);
+    /** CRC-64/ECMA-182 */
+    public static final CRCEngine CRC64_ECMA_182 = new CRCEngine(64, 0x42F0E1EBA9EA3693L, 0, false, false, 0);
+    /** CRC-64/XZ */
+    public static final CRCEngine CRC64_XZ = new CRCEngine(64, 0x42F0E1EBA9EA3693L, -1L, true, true, -1L);
+
+    private static final VarHandle BIG_ENDIAN_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LITTLE_ENDIAN_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int width;
+    private final long mask;
+    private final long init;
+    private final boolean reflectIn;
+    private final boolean reflectOut;
+    private final long xorOut;
+    // polynomial aligned like the register
+    private final long divisor;
+    // table k maps a byte to the register after 8 * (k + 1) further zero bits; table k starts at 256 * k
+    private final long[] tables = new long[8 * 256];
+
+    /**
+     * @param width the degree of the generator polynomial, from 1 to 64
+     * @param polynomial the generator polynomial without its leading term, lowest bit for x^0
+     * @param init the initial register value, not reflected
+     * @param reflectIn true if the bits of every input byte are processed least significant first
+     * @param reflectOut true if the register is reflected before the final XOR
+     * @param xorOut the value XORed into the result
+     * @throws IllegalArgumentException if the width is out of range
+     */
+    public CRCEngine(int width, long polynomial, long init, boolean reflectIn, boolean reflectOut, long xorOut) {
+        if (width < 1 || width > Long.SIZE) {
+            throw new IllegalArgumentException("Width must be between 1 and 64: " + width);
+        }
+        this.width = width;
+        this.mask = -1L >>> (Long.SIZE - width);
+        this.init = init & mask;
+        this.reflectIn = reflectIn;
+        this.reflectOut = reflectOut;
+        this.xorOut = xorOut & mask;
+        this.divisor = reflectIn ? reflect(polynomial & mask) : (polynomial & mask) << (Long.SIZE - width);
+        buildTables();
+    }
+
+    /**
+     * Creates the plain polynomial division of a message by a generator, with a zero initial
+     * register, no reflection and no final XOR: the CRC is the remainder of the message followed
+     * by {@code width} zero bits, and appending it makes the message divisible by the generator.
+     *
+     * @param generator the generator polynomial as a string of 0's and 1's, highest term first, for example "1011" for x^3 + x + 1
+     * @return the engine
+     * @throws IllegalArgumentException if the string does not start with 1, is shorter than 2 or longer than 65 digits, or contains other characters
+     */
+    public static CRCEngine ofGenerator(String generator) {
+        if (generator.length() < 2 || generator.length() > Long.SIZE + 1 || generator.charAt(0) != '1') {
+            throw new IllegalArgumentException("Generator must be a binary string of 2 to 65 digits starting with 1: " + generator);
+        }
+        long polynomial = 0;
+        for (int i = 1; i < generator.length(); i++) {
+            char digit = generator.charAt(i);
+            if (digit != '0' && digit != '1') {
+                throw new IllegalArgumentException("Generator must be a binary string: " + generator);
+            }
+            polynomial = (polynomial << 1) | (digit - '0');
+        }
+        return new CRCEngine(generator.length() - 1, polynomial, 0, false, false, 0);
+    }
+
+    /**
+     * @return the degree of the generator polynomial, which is the number of bits of the CRC
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @param data the message
+     * @return the CRC of the message
+     */
+    public long compute(byte[] data) {
+        return finish(update(start(), data, 0, data.length));
+    }
+
+    /**
+     * @param buffer the message, from the position to the limit; the position is not changed
+     * @return the CRC of the message
+     */
+    public long compute(ByteBuffer buffer) {
+        return finish(update(start(), buffer));
+    }
+
+    /**
+     * @return the register before the first byte of a message
+     */
+    public long start() {
+        return reflectIn ? reflect(init) : init << (Long.SIZE - width);
+    }
+
+    /**
+     * @param register the register after the previous part of the message
+     * @return the CRC of the message
+     */
+    public long finish(long register) {
+        long crc = reflectIn ? reflect(register) : register >>> (Long.SIZE - width);
+        if (reflectOut) {
+            crc = reflect(crc);
+        }
+        return (crc ^ xorOut) & mask;
+    }
+
+    /**
+     * Processes the next part of a message.
+     *
+     * @param register the register after the previous part
+     * @param data the array that holds the part
+     * @param offset the index of the first byte of the part
+     * @param length the number of bytes of the part
+     * @return the register after the part
+     * @throws IndexOutOfBoundsException if the part is outside of the array
+     */
+    public long update(long register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        long[] t = tables;
+        int end = offset + length;
+        int i = offset;
+        if (reflectIn) {
+            for (; i <= end - Long.BYTES; i += Long.BYTES) {
+                long r = register ^ (long) LITTLE_ENDIAN_LONG.get(data, i);
+                register = sliceReflected(t, r);
+            }
+            for (; i < end; i++) {
+                register = (register >>> 8) ^ t[(int) (register ^ data[i]) & 0xFF];
+            }
+        } else {
+            for (; i <= end - Long.BYTES; i += Long.BYTES) {
+                long r = register ^ (long) BIG_ENDIAN_LONG.get(data, i);
+                register = sliceNormal(t, r);
+            }
+            for (; i < end; i++) {
+                register = (register << 8) ^ t[(int) ((register >>> 56) ^ (data[i] & 0xFF))];
+            }
+        }
+        return register;
+    }
+
+    /**
+     * Processes the next part of a message, stored in an array or in a direct buffer.
+     *
+     * @param register the register after the previous part
+     * @param buffer the part, from the position to the limit; the position is not changed
+     * @return the register after the part
+     */
+    public long update(long register, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return update(register, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        long[] t = tables;
+        int end = buffer.limit();
+        int i = buffer.position();
+        // getLong reads in the order of the buffer, the slices need the order of the bits
+        boolean swap = buffer.order() != (reflectIn ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = buffer.getLong(i);
+            if (swap) {
+                word = Long.reverseBytes(word);
+            }
+            register = reflectIn ? sliceReflected(t, register ^ word) : sliceNormal(t, register ^ word);
+        }
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            register = reflectIn ? (register >>> 8) ^ t[(int) (register ^ b) & 0xFF] : (register << 8) ^ t[(int) ((register >>> 56) ^ (b & 0xFF))];
+        }
+        return register;
+    }
+
+    /**
+     * Processes the next bits of a message one at a time, for messages that do not end on a byte
+     * boundary. The bits are taken in the order the engine reads bytes: the most significant of the
+     * {@code count} lowest bits first for non-reflected CRCs, the least significant first otherwise.
+     *
+     * @param register the register after the previous part
+     * @param bits the bits, in the lowest {@code count} bits
+     * @param count the number of bits, from 0 to 64
+     * @return the register after the bits
+     */
+    public long updateBits(long register, long bits, int count) {
+        for (int i = 0; i < count; i++) {
+            if (reflectIn) {
+                register ^= (bits >>> i) & 1;
+                register = (register & 1) != 0 ? (register >>> 1) ^ divisor : register >>> 1;
+            } else {
+                register ^= ((bits >>> (count - 1 - i)) & 1) << 63;
+                register = register < 0 ? (register << 1) ^ divisor : register << 1;
+            }
+        }
+        return register;
+    }
+
+    private static long sliceNormal(long[] t, long r) {
+        return t[7 * 256 + (int) (r >>> 56)] ^ t[6 * 256 + ((int) (r >>> 48) & 0xFF)] ^ t[5 * 256 + ((int) (r >>> 40) & 0xFF)] ^ t[4 * 256 + ((int) (r >>> 32) & 0xFF)] ^ t[3 * 256 + ((int) (r >>> 24) & 0xFF)] ^ t[2 * 256 + ((int) (r >>> 16) & 0xFF)]
+            ^ t[256 + ((int) (r >>> 8) & 0xFF)] ^ t[(int) r & 0xFF];
+    }
+
+    private static long sliceReflected(long[] t, long r) {
+        return t[7 * 256 + ((int) r & 0xFF)] ^ t[6 * 256 + ((int) (r >>> 8) & 0xFF)] ^ t[5 * 256 + ((int) (r >>> 16) & 0xFF)] ^ t[4 * 256 + ((int) (r >>> 24) & 0xFF)] ^ t[3 * 256 + ((int) (r >>> 32) & 0xFF)] ^ t[2 * 256 + ((int) (r >>> 40) & 0xFF)]
+            ^ t[256 + ((int) (r >>> 48) & 0xFF)] ^ t[(int) (r >>> 56)];
+    }
+
+    private void buildTables() {
+        for (int b = 0; b < 256; b++) {
+            tables[b] = divide(b);
+        }
+        for (int k = 1; k < 8; k++) {
+            for (int b = 0; b < 256; b++) {
+                long previous = tables[(k - 1) * 256 + b];
+                tables[k * 256 + b] = reflectIn ? (previous >>> 8) ^ tables[(int) previous & 0xFF] : (previous << 8) ^ tables[(int) (previous >>> 56)];
+            }
+        }
+    }
+
+    /**
+     * @return the register after dividing the byte, placed where the register reads input, through 8 bits
+     */
+    private long divide(int b) {
+        long register = reflectIn ? b : (long) b << 56;
+        for (int bit = 0; bit < 8; bit++) {
+            if (reflectIn) {
+                register = (register & 1) != 0 ? (register >>> 1) ^ divisor : register >>> 1;
+            } else {
+                register = register < 0 ? (register << 1) ^ divisor : register << 1;
+            }
+        }
+        return register;
+    }
+
+    /**
+     * @return the lowest {@code width} bits of the value in reverse order
+     */
+    private long reflect(long value) {
+        return Long.reverse(value) >>> (Long.SIZE - width);
+    }
+}
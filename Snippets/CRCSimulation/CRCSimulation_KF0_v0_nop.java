@@ -0,0 +1,202 @@
+package com.thealgorithms.others;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monte-Carlo simulation of {@link CRCAlgorithm} on several threads: estimates how many of the
+ * messages damaged by a channel with a given bit error rate the CRC detects.
+ *
+ * <p>The trials are cut into blocks of {@value #BLOCK_SIZE} messages. Block {@code b} is simulated
+ * by its own {@link CRCAlgorithm} with the {@code b}-th generator split off a
+ * {@link SplittableRandom} created from the seed, so the outcome of every block depends only on
+ * the seed and its index. The threads take the next block from a shared counter and add its
+ * counts to {@link LongAdder}s; since addition does not depend on the order, the result is the
+ * same for every number of threads. All blocks share one {@link CRCEngine} and its tables.</p>
+ *
+ * <p>{@link #main(String[])} runs the same simulation with 1, 2, 4, ... threads, up to the given
+ * maximum, checks that the counts agree, and writes the throughput as CSV to standard output.
+ * The arguments are the number of messages (10,000,000 by default), the maximum number of threads
+ * (the number of processors), the message size in bits (1,000), the bit error rate (0.001) and the
+ * generator P.</p>
+ *
+ * Example usage:
+ * <pre>
+ * CRCSimulation simulation = new CRCSimulation("100000100110000010001110110110111", 1000, 1e-3);
+ * CRCSimulation.Result result = simulation.run(100_000_000, 42, 8);
+ * </pre>
+ */
+public final class CRCSimulation {
+    static final int BLOCK_SIZE = 1 << 14;
+
+    private static final long DEFAULT_TRIALS = 10_000_000;
+    private static final int DEFAULT_MESSAGE_SIZE = 1_000;
+    private static final double DEFAULT_BER = 0.001;
+    // CRC-32 generator x^32 + x^26 + x^23 + x^22 + x^16 + x^12 + x^11 + x^10 + x^8 + x^7 + x^5 + x^4 + x^2 + x + 1
+    private static final String DEFAULT_GENERATOR = "100000100110000010001110110110111";
+    private static final long SEED = 42;
+
+    private final CRCEngine engine;
+    private final int messageSize;
+    private final double ber;
+
+    /**
+     * @param generator the binary number P, in a string form
+     * @param messageSize the number of bits of every message, without the CRC
+     * @param ber the bit error rate of the channel
+     * @throws IllegalArgumentException if the generator, the size or the bit error rate is invalid
+     */
+    public CRCSimulation(String generator, int messageSize, double ber) {
+        if (messageSize < 0) {
+            throw new IllegalArgumentException("Message size must not be negative: " + messageSize);
+        }
+        if (!(ber >= 0 && ber <= 1)) {
+            throw new IllegalArgumentException("Bit error rate must be between 0 and 1: " + ber);
+        }
+        this.engine = CRCEngine.ofGenerator(generator);
+        this.messageSize = messageSize;
+        this.ber = ber;
+    }
+
+    /**
+     * The counters of {@link CRCAlgorithm}, summed over all messages.
+     *
+     * @param correct the messages that arrived unchanged
+     * @param wrong the messages that were changed by the channel
+     * @param caught the changed messages the CRC detected
+     * @param notCaught the changed messages the CRC did not detect
+     */
+    public record Result(long correct, long wrong, long caught, long notCaught) {
+        /**
+         * @return the fraction of the changed messages that the CRC did not detect
+         */
+        public double undetectedRate() {
+            return wrong == 0 ? 0 : (double) notCaught / wrong;
+        }
+    }
+
+    /**
+     * Simulates the transmission of messages.
+     *
+     * @param trials the number of messages
+     * @param seed the seed the messages and the errors are generated from
+     * @param threads the number of threads
+     * @return the counts, which depend on the seed but not on the number of threads
+     * @throws IllegalArgumentException if trials is negative or threads is not positive
+     */
+    public Result run(long trials, long seed, int threads) {
+        if (trials < 0 || threads < 1) {
+            throw new IllegalArgumentException("Cannot run " + trials + " trials on " + threads + " threads");
+        }
+        long blocks = (trials + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        Blocks source = new Blocks(new SplittableRandom(seed), blocks);
+        LongAdder correct = new LongAdder();
+        LongAdder wrong = new LongAdder();
+        LongAdder caught = new LongAdder();
+        LongAdder notCaught = new LongAdder();
+
+        Runnable worker = () -> {
+            for (Block block = source.next(); block != null; block = source.next()) {
+                CRCAlgorithm crc = new CRCAlgorithm(engine, messageSize, ber, block.random());
+                long messages = Math.min(BLOCK_SIZE, trials - block.index() * BLOCK_SIZE);
+                for (long i = 0; i < messages; i++) {
+                    crc.refactor();
+                    crc.generateRandomMess();
+                    crc.divideMessageWithP(false);
+                    crc.changeMess();
+                    crc.divideMessageWithP(true);
+                }
+                correct.add(crc.getCorrectMess());
+                wrong.add(crc.getWrongMess());
+                caught.add(crc.getWrongMessCaught());
+                notCaught.add(crc.getWrongMessNotCaught());
+            }
+        };
+
+        if (threads == 1) {
+            worker.run();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(worker));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while simulating", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Simulation failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return new Result(correct.sum(), wrong.sum(), caught.sum(), notCaught.sum());
+    }
+
+    /**
+     * A block of trials and the generator it is simulated with.
+     */
+    private record Block(long index, SplittableRandom random) {
+    }
+
+    /**
+     * Hands out the blocks in order.
+     */
+    private static final class Blocks {
+        private final SplittableRandom root;
+        private final long count;
+        private long next;
+
+        Blocks(SplittableRandom root, long count) {
+            this.root = root;
+            this.count = count;
+        }
+
+        /**
+         * @return the next block, or null if all blocks have been handed out
+         */
+        synchronized Block next() {
+            if (next == count) {
+                return null;
+            }
+            // splitting in index order under the lock gives every block the same generator for any number of threads
+            return new Block(next++, root.split());
+        }
+    }
+
+    public static void main(String[] args) {
+        long trials = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TRIALS;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int messageSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MESSAGE_SIZE;
+        double ber = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_BER;
+        String generator = args.length > 4 ? args[4] : DEFAULT_GENERATOR;
+
+        CRCSimulation simulation = new CRCSimulation(generator, messageSize, ber);
+        // warm up, so that the first row is compiled like the others
+        simulation.run(Math.min(trials, 1_000_000), SEED, 1);
+        System.out.println("threads,messages,correct,wrong,caught,not_caught,ns_per_message,messages_per_second");
+        Result expected = null;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long start = System.nanoTime();
+            Result result = simulation.run(trials, SEED, threads);
+            long nanos = System.nanoTime() - start;
+            if (expected == null) {
+                expected = result;
+            } else if (!result.equals(expected)) {
+                throw new IllegalStateException(threads + " threads gave " + result + " instead of " + expected);
+            }
+            System.out.println(String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%d,%.1f,%.0f", threads, trials, result.correct(), result.wrong(), result.caught(), result.notCaught(), (double) nanos / trials, trials * 1e9 / nanos));
+        }
+    }
+}
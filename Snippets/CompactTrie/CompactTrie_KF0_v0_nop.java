@@ -0,0 +1,312 @@
+package com.thealgorithms.datastructures.trees;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A memory-compact Trie with the same operations as {@link Trie}.
+ * <p>
+ * Instead of a node object with a {@code HashMap<Character, TrieNode>} per
+ * node, all nodes live in a few parallel primitive arrays and are referred to
+ * by their index. The children of a node form a list sorted by character:
+ * {@code firstChild[node]} is the child with the smallest character and
+ * {@code nextSibling[child]} the child with the next larger one. A node thus
+ * takes 15 bytes and no object, whatever the alphabet.
+ * <p>
+ * Every node also stores the number of words in its subtree, so
+ * {@link #countWords()} takes constant time and
+ * {@link #countWordsWithPrefix(String)} only walks the prefix.
+ * {@link #prefixIterator(String)} enumerates the words with a given prefix in
+ * lexicographic order one at a time, without collecting them in a list, and
+ * skips subtrees whose words were all deleted.
+ * <p>
+ * As in {@link Trie}, deleting a word only unmarks it; its nodes are kept and
+ * reused if the word is inserted again.
+ */
+public class CompactTrie {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private char[] labels;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] wordCounts; // number of words in the subtree of each node
+    private boolean[] end;
+    private int nodeCount;
+
+    private int[] path = new int[INITIAL_CAPACITY]; // nodes visited by the last insert or delete
+
+    /**
+     * Constructor to initialize the Trie with only the root node, which
+     * doesn't represent any character.
+     */
+    public CompactTrie() {
+        labels = new char[INITIAL_CAPACITY];
+        firstChild = new int[INITIAL_CAPACITY];
+        nextSibling = new int[INITIAL_CAPACITY];
+        wordCounts = new int[INITIAL_CAPACITY];
+        end = new boolean[INITIAL_CAPACITY];
+        newNode('*', NONE);
+    }
+
+    /**
+     * Inserts a word into the Trie, adding nodes where necessary.
+     *
+     * @param word The word to be inserted into the Trie.
+     */
+    public void insert(String word) {
+        ensurePathCapacity(word.length() + 1);
+        int node = ROOT;
+        path[0] = node;
+        for (int i = 0; i < word.length(); i++) {
+            node = childOrInsert(node, word.charAt(i));
+            path[i + 1] = node;
+        }
+
+        if (!end[node]) {
+            end[node] = true;
+            for (int i = 0; i <= word.length(); i++) {
+                wordCounts[path[i]]++;
+            }
+        }
+    }
+
+    /**
+     * Searches for a word in the Trie.
+     *
+     * @param word The word to search in the Trie.
+     * @return true if the word exists in the Trie, false otherwise.
+     */
+    public boolean search(String word) {
+        int node = find(word);
+        return node != NONE && end[node];
+    }
+
+    /**
+     * Deletes a word from the Trie by unmarking its last node.
+     *
+     * @param word The word to be deleted from the Trie.
+     * @return true if the word was found and deleted, false if it was not found.
+     */
+    public boolean delete(String word) {
+        ensurePathCapacity(word.length() + 1);
+        int node = ROOT;
+        path[0] = node;
+        for (int i = 0; i < word.length(); i++) {
+            node = child(node, word.charAt(i));
+            if (node == NONE) {
+                return false;
+            }
+            path[i + 1] = node;
+        }
+
+        if (!end[node]) {
+            return false;
+        }
+        end[node] = false;
+        for (int i = 0; i <= word.length(); i++) {
+            wordCounts[path[i]]--;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the number of words in the trie in constant time.
+     *
+     * @return count of words
+     */
+    public int countWords() {
+        return wordCounts[ROOT];
+    }
+
+    /**
+     * Check if the prefix exists in the trie
+     *
+     * @param prefix the prefix to be checked in the Trie
+     * @return true / false depending on the prefix if exists in the Trie
+     */
+    public boolean startsWithPrefix(String prefix) {
+        return find(prefix) != NONE;
+    }
+
+    /**
+     * Count the number of words starting with the given prefix in the trie
+     *
+     * @param prefix the prefix to be checked in the Trie
+     * @return count of words
+     */
+    public int countWordsWithPrefix(String prefix) {
+        int node = find(prefix);
+        return node == NONE ? 0 : wordCounts[node];
+    }
+
+    /**
+     * Returns the words starting with the given prefix in lexicographic order.
+     * Each word is built only when it is returned by {@code next()}. The Trie
+     * must not be modified while the iterator is in use.
+     *
+     * @param prefix the prefix of the words to enumerate
+     * @return an iterator over the words with the prefix
+     */
+    public Iterator<String> prefixIterator(String prefix) {
+        return new PrefixIterator(prefix, find(prefix));
+    }
+
+    /**
+     * Enumerates the words below a node in pre-order. The path from the start
+     * node to the current node is kept in {@code stack}, and the characters of
+     * the current word in {@code buffer}.
+     */
+    private final class PrefixIterator implements Iterator<String> {
+        private final int prefixLength;
+        private char[] buffer;
+        private int[] stack = new int[INITIAL_CAPACITY];
+        private int depth; // index of the current node in stack, or -1 when done
+
+        PrefixIterator(String prefix, int start) {
+            prefixLength = prefix.length();
+            buffer = Arrays.copyOf(prefix.toCharArray(), prefixLength + INITIAL_CAPACITY);
+            if (start == NONE || wordCounts[start] == 0) {
+                depth = NONE;
+                return;
+            }
+            stack[0] = start;
+            if (!end[start]) {
+                advance();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth != NONE;
+        }
+
+        @Override
+        public String next() {
+            if (depth == NONE) {
+                throw new NoSuchElementException();
+            }
+            String word = new String(buffer, 0, prefixLength + depth);
+            advance();
+            return word;
+        }
+
+        /**
+         * Moves to the next node in pre-order that ends a word, or sets depth to -1.
+         */
+        private void advance() {
+            do {
+                int child = firstWithWords(firstChild[stack[depth]]);
+                if (child != NONE) {
+                    push(child);
+                    continue;
+                }
+                while (depth > 0) {
+                    int sibling = firstWithWords(nextSibling[stack[depth]]);
+                    if (sibling != NONE) {
+                        stack[depth] = sibling;
+                        buffer[prefixLength + depth - 1] = labels[sibling];
+                        break;
+                    }
+                    depth--;
+                }
+                if (depth == 0) {
+                    depth = NONE;
+                    return;
+                }
+            } while (!end[stack[depth]]);
+        }
+
+        private void push(int node) {
+            depth++;
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            if (prefixLength + depth > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            stack[depth] = node;
+            buffer[prefixLength + depth - 1] = labels[node];
+        }
+
+        /**
+         * @return the first node in the sibling list starting at node whose subtree has a word, or -1
+         */
+        private int firstWithWords(int node) {
+            while (node != NONE && wordCounts[node] == 0) {
+                node = nextSibling[node];
+            }
+            return node;
+        }
+    }
+
+    /**
+     * @return the node reached by following the characters of word from the root, or -1 if there is none
+     */
+    private int find(String word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node != NONE; i++) {
+            node = child(node, word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Walks the sorted child list of a node, stopping at the first child that is not smaller.
+     *
+     * @return the child with the given character, or -1 if there is none
+     */
+    private int child(int node, char c) {
+        int child = firstChild[node];
+        while (child != NONE && labels[child] < c) {
+            child = nextSibling[child];
+        }
+        return child != NONE && labels[child] == c ? child : NONE;
+    }
+
+    /**
+     * @return the child with the given character, which is created at its sorted position if it does not exist
+     */
+    private int childOrInsert(int node, char c) {
+        int previous = NONE;
+        int child = firstChild[node];
+        while (child != NONE && labels[child] < c) {
+            previous = child;
+            child = nextSibling[child];
+        }
+        if (child != NONE && labels[child] == c) {
+            return child;
+        }
+
+        int created = newNode(c, child);
+        if (previous == NONE) {
+            firstChild[node] = created;
+        } else {
+            nextSibling[previous] = created;
+        }
+        return created;
+    }
+
+    private int newNode(char label, int sibling) {
+        if (nodeCount == labels.length) {
+            int capacity = labels.length + (labels.length >> 1);
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            wordCounts = Arrays.copyOf(wordCounts, capacity);
+            end = Arrays.copyOf(end, capacity);
+        }
+        labels[nodeCount] = label;
+        firstChild[nodeCount] = NONE;
+        nextSibling[nodeCount] = sibling;
+        return nodeCount++;
+    }
+
+    private void ensurePathCapacity(int length) {
+        if (path.length < length) {
+            path = new int[Math.max(length, path.length * 2)];
+        }
+    }
+}
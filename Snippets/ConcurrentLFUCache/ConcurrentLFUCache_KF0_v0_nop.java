@@ -0,0 +1,314 @@
+package com.thealgorithms.datastructures.caches;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code ConcurrentLFUCache} class implements a thread-safe Least Frequently Used (LFU) cache
+ * with the same {@code get}/{@code put} API as {@link LFUCache}.
+ *
+ * <p>The keys are spread over a fixed number of independent segments, each guarded by its own lock
+ * and holding an equal share of the capacity. The nodes of a segment are found through a
+ * {@link ConcurrentHashMap}, so a read never takes a lock to find its value. As in {@link LFUCache},
+ * every frequency keeps its own list of nodes, so counting an access only relinks a node. Instead
+ * of counting every read at once, the segment records the nodes read in a bounded ring buffer
+ * shared by all threads. Once {@value #READ_BATCH_SIZE} reads are pending, the reader that notices
+ * drains them in one batch if the segment lock is free; otherwise it leaves them to the thread
+ * holding the lock. Writes drain the buffer too, so a reader never waits for the lock.</p>
+ *
+ * <p>Because reads are applied in batches, eviction decisions are based on frequencies that may lag
+ * behind the most recent reads by at most {@value #READ_BUFFER_SIZE} reads per segment. When the
+ * buffer is full, or another reader claims the same slot at the same moment, the read is not counted:
+ * the frequencies are an approximation under contention, as in most concurrent LFU caches. The
+ * buffer holds at most {@value #READ_BUFFER_SIZE} nodes per segment, whatever the number of threads.</p>
+ *
+ * <p>
+ * Reference: <a href="https://en.wikipedia.org/wiki/Least_frequently_used">LFU Cache - Wikipedia</a>
+ * </p>
+ *
+ * @param <K> The type of keys maintained by this cache.
+ * @param <V> The type of mapped values.
+ */
+public class ConcurrentLFUCache<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 100;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BATCH_SIZE = 32;
+
+    /**
+     * The {@code Node} class holds a key, its value and its place among the keys of its frequency.
+     * The value may be read without the segment lock; all other fields are guarded by it.
+     *
+     * @param <K> The type of the key.
+     * @param <V> The type of the value.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private int frequency = 1;
+        private boolean evicted;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The {@code FrequencyBucket} class holds the nodes of one frequency, least recently used first.
+     *
+     * @param <K> The type of the keys.
+     * @param <V> The type of the values.
+     */
+    private static final class FrequencyBucket<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+    }
+
+    /**
+     * The {@code Segment} class is a single-threaded LFU cache over a share of the keys, organized
+     * like {@link LFUCache}. All frequency bookkeeping happens while holding {@link #lock}; only
+     * {@link #nodes}, the values of the nodes and the read buffer may be used without it.
+     *
+     * @param <K> The type of keys maintained by this segment.
+     * @param <V> The type of mapped values.
+     */
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+        private final Map<Integer, FrequencyBucket<K, V>> buckets = new HashMap<>();
+        // reads not yet counted: slot (index % READ_BUFFER_SIZE) for every index in [readIndex, writeIndex)
+        private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeIndex = new AtomicLong();
+        // only advanced while holding the lock
+        private volatile long readIndex;
+        private final int capacity;
+        private int size;
+        private int minFrequency;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Looks up the value without locking and buffers the access for a later frequency update.
+         */
+        V get(K key) {
+            Node<K, V> node = nodes.get(key);
+            if (node == null) {
+                return null;
+            }
+            long index = writeIndex.get();
+            long pending = index - readIndex;
+            if (pending < READ_BUFFER_SIZE && writeIndex.compareAndSet(index, index + 1)) {
+                readBuffer.lazySet((int) (index % READ_BUFFER_SIZE), node);
+                pending++;
+            }
+            if (pending >= READ_BATCH_SIZE && lock.tryLock()) {
+                try {
+                    drain();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return node.value;
+        }
+
+        /**
+         * Inserts or updates a key under the segment lock, evicting the least frequently used key if needed.
+         */
+        void put(K key, V value) {
+            Objects.requireNonNull(value);
+            lock.lock();
+            try {
+                drain();
+                Node<K, V> node = nodes.get(key);
+                if (node != null) {
+                    node.value = value;
+                    increment(node);
+                } else {
+                    if (size >= capacity) {
+                        evict();
+                    }
+                    node = new Node<>(key, value);
+                    append(node);
+                    minFrequency = 1;
+                    nodes.put(key, node);
+                    size++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Applies the buffered reads. Nodes evicted in the meantime are skipped, and a slot that a
+         * reader has claimed but not yet filled ends the batch. Must be called while holding the segment lock.
+         */
+        private void drain() {
+            long index = readIndex;
+            long end = writeIndex.get();
+            for (; index < end; index++) {
+                int slot = (int) (index % READ_BUFFER_SIZE);
+                Node<K, V> node = readBuffer.get(slot);
+                if (node == null) {
+                    break;
+                }
+                readBuffer.lazySet(slot, null);
+                if (!node.evicted) {
+                    increment(node);
+                }
+            }
+            readIndex = index;
+        }
+
+        /**
+         * Moves a node from the bucket of its frequency to the next one.
+         */
+        private void increment(Node<K, V> node) {
+            unlink(node);
+            node.frequency++;
+            append(node);
+        }
+
+        /**
+         * Removes the least recently used node among those with the minimum frequency.
+         */
+        private void evict() {
+            Node<K, V> evicted = buckets.get(minFrequency).head;
+            unlink(evicted);
+            evicted.evicted = true;
+            nodes.remove(evicted.key);
+            size--;
+        }
+
+        /**
+         * Appends a node to the tail of the bucket that matches its frequency.
+         */
+        private void append(Node<K, V> node) {
+            FrequencyBucket<K, V> bucket = buckets.computeIfAbsent(node.frequency, frequency -> new FrequencyBucket<>());
+            node.next = null;
+            node.previous = bucket.tail;
+            if (bucket.tail != null) {
+                bucket.tail.next = node;
+            } else {
+                bucket.head = node;
+            }
+            bucket.tail = node;
+        }
+
+        /**
+         * Removes a node from its bucket, discarding the bucket and advancing the minimum frequency if it became empty.
+         */
+        private void unlink(Node<K, V> node) {
+            FrequencyBucket<K, V> bucket = buckets.get(node.frequency);
+            if (node.previous != null) {
+                node.previous.next = node.next;
+            } else {
+                bucket.head = node.next;
+            }
+            if (node.next != null) {
+                node.next.previous = node.previous;
+            } else {
+                bucket.tail = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            if (bucket.head == null) {
+                buckets.remove(node.frequency);
+                if (minFrequency == node.frequency) {
+                    minFrequency++;
+                }
+            }
+        }
+    }
+
+    private final Segment<K, V>[] segments;
+
+    /**
+     * Constructs a concurrent LFU cache with the default capacity and concurrency level.
+     */
+    public ConcurrentLFUCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a concurrent LFU cache with the specified capacity and the default concurrency level.
+     *
+     * @param capacity The maximum number of items that the cache can hold.
+     * @throws IllegalArgumentException if the specified capacity is less than or equal to zero.
+     */
+    public ConcurrentLFUCache(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a concurrent LFU cache with the specified capacity and number of segments.
+     * The capacity is split evenly over the segments, so eviction is least frequently used per segment.
+     *
+     * @param capacity The maximum number of items that the cache can hold.
+     * @param concurrencyLevel The number of independently locked segments.
+     * @throws IllegalArgumentException if the capacity or the concurrency level is less than or equal to zero.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLFUCache(int capacity, int concurrencyLevel) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be greater than zero.");
+        }
+        int segmentCount = Math.min(concurrencyLevel, capacity);
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int share = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(share);
+        }
+    }
+
+    /**
+     * Retrieves the value associated with the given key from the cache.
+     * The access is counted towards the key's frequency once the segment's read buffer is drained.
+     *
+     * @param key The key whose associated value is to be returned.
+     * @return The value associated with the key, or {@code null} if the key is not present in the cache.
+     */
+    public V get(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Inserts or updates a key-value pair in the cache.
+     * If the key already exists, the value is updated and its frequency is incremented.
+     * If the key's segment is full, its least frequently used item is removed before inserting the new item.
+     *
+     * @param key The key associated with the value to be inserted or updated.
+     * @param value The value to be inserted or updated.
+     * @throws NullPointerException if the key or the value is {@code null}.
+     */
+    public void put(K key, V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * Returns the segment responsible for the given key.
+     * The hash code is mixed by a multiplication and the segment is taken from the high bits of the
+     * product, which depend on all bits of the hash code. The maps inside a segment index by the low
+     * bits, so keys of one segment must not share them, or they would collide in those maps.
+     *
+     * @param key The key to locate.
+     * @return The segment that stores the key.
+     */
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return segments[(int) ((Integer.toUnsignedLong(hash) * segments.length) >>> 32)];
+    }
+}
@@ -0,0 +1,155 @@
+package com.thealgorithms.datastructures.caches;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the throughput of {@link ConcurrentLFUCache} with 1, 2, 4, ... 64 threads, against an
+ * {@link LFUCache} behind a single lock.
+ *
+ * <p>Every thread runs the same number of operations, 90% {@code get} and 10% {@code put}, on keys
+ * drawn from twice the capacity and skewed towards small keys. The keys of every thread are
+ * generated from a fixed seed before the timed part. Every configuration is run twice and the
+ * second run is reported, so that it is compiled. The results are written as CSV to standard
+ * output.</p>
+ *
+ * <p>The arguments are the capacity (100,000 by default), the operations per thread (200,000)
+ * and the maximum number of threads (64).</p>
+ */
+public final class ConcurrentLFUCacheBenchmark {
+    private static final int DEFAULT_CAPACITY = 100_000;
+    private static final int DEFAULT_OPERATIONS = 200_000;
+    private static final int DEFAULT_MAX_THREADS = 64;
+    private static final int PUT_PERCENT = 10;
+    private static final long SEED = 42;
+
+    private ConcurrentLFUCacheBenchmark() {
+    }
+
+    /**
+     * The operations a thread needs from a cache.
+     */
+    private interface Cache {
+        Integer get(Integer key);
+
+        void put(Integer key, Integer value);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int capacity = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CAPACITY;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_THREADS;
+
+        System.out.println("implementation,threads,capacity,operations,ns_per_operation,million_operations_per_second,hit_rate");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            int[][] keys = createKeys(threads, capacity, operations);
+            run("ConcurrentLFUCache", keys, capacity, c -> {
+                ConcurrentLFUCache<Integer, Integer> cache = new ConcurrentLFUCache<>(c);
+                return new Cache() {
+                    @Override
+                    public Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            });
+            run("synchronized LFUCache", keys, capacity, c -> {
+                LFUCache<Integer, Integer> cache = new LFUCache<>(c);
+                return new Cache() {
+                    @Override
+                    public synchronized Integer get(Integer key) {
+                        return cache.get(key);
+                    }
+
+                    @Override
+                    public synchronized void put(Integer key, Integer value) {
+                        cache.put(key, value);
+                    }
+                };
+            });
+        }
+    }
+
+    private static void run(String name, int[][] keys, int capacity, IntFunction<Cache> factory) throws Exception {
+        int threadCount = keys.length;
+        int operations = keys[0].length;
+        for (int round = 0; round < 2; round++) {
+            Cache cache = factory.apply(capacity);
+            for (int key = 0; key < capacity; key++) {
+                cache.put(key, key);
+            }
+            long[] hits = new long[threadCount];
+            CyclicBarrier barrier = new CyclicBarrier(threadCount + 1);
+            Thread[] threads = new Thread[threadCount];
+            for (int t = 0; t < threadCount; t++) {
+                int self = t;
+                threads[t] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        hits[self] = runThread(keys[self], cache);
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                threads[t].start();
+            }
+            barrier.await();
+            long start = System.nanoTime();
+            barrier.await();
+            long nanos = System.nanoTime() - start;
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (round == 1) {
+                long total = (long) threadCount * operations;
+                long hitCount = 0;
+                for (long h : hits) {
+                    hitCount += h;
+                }
+                System.out.println(String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.3f", name, threadCount, capacity, operations, (double) nanos / total, total * 1e3 / nanos, (double) hitCount / total));
+            }
+        }
+    }
+
+    /**
+     * Runs the operations of one thread: a negative key is a put of its complement, any other key a get.
+     *
+     * @return the number of gets that found their key
+     */
+    private static long runThread(int[] keys, Cache cache) {
+        long hits = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            if (key < 0) {
+                cache.put(~key, i);
+            } else if (cache.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * @return for every thread, keys in [0, 2 * capacity), squared towards 0; puts are stored as complements
+     */
+    private static int[][] createKeys(int threads, int capacity, int operations) {
+        SplittableRandom seeds = new SplittableRandom(SEED);
+        int[][] keys = new int[threads][operations];
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = seeds.split();
+            for (int i = 0; i < operations; i++) {
+                double u = random.nextDouble();
+                int key = (int) (2.0 * capacity * u * u);
+                keys[t][i] = random.nextInt(100) < PUT_PERCENT ? ~key : key;
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,152 @@
+package com.thealgorithms.datastructures.caches;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Stress test for {@link ConcurrentLFUCache}: several threads read and write a small set of keys,
+ * much larger than the capacity, and every value read is checked against what a linearizable
+ * cache could have returned.
+ *
+ * <p>Every value written is a {@link Stamp} of its key, its writer and the writer's sequence number,
+ * which increases with every write. The checks are:</p>
+ * <ul>
+ *   <li>a value read belongs to the key it was read for, and was written before it was read;</li>
+ *   <li>a thread never reads a value of a writer that is older than a value of the same writer it
+ *   read or wrote for that key before, since the writes of one thread take effect in order;</li>
+ *   <li>after all threads are done, every value still present is the last value its writer wrote
+ *   for that key, and no more keys are present than the capacity.</li>
+ * </ul>
+ *
+ * <p>The arguments are the number of threads (8 by default), the operations per thread
+ * (1,000,000), the capacity (1,024) and the number of keys (4,096). The writes are generated from a
+ * fixed seed, but their interleaving depends on the scheduler. The test throws an
+ * {@link IllegalStateException} on the first violation and prints a summary otherwise.</p>
+ */
+public final class ConcurrentLFUCacheStressTest {
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_OPERATIONS = 1_000_000;
+    private static final int DEFAULT_CAPACITY = 1_024;
+    private static final int DEFAULT_KEYS = 4_096;
+    private static final int PUT_PERCENT = 20;
+    private static final long SEED = 42;
+
+    private ConcurrentLFUCacheStressTest() {
+    }
+
+    /**
+     * A value written by a thread.
+     *
+     * @param key the key the value was written for
+     * @param writer the index of the thread that wrote it
+     * @param sequence the number of writes of that thread before this one
+     */
+    private record Stamp(int key, int writer, int sequence) {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threadCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        int capacity = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CAPACITY;
+        int keyCount = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_KEYS;
+
+        ConcurrentLFUCache<Integer, Stamp> cache = new ConcurrentLFUCache<>(capacity);
+        // lastWritten[writer][key]: sequence of the last write, or -1; read by the main thread after join
+        int[][] lastWritten = new int[threadCount][keyCount];
+        // started[writer]: sequence of the newest write the writer has begun, published before the put
+        AtomicIntegerArray started = new AtomicIntegerArray(threadCount);
+        long[] hits = new long[threadCount];
+        List<Throwable> failures = new ArrayList<>();
+        CyclicBarrier start = new CyclicBarrier(threadCount);
+        SplittableRandom seeds = new SplittableRandom(SEED);
+
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int self = t;
+            SplittableRandom random = seeds.split();
+            threads[t] = new Thread(() -> {
+                int[] written = lastWritten[self];
+                Arrays.fill(written, -1);
+                // seen[writer * keyCount + key]: newest sequence of that writer this thread observed for the key
+                int[] seen = new int[threadCount * keyCount];
+                Arrays.fill(seen, -1);
+                int sequence = 0;
+                try {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        // square the key towards 0, so that some keys are much more frequent than others
+                        double u = random.nextDouble();
+                        int key = (int) (keyCount * u * u);
+                        if (random.nextInt(100) < PUT_PERCENT) {
+                            started.set(self, sequence);
+                            cache.put(key, new Stamp(key, self, sequence));
+                            written[key] = sequence;
+                            seen[self * keyCount + key] = sequence;
+                            sequence++;
+                        } else {
+                            Stamp stamp = cache.get(key);
+                            if (stamp != null) {
+                                check(stamp, key, seen, keyCount, started.get(stamp.writer()));
+                                hits[self]++;
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (!failures.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException(failures.size() + " threads failed");
+            failures.forEach(failure::addSuppressed);
+            throw failure;
+        }
+
+        int present = 0;
+        for (int key = 0; key < keyCount; key++) {
+            Stamp stamp = cache.get(key);
+            if (stamp == null) {
+                continue;
+            }
+            present++;
+            if (stamp.key() != key || lastWritten[stamp.writer()][key] != stamp.sequence()) {
+                throw new IllegalStateException("Key " + key + " holds " + stamp + ", which was overwritten by its writer");
+            }
+        }
+        if (present > capacity) {
+            throw new IllegalStateException(present + " keys present in a cache of capacity " + capacity);
+        }
+        long totalHits = 0;
+        for (long h : hits) {
+            totalHits += h;
+        }
+        System.out.println("OK: " + threadCount + " threads, " + operations + " operations each, " + totalHits + " hits, " + present + " of " + capacity + " entries present");
+    }
+
+    /**
+     * @param newestPossible the newest sequence the writer of the stamp has begun to write
+     */
+    private static void check(Stamp stamp, int key, int[] seen, int keyCount, int newestPossible) {
+        if (stamp.key() != key) {
+            throw new IllegalStateException("Read " + stamp + " for key " + key);
+        }
+        if (stamp.sequence() > newestPossible) {
+            throw new IllegalStateException("Read " + stamp + " before it was written");
+        }
+        int index = stamp.writer() * keyCount + key;
+        if (stamp.sequence() < seen[index]) {
+            throw new IllegalStateException("Read " + stamp + " after sequence " + seen[index] + " of the same writer");
+        }
+        seen[index] = stamp.sequence();
+    }
+}
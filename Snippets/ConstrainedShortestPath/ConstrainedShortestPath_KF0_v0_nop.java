@@ -1,5 +1,6 @@
 package com.thealgorithms.graph;
 
+import com.thealgorithms.datastructures.heaps.IndexedMinHeap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -120,4 +121,51 @@ public class ConstrainedShortestPath {
 
         return minCost == Integer.MAX_VALUE ? -1 : minCost;
     }
+
+    /**
+     * Solves the CSP like {@link #solve(int, int)}, but runs Dijkstra's algorithm over the
+     * states (resource used, node) instead of filling the whole dp table. The states are kept
+     * in an {@link IndexedMinHeap} ordered by cost, so the search stops as soon as the target
+     * node is settled and states that are never reached are never visited.
+     * All edge costs must be non-negative.
+     *
+     * @param start  the starting node
+     * @param target the target node
+     * @return the minimum cost to reach the target node within the resource constraint,
+     *         or -1 if no valid path exists
+     */
+    public int solveLabelSetting(int start, int target) {
+        int numNodes = graph.getNumNodes();
+        int[] costs = new int[(maxResource + 1) * numNodes]; // state r * numNodes + u
+        boolean[] settled = new boolean[costs.length];
+        IndexedMinHeap frontier = new IndexedMinHeap(costs.length);
+
+        Arrays.fill(costs, Integer.MAX_VALUE);
+        costs[start] = 0;
+        frontier.insert(start, 0);
+
+        while (!frontier.isEmpty()) {
+            int state = frontier.poll();
+            settled[state] = true;
+            int r = state / numNodes;
+            int u = state % numNodes;
+            if (u == target) {
+                return costs[state];
+            }
+            for (Graph.Edge edge : graph.getEdges(u)) {
+                int nextResource = r + edge.resource();
+                if (nextResource > maxResource) {
+                    continue;
+                }
+                int next = nextResource * numNodes + edge.to();
+                int cost = costs[state] + edge.cost();
+                if (!settled[next] && cost < costs[next]) {
+                    costs[next] = cost;
+                    frontier.insertOrDecrease(next, cost);
+                }
+            }
+        }
+
+        return -1;
+    }
 }
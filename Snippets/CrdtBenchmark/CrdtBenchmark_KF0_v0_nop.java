@@ -0,0 +1,110 @@
+package com.thealgorithms.datastructures.crdt;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Compares full-state and delta-state replication of {@link PNCounter}s: merge throughput,
+ * and the bytes sent over an in-process loopback transport that passes the encoded messages
+ * from one replica to the next.
+ *
+ * <p>The replicas form a ring. In every round, each replica sends one message to its successor,
+ * which decodes and merges it: either its full state or the delta collected since its last
+ * message. During the first rounds, a random tenth of the replicas increment or decrement their
+ * counter a few times before the messages are sent; afterwards, rounds are repeated until every
+ * replica shows the expected value, which both kinds of messages need the same number of rounds for.</p>
+ *
+ * <p>The arguments are the number of replicas (1,000 by default) and the number of rounds with
+ * updates (10 by default). The updates are generated from a fixed seed. The results are written
+ * as CSV to standard output.</p>
+ */
+public final class CrdtBenchmark {
+    private static final int DEFAULT_REPLICAS = 1_000;
+    private static final int DEFAULT_UPDATE_ROUNDS = 10;
+    private static final int MAX_UPDATES = 3;
+    private static final long SEED = 42;
+
+    private CrdtBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int replicas = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_REPLICAS;
+        int updateRounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_UPDATE_ROUNDS;
+
+        System.out.println("mode,replicas,rounds,messages,bytes_per_message,total_bytes,ns_per_merge");
+        // run both modes twice and report the second run, so that both are compiled
+        for (int round = 0; round < 2; round++) {
+            Result full = replicate(replicas, updateRounds, PNCounter::state);
+            Result delta = replicate(replicas, updateRounds, PNCounter::takeDelta);
+            if (round == 1) {
+                System.out.println(full.line("full-state", replicas));
+                System.out.println(delta.line("delta-state", replicas));
+            }
+        }
+    }
+
+    /**
+     * The work done to bring all replicas to the same value.
+     */
+    private record Result(int rounds, long messages, long bytes, long nanos) {
+        String line(String mode, int replicas) {
+            return String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%d,%.1f", mode, replicas, rounds, messages, (double) bytes / messages, bytes, (double) nanos / messages);
+        }
+    }
+
+    /**
+     * Runs the ring until all replicas converge.
+     *
+     * @param message the part of the state a replica sends to its successor
+     */
+    private static Result replicate(int replicas, int updateRounds, Function<PNCounter, PNCounter.Delta> message) {
+        PNCounter[] counters = new PNCounter[replicas];
+        for (int i = 0; i < replicas; i++) {
+            counters[i] = new PNCounter(i, replicas);
+        }
+        Random random = new Random(SEED);
+        long expected = 0;
+        long messages = 0;
+        long bytes = 0;
+        long nanos = 0;
+
+        int rounds = 0;
+        while (rounds < updateRounds || !converged(counters, expected)) {
+            if (rounds < updateRounds) {
+                for (int update = 0; update < replicas / 10; update++) {
+                    PNCounter counter = counters[random.nextInt(replicas)];
+                    for (int times = 1 + random.nextInt(MAX_UPDATES); times > 0; times--) {
+                        if (random.nextBoolean()) {
+                            counter.increment();
+                            expected++;
+                        } else {
+                            counter.decrement();
+                            expected--;
+                        }
+                    }
+                }
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < replicas; i++) {
+                byte[] encoded = message.apply(counters[i]).encode();
+                counters[(i + 1) % replicas].merge(PNCounter.Delta.decode(encoded));
+                bytes += encoded.length;
+            }
+            nanos += System.nanoTime() - start;
+            messages += replicas;
+            rounds++;
+        }
+        return new Result(rounds, messages, bytes, nanos);
+    }
+
+    private static boolean converged(PNCounter[] counters, long expected) {
+        for (PNCounter counter : counters) {
+            if (counter.value() != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
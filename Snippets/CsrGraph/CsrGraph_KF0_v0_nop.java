@@ -0,0 +1,319 @@
+package com.thealgorithms.datastructures.graphs;
+
+import java.util.Arrays;
+
+/**
+ * An immutable directed graph in compressed sparse row (CSR) form.
+ *
+ * <p>The vertices are {@code 0 .. vertexCount - 1} and the edges are numbered
+ * {@code 0 .. edgeCount - 1}, grouped by their source vertex. The outgoing edges of vertex
+ * {@code v} are the edges {@code firstEdge(v) .. endEdge(v) - 1}; edge {@code e} goes to
+ * {@code target(e)} and has weight {@code weight(e)} or {@code doubleWeight(e)}.
+ * The whole graph is stored in a few primitive arrays, so it needs O(V + E) memory instead of
+ * the O(V^2) of an adjacency matrix, and visiting the neighbours of a vertex reads one
+ * contiguous range of an array instead of scanning a whole matrix row.</p>
+ *
+ * <p>A graph is created with a {@link Builder}, or converted from an adjacency matrix with
+ * {@link #fromAdjacencyMatrix(int[][])}. An undirected graph stores every edge in both
+ * directions.</p>
+ *
+ * Example usage:
+ * <pre>
+ * CsrGraph graph = new CsrGraph.Builder(3).addEdge(0, 1, 4).addUndirectedEdge(1, 2, 7).build();
+ * for (int e = graph.firstEdge(1); e &lt; graph.endEdge(1); e++) {
+ *     System.out.println(graph.target(e) + " " + graph.weight(e)); // Prints "2 7"
+ * }
+ * </pre>
+ *
+ * Reference: <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)">Compressed sparse row</a>
+ */
+public final class CsrGraph {
+
+    /** The edges of vertex v are offsets[v] .. offsets[v + 1] - 1 */
+    private final int[] offsets;
+    private final int[] targets;
+
+    /** The integer weight of each edge, or null if the graph has double weights */
+    private final int[] weights;
+
+    /** The double weight of each edge, or null if the graph has integer weights */
+    private final double[] doubleWeights;
+
+    private CsrGraph(int[] offsets, int[] targets, int[] weights, double[] doubleWeights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.doubleWeights = doubleWeights;
+    }
+
+    /**
+     * @return the number of vertices
+     */
+    public int vertexCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return the number of directed edges
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @param vertex a vertex of the graph
+     * @return the number of edges leaving the vertex
+     */
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @param vertex a vertex of the graph
+     * @return the first edge leaving the vertex
+     */
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @param vertex a vertex of the graph
+     * @return the edge after the last edge leaving the vertex
+     */
+    public int endEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * @param edge an edge of the graph
+     * @return the vertex the edge goes to
+     */
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @return true if the edges have {@code double} weights instead of {@code int} weights
+     */
+    public boolean hasDoubleWeights() {
+        return doubleWeights != null;
+    }
+
+    /**
+     * @param edge an edge of the graph
+     * @return the integer weight of the edge
+     * @throws IllegalStateException if the graph has double weights
+     */
+    public int weight(int edge) {
+        if (weights == null) {
+            throw new IllegalStateException("Graph has double weights");
+        }
+        return weights[edge];
+    }
+
+    /**
+     * @param edge an edge of the graph
+     * @return the weight of the edge as a double, for graphs with integer or double weights
+     */
+    public double doubleWeight(int edge) {
+        return doubleWeights != null ? doubleWeights[edge] : weights[edge];
+    }
+
+    /**
+     * Converts an adjacency matrix into a graph. As in the matrix based algorithms of this package,
+     * {@code matrix[i][j]} is the weight of the edge from {@code i} to {@code j}, and 0 means that
+     * there is no edge.
+     *
+     * @param matrix a square adjacency matrix
+     * @return the graph with an edge for every non-zero entry
+     * @throws IllegalArgumentException if the matrix is not square
+     */
+    public static CsrGraph fromAdjacencyMatrix(int[][] matrix) {
+        int vertexCount = matrix.length;
+        int edgeCount = 0;
+        for (int[] row : matrix) {
+            if (row.length != vertexCount) {
+                throw new IllegalArgumentException("Adjacency matrix must be square");
+            }
+            for (int weight : row) {
+                if (weight != 0) {
+                    edgeCount++;
+                }
+            }
+        }
+
+        int[] offsets = new int[vertexCount + 1];
+        int[] targets = new int[edgeCount];
+        int[] weights = new int[edgeCount];
+        int edge = 0;
+        for (int from = 0; from < vertexCount; from++) {
+            for (int to = 0; to < vertexCount; to++) {
+                if (matrix[from][to] != 0) {
+                    targets[edge] = to;
+                    weights[edge] = matrix[from][to];
+                    edge++;
+                }
+            }
+            offsets[from + 1] = edge;
+        }
+        return new CsrGraph(offsets, targets, weights, null);
+    }
+
+    /**
+     * Collects the edges of a graph and builds a {@link CsrGraph} from them.
+     * The edges can be added in any order; the edges of each vertex keep the order in which they were added.
+     *
+     * <p>Edges added without a weight have weight 1. As long as only integer weights are added the
+     * graph has integer weights; once a double weight is added, all weights are stored as doubles.</p>
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int vertexCount;
+        private int[] sources;
+        private int[] targets;
+        private int[] weights;
+        private double[] doubleWeights; // created when the first double weight is added
+        private int edgeCount;
+
+        /**
+         * @param vertexCount the number of vertices of the graph
+         * @throws IllegalArgumentException if the number of vertices is negative
+         */
+        public Builder(int vertexCount) {
+            this(vertexCount, INITIAL_CAPACITY);
+        }
+
+        /**
+         * @param vertexCount the number of vertices of the graph
+         * @param expectedEdges the number of edges to reserve space for
+         * @throws IllegalArgumentException if the number of vertices or edges is negative
+         */
+        public Builder(int vertexCount, int expectedEdges) {
+            if (vertexCount < 0 || expectedEdges < 0) {
+                throw new IllegalArgumentException("Number of vertices and edges cannot be negative");
+            }
+            this.vertexCount = vertexCount;
+            sources = new int[expectedEdges];
+            targets = new int[expectedEdges];
+            weights = new int[expectedEdges];
+        }
+
+        /**
+         * Adds a directed edge with weight 1.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is out of range
+         */
+        public Builder addEdge(int from, int to) {
+            return addEdge(from, to, 1);
+        }
+
+        /**
+         * Adds a directed edge with an integer weight.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is out of range
+         */
+        public Builder addEdge(int from, int to, int weight) {
+            int edge = append(from, to);
+            weights[edge] = weight;
+            if (doubleWeights != null) {
+                doubleWeights[edge] = weight;
+            }
+            return this;
+        }
+
+        /**
+         * Adds a directed edge with a double weight. From now on all weights of the graph are stored as doubles.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is out of range
+         */
+        public Builder addEdge(int from, int to, double weight) {
+            int edge = append(from, to);
+            if (doubleWeights == null) {
+                doubleWeights = new double[sources.length];
+                for (int i = 0; i < edge; i++) {
+                    doubleWeights[i] = weights[i];
+                }
+            }
+            doubleWeights[edge] = weight;
+            return this;
+        }
+
+        /**
+         * Adds an edge with an integer weight in both directions.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is out of range
+         */
+        public Builder addUndirectedEdge(int u, int v, int weight) {
+            return addEdge(u, v, weight).addEdge(v, u, weight);
+        }
+
+        /**
+         * Adds an edge with a double weight in both directions.
+         *
+         * @return this builder
+         * @throws IllegalArgumentException if a vertex is out of range
+         */
+        public Builder addUndirectedEdge(int u, int v, double weight) {
+            return addEdge(u, v, weight).addEdge(v, u, weight);
+        }
+
+        /**
+         * Sorts the edges by source vertex with a stable counting sort and creates the graph.
+         * The builder can still be used afterwards.
+         *
+         * @return the graph with all edges added so far
+         */
+        public CsrGraph build() {
+            int[] offsets = new int[vertexCount + 1];
+            for (int i = 0; i < edgeCount; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            int[] next = Arrays.copyOf(offsets, vertexCount);
+            int[] sortedTargets = new int[edgeCount];
+            int[] sortedWeights = doubleWeights == null ? new int[edgeCount] : null;
+            double[] sortedDoubleWeights = doubleWeights != null ? new double[edgeCount] : null;
+            for (int i = 0; i < edgeCount; i++) {
+                int edge = next[sources[i]]++;
+                sortedTargets[edge] = targets[i];
+                if (sortedWeights != null) {
+                    sortedWeights[edge] = weights[i];
+                } else {
+                    sortedDoubleWeights[edge] = doubleWeights[i];
+                }
+            }
+            return new CsrGraph(offsets, sortedTargets, sortedWeights, sortedDoubleWeights);
+        }
+
+        /**
+         * Appends the endpoints of a new edge, growing the arrays if needed.
+         *
+         * @return the index of the new edge
+         */
+        private int append(int from, int to) {
+            if (from < 0 || from >= vertexCount || to < 0 || to >= vertexCount) {
+                throw new IllegalArgumentException("Edge (" + from + ", " + to + ") is out of range");
+            }
+            if (edgeCount == sources.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, sources.length + (sources.length >> 1));
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                if (doubleWeights != null) {
+                    doubleWeights = Arrays.copyOf(doubleWeights, capacity);
+                }
+            }
+            sources[edgeCount] = from;
+            targets[edgeCount] = to;
+            return edgeCount++;
+        }
+    }
+}
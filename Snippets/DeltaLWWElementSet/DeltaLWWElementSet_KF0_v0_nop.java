@@ -0,0 +1,293 @@
+package com.thealgorithms.datastructures.crdt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Last-Write-Wins Element Set replica that synchronizes incrementally with version vectors
+ * and collects its tombstones once they are causally stable.
+ *
+ * <p>Every element has a single entry holding its last write: an add or a removal (a tombstone),
+ * stamped with a {@link HybridLogicalClock} timestamp and the id of the replica that made the
+ * write. Writes are ordered by timestamp and then by replica id, and the later write wins.</p>
+ *
+ * <p>Since the timestamps of the writes of one replica are strictly increasing, the writes a
+ * replica knows of from an origin form a prefix of that origin's history, which a version vector
+ * describes by the largest timestamp per origin. The entries are indexed by origin and timestamp,
+ * so {@link #deltaSince(int, long[])} finds the entries a peer is missing in O(log n) per origin
+ * plus the number of entries returned, instead of walking the whole set.</p>
+ *
+ * <p>A tombstone is needed until every replica has seen it: afterwards no replica can still hold,
+ * or send, an older write of the element. Every replica remembers the latest version vector it
+ * received from every peer; once all of them cover a tombstone, {@link #collectGarbage()} drops it.
+ * These vectors take O(r²) space for r replicas.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * DeltaLWWElementSet&lt;String&gt; a = new DeltaLWWElementSet&lt;&gt;(0, 2, new HybridLogicalClock());
+ * DeltaLWWElementSet&lt;String&gt; b = new DeltaLWWElementSet&lt;&gt;(1, 2, new HybridLogicalClock());
+ * a.add("x");
+ * b.merge(a.deltaSince(1, b.versionVector())); // b now contains "x"
+ * </pre>
+ *
+ * @param <E> The type of the elements.
+ */
+class DeltaLWWElementSet<E> {
+
+    /**
+     * The last write of an element.
+     */
+    private static final class Entry {
+        long timestamp;
+        int origin;
+        boolean removed;
+
+        Entry(long timestamp, int origin, boolean removed) {
+            this.timestamp = timestamp;
+            this.origin = origin;
+            this.removed = removed;
+        }
+    }
+
+    private final int replicaId;
+    private final HybridLogicalClock clock;
+    private final Map<E, Entry> entries = new HashMap<>();
+    // entries and tombstones by origin, then timestamp; the timestamps of one origin are unique
+    private final NavigableMap<Long, E>[] byOrigin;
+    private final NavigableMap<Long, E>[] tombstonesByOrigin;
+    // latest version vector known of every replica; the row of this replica is its own vector
+    private final long[][] knownVectors;
+    private int size;
+
+    /**
+     * Constructs an empty replica.
+     *
+     * @param replicaId    The id of this replica, from 0 to replicaCount - 1.
+     * @param replicaCount The number of replicas.
+     * @param clock        The clock that stamps the writes of this replica.
+     */
+    @SuppressWarnings("unchecked")
+    DeltaLWWElementSet(int replicaId, int replicaCount, HybridLogicalClock clock) {
+        if (replicaId < 0 || replicaId >= replicaCount) {
+            throw new IllegalArgumentException("Replica id " + replicaId + " is outside of " + replicaCount + " replicas");
+        }
+        this.replicaId = replicaId;
+        this.clock = clock;
+        this.byOrigin = (NavigableMap<Long, E>[]) new NavigableMap<?, ?>[replicaCount];
+        this.tombstonesByOrigin = (NavigableMap<Long, E>[]) new NavigableMap<?, ?>[replicaCount];
+        for (int origin = 0; origin < replicaCount; origin++) {
+            byOrigin[origin] = new TreeMap<>();
+            tombstonesByOrigin[origin] = new TreeMap<>();
+        }
+        this.knownVectors = new long[replicaCount][replicaCount];
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param element The element to add.
+     */
+    public void add(E element) {
+        write(element, false);
+    }
+
+    /**
+     * Removes an element, if it is present.
+     *
+     * @param element The element to remove.
+     */
+    public void remove(E element) {
+        if (contains(element)) {
+            write(element, true);
+        }
+    }
+
+    /**
+     * @param element The element to look up.
+     * @return True if the last write of the element is an add.
+     */
+    public boolean contains(E element) {
+        Entry entry = entries.get(element);
+        return entry != null && !entry.removed;
+    }
+
+    /**
+     * @return The number of elements in the set, without tombstones.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of tombstones that have not been collected yet.
+     */
+    public int tombstoneCount() {
+        return entries.size() - size;
+    }
+
+    /**
+     * @return A copy of the version vector of this replica: the timestamp of the latest write of every origin it knows of.
+     */
+    public long[] versionVector() {
+        return knownVectors[replicaId].clone();
+    }
+
+    /**
+     * Collects the writes a peer is missing.
+     *
+     * @param peerId     The id of the peer.
+     * @param peerVector The version vector of the peer.
+     * @return The entries of this replica that are newer than the peer's vector, together with this replica's vector.
+     */
+    public Delta<E> deltaSince(int peerId, long[] peerVector) {
+        checkVector(peerVector);
+        learn(peerId, peerVector);
+        Delta<E> delta = new Delta<>(replicaId, versionVector());
+        for (int origin = 0; origin < byOrigin.length; origin++) {
+            for (Map.Entry<Long, E> newer : byOrigin[origin].tailMap(peerVector[origin], false).entrySet()) {
+                delta.add(newer.getValue(), entries.get(newer.getValue()));
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Merges the writes of a peer into this replica. A delta must contain every entry of the peer
+     * that is newer than this replica's version vector at the time the delta was taken.
+     *
+     * @param delta The delta returned by the peer's {@link #deltaSince(int, long[])}.
+     */
+    public void merge(Delta<E> delta) {
+        checkVector(delta.vector);
+        long latest = 0;
+        for (int i = 0; i < delta.elements.size(); i++) {
+            long timestamp = delta.timestamps[i];
+            apply(delta.elements.get(i), timestamp, delta.origins[i], delta.removed[i]);
+            latest = Math.max(latest, timestamp);
+        }
+        clock.update(latest);
+
+        long[] own = knownVectors[replicaId];
+        for (int origin = 0; origin < own.length; origin++) {
+            own[origin] = Math.max(own[origin], delta.vector[origin]);
+        }
+        learn(delta.sender, delta.vector);
+    }
+
+    /**
+     * Drops the tombstones that every replica has seen.
+     *
+     * @return The number of tombstones dropped.
+     */
+    public int collectGarbage() {
+        int collected = 0;
+        for (int origin = 0; origin < byOrigin.length; origin++) {
+            long stable = Long.MAX_VALUE;
+            for (long[] vector : knownVectors) {
+                stable = Math.min(stable, vector[origin]);
+            }
+            Iterator<Map.Entry<Long, E>> stableTombstones = tombstonesByOrigin[origin].headMap(stable, true).entrySet().iterator();
+            while (stableTombstones.hasNext()) {
+                Map.Entry<Long, E> tombstone = stableTombstones.next();
+                stableTombstones.remove();
+                byOrigin[origin].remove(tombstone.getKey());
+                entries.remove(tombstone.getValue());
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    private void write(E element, boolean removed) {
+        long timestamp = clock.now();
+        apply(element, timestamp, replicaId, removed);
+        knownVectors[replicaId][replicaId] = timestamp;
+    }
+
+    /**
+     * Stores a write unless the element already has a later one.
+     */
+    private void apply(E element, long timestamp, int origin, boolean removed) {
+        Entry entry = entries.get(element);
+        if (entry == null) {
+            entry = new Entry(timestamp, origin, removed);
+            entries.put(element, entry);
+        } else if (timestamp > entry.timestamp || (timestamp == entry.timestamp && origin > entry.origin)) {
+            byOrigin[entry.origin].remove(entry.timestamp);
+            if (entry.removed) {
+                tombstonesByOrigin[entry.origin].remove(entry.timestamp);
+            } else {
+                size--;
+            }
+            entry.timestamp = timestamp;
+            entry.origin = origin;
+            entry.removed = removed;
+        } else {
+            return;
+        }
+        byOrigin[origin].put(timestamp, element);
+        if (removed) {
+            tombstonesByOrigin[origin].put(timestamp, element);
+        } else {
+            size++;
+        }
+    }
+
+    private void learn(int peerId, long[] peerVector) {
+        long[] known = knownVectors[peerId];
+        for (int origin = 0; origin < known.length; origin++) {
+            known[origin] = Math.max(known[origin], peerVector[origin]);
+        }
+    }
+
+    private void checkVector(long[] vector) {
+        if (vector.length != knownVectors.length) {
+            throw new IllegalArgumentException("Version vector of " + vector.length + " replicas instead of " + knownVectors.length);
+        }
+    }
+
+    /**
+     * The entries one replica sends to another, with the sender's version vector.
+     *
+     * @param <E> The type of the elements.
+     */
+    static final class Delta<E> {
+        private final int sender;
+        private final long[] vector;
+        private final List<E> elements = new ArrayList<>();
+        private long[] timestamps = new long[8];
+        private int[] origins = new int[8];
+        private boolean[] removed = new boolean[8];
+
+        private Delta(int sender, long[] vector) {
+            this.sender = sender;
+            this.vector = vector;
+        }
+
+        /**
+         * @return The number of entries.
+         */
+        public int size() {
+            return elements.size();
+        }
+
+        private void add(E element, Entry entry) {
+            int index = elements.size();
+            if (index == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, 2 * index);
+                origins = Arrays.copyOf(origins, 2 * index);
+                removed = Arrays.copyOf(removed, 2 * index);
+            }
+            elements.add(element);
+            timestamps[index] = entry.timestamp;
+            origins[index] = entry.origin;
+            removed[index] = entry.removed;
+        }
+    }
+}
@@ -56,6 +56,49 @@ public class DijkstraAlgorithm {
         return distances;
     }
 
+    /**
+     * Executes Dijkstra's algorithm on a graph in compressed sparse row form, which needs memory proportional to the
+     * number of edges instead of an adjacency matrix. The vertex with the minimum distance is still found by a linear
+     * scan, so the running time is O(V^2 + E); {@link DijkstraOptimizedAlgorithm} runs in O((V + E) log V).
+     * Unlike {@link #run(int[][], int)} the distances are not printed.
+     *
+     * @param graph The graph with integer edge weights.
+     * @param source The source vertex.
+     * @return An array where the value at each index {@code i} represents the shortest distance from the source vertex to vertex {@code i}.
+     * @throws IllegalArgumentException if the source vertex is out of range or the graph does not have {@code vertexCount} vertices.
+     */
+    public int[] run(CsrGraph graph, int source) {
+        if (graph.vertexCount() != vertexCount) {
+            throw new IllegalArgumentException("Graph must have " + vertexCount + " vertices");
+        }
+        if (source < 0 || source >= vertexCount) {
+            throw new IllegalArgumentException("Incorrect source");
+        }
+
+        int[] distances = new int[vertexCount];
+        boolean[] processed = new boolean[vertexCount];
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[source] = 0;
+
+        for (int count = 0; count < vertexCount - 1; count++) {
+            int u = getMinDistanceVertex(distances, processed);
+            processed[u] = true;
+            if (distances[u] == Integer.MAX_VALUE) {
+                continue;
+            }
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!processed[v] && distances[u] + graph.weight(e) < distances[v]) {
+                    distances[v] = distances[u] + graph.weight(e);
+                }
+            }
+        }
+
+        return distances;
+    }
+
     /**
      * Finds the vertex with the minimum distance value from the set of vertices that have not yet been processed.
      *
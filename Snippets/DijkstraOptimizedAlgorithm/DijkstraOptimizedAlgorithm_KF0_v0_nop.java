@@ -1,12 +1,12 @@
 package com.thealgorithms.datastructures.graphs;
 
+import com.thealgorithms.datastructures.heaps.IndexedMinHeap;
 import java.util.Arrays;
-import java.util.Set;
-import java.util.TreeSet;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Dijkstra's algorithm for finding the shortest path from a single source vertex to all other vertices in a graph.
+ * The unprocessed vertices are kept in an {@link IndexedMinHeap}, whose keys are lowered in place when a
+ * shorter distance is found, so relaxing an edge does not allocate.
  */
 public class DijkstraOptimizedAlgorithm {
 
@@ -39,24 +39,63 @@ public class DijkstraOptimizedAlgorithm {
 
         int[] distances = new int[vertexCount];
         boolean[] processed = new boolean[vertexCount];
-        Set<Pair<Integer, Integer>> unprocessed = new TreeSet<>();
+        IndexedMinHeap unprocessed = new IndexedMinHeap(vertexCount);
 
         Arrays.fill(distances, Integer.MAX_VALUE);
         Arrays.fill(processed, false);
         distances[source] = 0;
-        unprocessed.add(Pair.of(0, source));
+        unprocessed.insert(source, 0);
 
         while (!unprocessed.isEmpty()) {
-            Pair<Integer, Integer> distanceAndU = unprocessed.iterator().next();
-            unprocessed.remove(distanceAndU);
-            int u = distanceAndU.getRight();
+            int u = unprocessed.poll();
             processed[u] = true;
 
             for (int v = 0; v < vertexCount; v++) {
                 if (!processed[v] && graph[u][v] != 0 && distances[u] != Integer.MAX_VALUE && distances[u] + graph[u][v] < distances[v]) {
-                    unprocessed.remove(Pair.of(distances[v], v));
                     distances[v] = distances[u] + graph[u][v];
-                    unprocessed.add(Pair.of(distances[v], v));
+                    unprocessed.insertOrDecrease(v, distances[v]);
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Executes Dijkstra's algorithm on a graph in compressed sparse row form. Only the outgoing edges of each settled
+     * vertex are visited, so the running time is O((V + E) log V) and the memory is O(V + E), which allows graphs
+     * that are far too large for an adjacency matrix.
+     *
+     * @param graph The graph with non-negative integer edge weights.
+     * @param source The source vertex.
+     * @return An array where the value at each index {@code i} represents the shortest distance from the source vertex to vertex {@code i}.
+     * @throws IllegalArgumentException if the source vertex is out of range or the graph does not have {@code vertexCount} vertices.
+     */
+    public int[] run(CsrGraph graph, int source) {
+        if (graph.vertexCount() != vertexCount) {
+            throw new IllegalArgumentException("Graph must have " + vertexCount + " vertices");
+        }
+        if (source < 0 || source >= vertexCount) {
+            throw new IllegalArgumentException("Incorrect source");
+        }
+
+        int[] distances = new int[vertexCount];
+        boolean[] processed = new boolean[vertexCount];
+        IndexedMinHeap unprocessed = new IndexedMinHeap(vertexCount);
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[source] = 0;
+        unprocessed.insert(source, 0);
+
+        while (!unprocessed.isEmpty()) {
+            int u = unprocessed.poll();
+            processed[u] = true;
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!processed[v] && distances[u] + graph.weight(e) < distances[v]) {
+                    distances[v] = distances[u] + graph.weight(e);
+                    unprocessed.insertOrDecrease(v, distances[v]);
                 }
             }
         }
@@ -0,0 +1,227 @@
+package com.thealgorithms.datastructures.heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary heap of primitive {@code double} keys stored in a {@code double} array,
+ * as a min-heap or a max-heap. Keys are ordered as by {@link Double#compare(double, double)},
+ * so {@code -0.0} is smaller than {@code 0.0} and {@code NaN} is larger than every other key.
+ *
+ * <p>The heap is 0-based: the children of position {@code i} are {@code 2i + 1} and
+ * {@code 2i + 2}, so parents and children are found with integer arithmetic only.
+ * Sifting is iterative and moves a single hole instead of swapping at every level.
+ * Keys are never boxed, and the array only grows when the heap is full.</p>
+ *
+ * <p>A heap can be built from an array of keys in O(n) with
+ * {@link #minHeapOf(double...)} or {@link #maxHeapOf(double...)}. {@link #replaceTop(double)}
+ * removes the top and inserts a new key with a single sift, which is what a streaming
+ * top-k selection or a k-way merge does for every element.</p>
+ *
+ * Example usage:
+ * <pre>
+ * DoubleHeap heap = DoubleHeap.minHeapOf(0.5, 0.2, 0.9);
+ * heap.replaceTop(0.7); // Returns 0.2, the heap now holds 0.5, 0.7 and 0.9
+ * double min = heap.poll(); // Returns 0.5
+ * </pre>
+ */
+public final class DoubleHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean maxHeap;
+    private double[] keys;
+    private int size;
+
+    private DoubleHeap(boolean maxHeap, double[] keys, int size) {
+        this.maxHeap = maxHeap;
+        this.keys = keys;
+        this.size = size;
+    }
+
+    /**
+     * @return an empty heap whose top is the smallest key
+     */
+    public static DoubleHeap minHeap() {
+        return minHeap(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of keys the heap holds before it grows
+     * @return an empty heap whose top is the smallest key
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static DoubleHeap minHeap(int initialCapacity) {
+        return new DoubleHeap(false, new double[checkCapacity(initialCapacity)], 0);
+    }
+
+    /**
+     * @return an empty heap whose top is the largest key
+     */
+    public static DoubleHeap maxHeap() {
+        return maxHeap(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of keys the heap holds before it grows
+     * @return an empty heap whose top is the largest key
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static DoubleHeap maxHeap(int initialCapacity) {
+        return new DoubleHeap(true, new double[checkCapacity(initialCapacity)], 0);
+    }
+
+    /**
+     * Builds a min-heap from a copy of the keys in O(n) time.
+     *
+     * @param keys the initial keys
+     * @return a heap whose top is the smallest key
+     */
+    public static DoubleHeap minHeapOf(double... keys) {
+        DoubleHeap heap = new DoubleHeap(false, Arrays.copyOf(keys, Math.max(keys.length, DEFAULT_CAPACITY)), keys.length);
+        heap.heapify();
+        return heap;
+    }
+
+    /**
+     * Builds a max-heap from a copy of the keys in O(n) time.
+     *
+     * @param keys the initial keys
+     * @return a heap whose top is the largest key
+     */
+    public static DoubleHeap maxHeapOf(double... keys) {
+        DoubleHeap heap = new DoubleHeap(true, Arrays.copyOf(keys, Math.max(keys.length, DEFAULT_CAPACITY)), keys.length);
+        heap.heapify();
+        return heap;
+    }
+
+    /**
+     * @return the number of keys in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the heap contains no keys
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys without releasing the array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a key to the heap.
+     *
+     * @param key the key to add
+     */
+    public void add(double key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1)));
+        }
+        siftUp(size++, key);
+    }
+
+    /**
+     * @return the top key, without removing it
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the top key.
+     *
+     * @return the smallest key of a min-heap or the largest key of a max-heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double poll() {
+        double top = peek();
+        size--;
+        if (size > 0) {
+            siftDown(0, keys[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Replaces the top key with the given key, which is cheaper than {@link #poll()}
+     * followed by {@link #add(double)}.
+     *
+     * @param key the key to add
+     * @return the removed top key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double replaceTop(double key) {
+        double top = peek();
+        siftDown(0, key);
+        return top;
+    }
+
+    /**
+     * @return true if key a belongs above key b
+     */
+    private boolean above(double a, double b) {
+        int comparison = Double.compare(a, b);
+        return maxHeap ? comparison > 0 : comparison < 0;
+    }
+
+    /**
+     * Moves the hole at position up until the key fits, then stores the key there.
+     */
+    private void siftUp(int position, double key) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!above(key, keys[parent])) {
+                break;
+            }
+            keys[position] = keys[parent];
+            position = parent;
+        }
+        keys[position] = key;
+    }
+
+    /**
+     * Moves the hole at position down until the key fits, then stores the key there.
+     */
+    private void siftDown(int position, double key) {
+        int half = size >>> 1; // positions below half have at least one child
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && above(keys[child + 1], keys[child])) {
+                child++;
+            }
+            if (!above(keys[child], key)) {
+                break;
+            }
+            keys[position] = keys[child];
+            position = child;
+        }
+        keys[position] = key;
+    }
+
+    /**
+     * Restores the heap order of the whole array bottom-up.
+     */
+    private void heapify() {
+        for (int position = (size >>> 1) - 1; position >= 0; position--) {
+            siftDown(position, keys[position]);
+        }
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        return capacity;
+    }
+}
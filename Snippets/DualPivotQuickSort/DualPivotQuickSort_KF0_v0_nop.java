@@ -93,4 +93,253 @@ public class DualPivotQuickSort implements SortAlgorithm {
         // Return the indices of the pivots
         return new int[] {low, high};
     }
+
+    /**
+     * Sorts the given {@code int} array using the Dual Pivot QuickSort algorithm, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public int[] sort(final int[] array) {
+        if (array.length <= 1) {
+            return array;
+        }
+
+        dualPivotQuicksort(array, 0, array.length - 1);
+        return array;
+    }
+
+    /**
+     * Sorts the given {@code long} array using the Dual Pivot QuickSort algorithm, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public long[] sort(final long[] array) {
+        if (array.length <= 1) {
+            return array;
+        }
+
+        dualPivotQuicksort(array, 0, array.length - 1);
+        return array;
+    }
+
+    /**
+     * Sorts the given {@code double} array using the Dual Pivot QuickSort algorithm, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public double[] sort(final double[] array) {
+        if (array.length <= 1) {
+            return array;
+        }
+
+        dualPivotQuicksort(array, 0, array.length - 1);
+        return array;
+    }
+
+    /**
+     * {@code int} counterpart of {@link #dualPivotQuicksort(Comparable[], int, int)}.
+     */
+    private static void dualPivotQuicksort(final int[] array, final int left, final int right) {
+        if (left < right) {
+            final long pivots = partition(array, left, right);
+            final int pivot1 = (int) (pivots >>> 32);
+            final int pivot2 = (int) pivots;
+
+            dualPivotQuicksort(array, left, pivot1 - 1);
+            dualPivotQuicksort(array, pivot1 + 1, pivot2 - 1);
+            dualPivotQuicksort(array, pivot2 + 1, right);
+        }
+    }
+
+    /**
+     * {@code int} counterpart of {@link #partition(Comparable[], int, int)}.
+     *
+     * @return The index of the first pivot in the upper and of the second pivot in the lower 32 bits
+     */
+    private static long partition(final int[] array, int left, final int right) {
+        if (array[left] > array[right]) {
+            swap(array, left, right);
+        }
+
+        final int pivot1 = array[left];
+        final int pivot2 = array[right];
+
+        int pivot1End = left + 1;
+        int low = left + 1;
+        int high = right - 1;
+
+        while (low <= high) {
+            if (array[low] < pivot1) {
+                swap(array, low, pivot1End);
+                pivot1End++;
+            } else if (array[low] >= pivot2) {
+                while (low < high && array[high] > pivot2) {
+                    high--;
+                }
+                swap(array, low, high);
+                high--;
+
+                if (array[low] < pivot1) {
+                    swap(array, low, pivot1End);
+                    pivot1End++;
+                }
+            }
+            low++;
+        }
+
+        // Place the pivots in their correct positions
+        pivot1End--;
+        high++;
+
+        swap(array, left, pivot1End);
+        swap(array, right, high);
+
+        // Pack both pivot indices into one long instead of allocating an array
+        return ((long) pivot1End << 32) | high;
+    }
+
+    private static void swap(final int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * {@code long} counterpart of {@link #dualPivotQuicksort(Comparable[], int, int)}.
+     */
+    private static void dualPivotQuicksort(final long[] array, final int left, final int right) {
+        if (left < right) {
+            final long pivots = partition(array, left, right);
+            final int pivot1 = (int) (pivots >>> 32);
+            final int pivot2 = (int) pivots;
+
+            dualPivotQuicksort(array, left, pivot1 - 1);
+            dualPivotQuicksort(array, pivot1 + 1, pivot2 - 1);
+            dualPivotQuicksort(array, pivot2 + 1, right);
+        }
+    }
+
+    /**
+     * {@code long} counterpart of {@link #partition(Comparable[], int, int)}.
+     *
+     * @return The index of the first pivot in the upper and of the second pivot in the lower 32 bits
+     */
+    private static long partition(final long[] array, int left, final int right) {
+        if (array[left] > array[right]) {
+            swap(array, left, right);
+        }
+
+        final long pivot1 = array[left];
+        final long pivot2 = array[right];
+
+        int pivot1End = left + 1;
+        int low = left + 1;
+        int high = right - 1;
+
+        while (low <= high) {
+            if (array[low] < pivot1) {
+                swap(array, low, pivot1End);
+                pivot1End++;
+            } else if (array[low] >= pivot2) {
+                while (low < high && array[high] > pivot2) {
+                    high--;
+                }
+                swap(array, low, high);
+                high--;
+
+                if (array[low] < pivot1) {
+                    swap(array, low, pivot1End);
+                    pivot1End++;
+                }
+            }
+            low++;
+        }
+
+        // Place the pivots in their correct positions
+        pivot1End--;
+        high++;
+
+        swap(array, left, pivot1End);
+        swap(array, right, high);
+
+        // Pack both pivot indices into one long instead of allocating an array
+        return ((long) pivot1End << 32) | high;
+    }
+
+    private static void swap(final long[] array, final int i, final int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * {@code double} counterpart of {@link #dualPivotQuicksort(Comparable[], int, int)}.
+     */
+    private static void dualPivotQuicksort(final double[] array, final int left, final int right) {
+        if (left < right) {
+            final long pivots = partition(array, left, right);
+            final int pivot1 = (int) (pivots >>> 32);
+            final int pivot2 = (int) pivots;
+
+            dualPivotQuicksort(array, left, pivot1 - 1);
+            dualPivotQuicksort(array, pivot1 + 1, pivot2 - 1);
+            dualPivotQuicksort(array, pivot2 + 1, right);
+        }
+    }
+
+    /**
+     * {@code double} counterpart of {@link #partition(Comparable[], int, int)}.
+     *
+     * @return The index of the first pivot in the upper and of the second pivot in the lower 32 bits
+     */
+    private static long partition(final double[] array, int left, final int right) {
+        if (Double.compare(array[left], array[right]) > 0) {
+            swap(array, left, right);
+        }
+
+        final double pivot1 = array[left];
+        final double pivot2 = array[right];
+
+        int pivot1End = left + 1;
+        int low = left + 1;
+        int high = right - 1;
+
+        while (low <= high) {
+            if (Double.compare(array[low], pivot1) < 0) {
+                swap(array, low, pivot1End);
+                pivot1End++;
+            } else if (Double.compare(array[low], pivot2) >= 0) {
+                while (low < high && Double.compare(array[high], pivot2) > 0) {
+                    high--;
+                }
+                swap(array, low, high);
+                high--;
+
+                if (Double.compare(array[low], pivot1) < 0) {
+                    swap(array, low, pivot1End);
+                    pivot1End++;
+                }
+            }
+            low++;
+        }
+
+        // Place the pivots in their correct positions
+        pivot1End--;
+        high++;
+
+        swap(array, left, pivot1End);
+        swap(array, right, high);
+
+        // Pack both pivot indices into one long instead of allocating an array
+        return ((long) pivot1End << 32) | high;
+    }
+
+    private static void swap(final double[] array, final int i, final int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
 }
@@ -0,0 +1,233 @@
+package com.thealgorithms.sorts;
+
+import com.thealgorithms.datastructures.heaps.LoserTree;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * External merge sort for files of {@code long}s that do not fit into the heap.
+ *
+ * <p>The input is a binary file of big-endian {@code long}s, as written by
+ * {@link java.io.DataOutputStream#writeLong(long)}. It is sorted in two phases:</p>
+ * <ol>
+ *   <li>Run formation: the file is read in chunks that fill half of the memory budget, each chunk
+ *   is sorted in memory with {@link MergeSort#sort(long[], int, int)}, whose scratch buffer takes
+ *   the other half, and written to a temporary run file.</li>
+ *   <li>Merging: up to {@code fanIn} runs at a time are merged with a {@link LoserTree} into a
+ *   longer run, until at most {@code fanIn} runs are left; those are merged into the output.</li>
+ * </ol>
+ *
+ * <p>All files are accessed through memory-mapped NIO windows instead of streams, so reading and
+ * writing copy the data only once, between the page cache and the {@code long} arrays or
+ * {@link LongBuffer}s. While merging, the memory budget is shared by the windows of the runs and of
+ * the output; the windows live outside the heap, so only the sorting buffers count against it.</p>
+ *
+ * <p>With n elements, a budget of m bytes and a fan-in of f, the file is read and written
+ * 1 + ⌈log_f(16n / m)⌉ times.</p>
+ *
+ * Example usage:
+ * <pre>
+ * ExternalMergeSort sorter = new ExternalMergeSort(1L &lt;&lt; 30, 64, Path.of("/tmp"));
+ * sorter.sort(Path.of("input.bin"), Path.of("sorted.bin"));
+ * </pre>
+ */
+public final class ExternalMergeSort {
+    /** Largest mapped window, in {@code long}s; a single mapping is limited to 2 GiB */
+    private static final int MAX_WINDOW = 1 << 27;
+    private static final int MIN_WINDOW = 1 << 10;
+
+    private final long memoryBudget;
+    private final int fanIn;
+    private final Path tempDirectory;
+
+    /**
+     * @param memoryBudget the number of heap bytes the sort may use for its buffers
+     * @param fanIn the largest number of runs merged at once
+     * @param tempDirectory the directory for the run files
+     * @throws IllegalArgumentException if the fan-in is smaller than 2, or if the budget cannot
+     *         hold a window of 1024 elements for each of the {@code fanIn + 1} files of a merge
+     */
+    public ExternalMergeSort(long memoryBudget, int fanIn, Path tempDirectory) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2");
+        }
+        if (memoryBudget < (long) Long.BYTES * MIN_WINDOW * (fanIn + 1)) {
+            throw new IllegalArgumentException("Memory budget of " + memoryBudget + " bytes is too small for a fan-in of " + fanIn);
+        }
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the {@code long}s of the input file into the output file. The input file is not changed,
+     * and all temporary files are deleted when the method returns, also after an exception.
+     *
+     * @param input the file to sort
+     * @param output the file to write; replaced if it exists
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalArgumentException if the size of the input is not a multiple of 8 bytes
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> temporaryFiles = new ArrayList<>();
+        try {
+            Deque<Path> runs = new ArrayDeque<>(createRuns(input, temporaryFiles));
+            while (runs.size() > fanIn) {
+                List<Path> group = new ArrayList<>(fanIn);
+                for (int i = 0; i < fanIn; i++) {
+                    group.add(runs.removeFirst());
+                }
+                Path merged = createTemporaryFile(temporaryFiles);
+                merge(group, merged);
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+                runs.addLast(merged);
+            }
+            merge(new ArrayList<>(runs), output);
+        } finally {
+            for (Path file : temporaryFiles) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Splits the input into sorted run files.
+     *
+     * @return the run files, in the order of the input
+     */
+    private List<Path> createRuns(Path input, List<Path> temporaryFiles) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Long.BYTES != 0) {
+                throw new IllegalArgumentException("File size " + size + " is not a multiple of " + Long.BYTES);
+            }
+            long count = size / Long.BYTES;
+            // the chunk and the scratch buffer of the merge sort take half of the budget each
+            int chunkLength = (int) Math.min(count, Math.min(memoryBudget / (2 * Long.BYTES), Integer.MAX_VALUE - 8));
+            long[] chunk = new long[chunkLength];
+            MergeSort sorter = new MergeSort();
+
+            for (long start = 0; start < count; start += chunkLength) {
+                int length = (int) Math.min(chunkLength, count - start);
+                read(channel, start, chunk, length);
+                sorter.sort(chunk, 0, length);
+                Path run = createTemporaryFile(temporaryFiles);
+                write(run, chunk, length);
+                runs.add(run);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Merges sorted run files into the target file.
+     */
+    private void merge(List<Path> runs, Path target) throws IOException {
+        int window = (int) Math.max(MIN_WINDOW, Math.min(MAX_WINDOW, memoryBudget / Long.BYTES / (runs.size() + 1)));
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try {
+            long total = 0;
+            for (Path run : runs) {
+                RunReader reader = new RunReader(FileChannel.open(run, StandardOpenOption.READ), window);
+                readers.add(reader);
+                total += reader.remaining;
+            }
+            PrimitiveIterator.OfLong merged = LoserTree.mergeLongs(readers);
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                for (long position = 0; position < total; position += window) {
+                    int length = (int) Math.min(window, total - position);
+                    LongBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position * Long.BYTES, (long) length * Long.BYTES).asLongBuffer();
+                    for (int i = 0; i < length; i++) {
+                        buffer.put(merged.nextLong());
+                    }
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.channel.close();
+            }
+        }
+    }
+
+    private Path createTemporaryFile(List<Path> temporaryFiles) throws IOException {
+        Path file = Files.createTempFile(tempDirectory, "run", ".bin");
+        temporaryFiles.add(file);
+        return file;
+    }
+
+    /**
+     * Reads {@code length} elements starting at element {@code start} of the channel into the array.
+     */
+    private static void read(FileChannel channel, long start, long[] destination, int length) throws IOException {
+        for (int offset = 0; offset < length; offset += MAX_WINDOW) {
+            int window = Math.min(MAX_WINDOW, length - offset);
+            channel.map(FileChannel.MapMode.READ_ONLY, (start + offset) * Long.BYTES, (long) window * Long.BYTES).asLongBuffer().get(destination, offset, window);
+        }
+    }
+
+    /**
+     * Writes the first {@code length} elements of the array to a new file.
+     */
+    private static void write(Path file, long[] source, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (int offset = 0; offset < length; offset += MAX_WINDOW) {
+                int window = Math.min(MAX_WINDOW, length - offset);
+                channel.map(FileChannel.MapMode.READ_WRITE, (long) offset * Long.BYTES, (long) window * Long.BYTES).asLongBuffer().put(source, offset, window);
+            }
+        }
+    }
+
+    /**
+     * Streams the elements of a run file through a mapped window that moves along the file.
+     */
+    private static final class RunReader implements PrimitiveIterator.OfLong {
+        private final FileChannel channel;
+        private final int window;
+        private long position;
+        private long remaining;
+        private LongBuffer buffer = LongBuffer.allocate(0);
+
+        RunReader(FileChannel channel, int window) throws IOException {
+            this.channel = channel;
+            this.window = window;
+            this.remaining = channel.size() / Long.BYTES;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return buffer.hasRemaining() || remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!buffer.hasRemaining()) {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int length = (int) Math.min(window, remaining);
+                try {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position * Long.BYTES, (long) length * Long.BYTES).asLongBuffer();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                position += length;
+                remaining -= length;
+            }
+            return buffer.get();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.thealgorithms.sorts;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Sorts a file of random {@code long}s that is larger than the heap with {@link ExternalMergeSort}
+ * and checks the result.
+ *
+ * <p>The arguments are, all optional: the file size in bytes (20 GiB by default), the memory
+ * budget in bytes (half of the maximum heap by default), the fan-in (64 by default) and the
+ * directory for the input, output and run files (the system temporary directory by default).
+ * Sorting the default 20 GiB with an 8 GiB heap needs about 60 GiB of free disk space:</p>
+ * <pre>
+ * java -Xmx8g com.thealgorithms.sorts.ExternalSortBenchmark 21474836480
+ * </pre>
+ *
+ * <p>The input is generated from a fixed seed. The output must be in non-decreasing order and
+ * have the same number of elements, sum and exclusive or as the input. All files are deleted
+ * at the end. The timings are written as CSV to standard output.</p>
+ */
+public final class ExternalSortBenchmark {
+    private static final long DEFAULT_FILE_SIZE = 20L << 30;
+    private static final int DEFAULT_FAN_IN = 64;
+    private static final int WINDOW = 1 << 24;
+    private static final long SEED = 42;
+
+    private ExternalSortBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long fileSize = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_FILE_SIZE;
+        long memoryBudget = args.length > 1 ? Long.parseLong(args[1]) : Runtime.getRuntime().maxMemory() / 2;
+        int fanIn = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FAN_IN;
+        Path directory = Path.of(args.length > 3 ? args[3] : System.getProperty("java.io.tmpdir"));
+        long count = fileSize / Long.BYTES;
+
+        Path input = Files.createTempFile(directory, "input", ".bin");
+        Path output = Files.createTempFile(directory, "output", ".bin");
+        try {
+            long start = System.nanoTime();
+            Checksum expected = generate(input, count);
+            long generateNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            new ExternalMergeSort(memoryBudget, fanIn, directory).sort(input, output);
+            long sortNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Checksum actual = verify(output);
+            long verifyNanos = System.nanoTime() - start;
+            if (!actual.equals(expected)) {
+                throw new IllegalStateException("Sorted file differs from the input: " + actual + " instead of " + expected);
+            }
+
+            System.out.println("bytes,memory_budget,fan_in,generate_s,sort_s,verify_s,sort_mb_per_s");
+            System.out.println(String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.1f,%.1f,%.1f", count * Long.BYTES, memoryBudget, fanIn, generateNanos / 1e9, sortNanos / 1e9, verifyNanos / 1e9, count * Long.BYTES * 1e3 / sortNanos));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    /**
+     * The number, sum and exclusive or of the elements of a file, which do not depend on their order.
+     */
+    private record Checksum(long count, long sum, long xor) {
+    }
+
+    private static Checksum generate(Path file, long count) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long sum = 0;
+        long xor = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (long position = 0; position < count; position += WINDOW) {
+                int length = (int) Math.min(WINDOW, count - position);
+                LongBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position * Long.BYTES, (long) length * Long.BYTES).asLongBuffer();
+                for (int i = 0; i < length; i++) {
+                    long value = random.nextLong();
+                    buffer.put(value);
+                    sum += value;
+                    xor ^= value;
+                }
+            }
+        }
+        return new Checksum(count, sum, xor);
+    }
+
+    /**
+     * @return the checksum of the file
+     * @throws IllegalStateException if the file is not sorted
+     */
+    private static Checksum verify(Path file) throws IOException {
+        long sum = 0;
+        long xor = 0;
+        long previous = Long.MIN_VALUE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long count = channel.size() / Long.BYTES;
+            for (long position = 0; position < count; position += WINDOW) {
+                int length = (int) Math.min(WINDOW, count - position);
+                LongBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position * Long.BYTES, (long) length * Long.BYTES).asLongBuffer();
+                for (int i = 0; i < length; i++) {
+                    long value = buffer.get();
+                    if (value < previous) {
+                        throw new IllegalStateException("Element " + (position + i) + " is out of order");
+                    }
+                    previous = value;
+                    sum += value;
+                    xor ^= value;
+                }
+            }
+            return new Checksum(count, sum, xor);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.thealgorithms.datastructures.graphs;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
 /**
  * The {@code FloydWarshall} class provides an implementation of the Floyd-Warshall algorithm
  * to compute the shortest paths between all pairs of vertices in a weighted graph.
@@ -12,6 +18,12 @@ package com.thealgorithms.datastructures.graphs;
  * by considering each vertex as an intermediate step.
  * </p>
  *
+ * <p>
+ * For large graphs, {@link #allPairsShortestPaths(CsrGraph)} computes all distances in a flat {@code int} array
+ * without a distance limit, splits it into tiles that fit in the CPU cache and updates independent tiles in
+ * parallel. It also keeps a successor matrix, so the shortest paths themselves can be reconstructed.
+ * </p>
+ *
  * Reference: <a href="https://en.wikipedia.org/wiki/Floyd%E2%80%93Warshall_algorithm">Floyd-Warshall Algorithm</a>
  */
 public class FloydWarshall {
@@ -20,6 +32,12 @@ public class FloydWarshall {
     private int numberofvertices;
     public static final int INFINITY = 999;
 
+    /** Distance of vertex pairs without a path in {@link ShortestPaths} and after {@link #floydwarshall(CsrGraph)} */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Side length of the square tiles of the blocked algorithm; three int tiles of 64 x 64 fit in 48 KiB */
+    private static final int BLOCK_SIZE = 64;
+
     /**
      * Constructs a Floyd-Warshall instance for a graph with the given number of vertices.
      * Initializes the distance matrix for the graph.
@@ -44,6 +62,38 @@ public class FloydWarshall {
         for (int source = 1; source <= numberofvertices; source++) {
             System.arraycopy(adjacencyMatrix[source], 1, distanceMatrix[source], 1, numberofvertices);
         }
+        relaxAllPairs();
+
+        printDistanceMatrix();
+    }
+
+    /**
+     * Executes the Floyd-Warshall algorithm on a graph in compressed sparse row form.
+     * Vertex {@code v} of the graph is row and column {@code v + 1} of the distance matrix.
+     * The distances are computed by {@link #allPairsShortestPaths(CsrGraph)}, so edge weights and distances are not
+     * limited by {@link #INFINITY}: a pair of vertices without a path is {@link #UNREACHABLE} in the distance matrix,
+     * and every other entry, including one of {@link #INFINITY} or more, is the real distance.
+     * Unlike {@link #floydwarshall(int[][])} the distance matrix is not printed.
+     *
+     * @param graph The graph with integer edge weights; of several parallel edges the lightest one is used.
+     * @throws IllegalArgumentException if the graph does not have {@code numberofvertices} vertices or contains a negative cycle.
+     */
+    public void floydwarshall(CsrGraph graph) {
+        if (graph.vertexCount() != numberofvertices) {
+            throw new IllegalArgumentException("Graph must have " + numberofvertices + " vertices");
+        }
+        ShortestPaths paths = allPairsShortestPaths(graph);
+        for (int source = 1; source <= numberofvertices; source++) {
+            for (int destination = 1; destination <= numberofvertices; destination++) {
+                distanceMatrix[source][destination] = paths.distance(source - 1, destination - 1);
+            }
+        }
+    }
+
+    /**
+     * Considers every vertex as an intermediate step between every pair of vertices of the distance matrix.
+     */
+    private void relaxAllPairs() {
         for (int intermediate = 1; intermediate <= numberofvertices; intermediate++) {
             for (int source = 1; source <= numberofvertices; source++) {
                 for (int destination = 1; destination <= numberofvertices; destination++) {
@@ -54,8 +104,6 @@ public class FloydWarshall {
                 }
             }
         }
-
-        printDistanceMatrix();
     }
 
     /**
@@ -82,4 +130,162 @@ public class FloydWarshall {
     public Object[] getDistanceMatrix() {
         return distanceMatrix;
     }
+
+    /**
+     * The shortest distances and paths between all pairs of vertices of a graph, as computed by
+     * {@link #allPairsShortestPaths(CsrGraph)}. Vertices are numbered from 0 as in the graph.
+     */
+    public static final class ShortestPaths {
+        private final int vertexCount;
+        private final int[] distances; // distances[from * vertexCount + to]
+        private final int[] successors; // the vertex after from on a shortest path to to, or -1 without a path
+
+        private ShortestPaths(int vertexCount, int[] distances, int[] successors) {
+            this.vertexCount = vertexCount;
+            this.distances = distances;
+            this.successors = successors;
+        }
+
+        /**
+         * @return the number of vertices of the graph
+         */
+        public int vertexCount() {
+            return vertexCount;
+        }
+
+        /**
+         * @return the length of a shortest path from {@code from} to {@code to}, or {@link #UNREACHABLE} if there is no path
+         */
+        public int distance(int from, int to) {
+            return distances[from * vertexCount + to];
+        }
+
+        /**
+         * @return true if there is a path from {@code from} to {@code to}
+         */
+        public boolean hasPath(int from, int to) {
+            return successors[from * vertexCount + to] >= 0;
+        }
+
+        /**
+         * Follows the successor matrix from {@code from} to {@code to}.
+         *
+         * @return the vertices of a shortest path from {@code from} to {@code to}, including both ends,
+         *         or an empty list if there is no path
+         */
+        public List<Integer> path(int from, int to) {
+            if (!hasPath(from, to)) {
+                return Collections.emptyList();
+            }
+            List<Integer> path = new ArrayList<>();
+            path.add(from);
+            for (int vertex = from; vertex != to;) {
+                vertex = successors[vertex * vertexCount + to];
+                path.add(vertex);
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Computes the shortest paths between all pairs of vertices with the blocked Floyd-Warshall algorithm.
+     *
+     * <p>The distances are kept in one row-major {@code int} array of {@code V * V} elements, split into tiles of
+     * {@code BLOCK_SIZE x BLOCK_SIZE}. For every block of intermediate vertices, the tile on the diagonal is updated
+     * first, then the other tiles of its row and column, and then all remaining tiles. The tiles of the last two
+     * phases do not depend on each other and are updated in parallel on the common fork-join pool. Each tile update
+     * works on three tiles that stay in the cache, instead of streaming the whole matrix once per vertex.</p>
+     *
+     * <p>Nothing is printed. The graph must not contain a negative cycle, and every path length must fit in an
+     * {@code int}.</p>
+     *
+     * @param graph the graph with integer edge weights; of several parallel edges the lightest one is used
+     * @return the distances and paths between all pairs of vertices
+     * @throws IllegalArgumentException if the graph contains a negative cycle or is too large for a single array
+     */
+    public static ShortestPaths allPairsShortestPaths(CsrGraph graph) {
+        int n = graph.vertexCount();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph has too many vertices for a distance matrix: " + n);
+        }
+        int[] distances = new int[n * n];
+        int[] successors = new int[n * n];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(successors, -1);
+        for (int from = 0; from < n; from++) {
+            distances[from * n + from] = 0;
+            successors[from * n + from] = from;
+            for (int e = graph.firstEdge(from); e < graph.endEdge(from); e++) {
+                int index = from * n + graph.target(e);
+                if (graph.weight(e) < distances[index]) {
+                    distances[index] = graph.weight(e);
+                    successors[index] = graph.target(e);
+                }
+            }
+        }
+
+        int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int k = 0; k < blocks; k++) {
+            int pivot = k;
+            // Phase 1: the tile of the intermediate block itself
+            updateTile(distances, successors, n, pivot, pivot, pivot);
+            // Phase 2: the other tiles in the row and column of the intermediate block, which only depend on phase 1
+            IntStream.range(0, 2 * blocks).parallel().forEach(task -> {
+                int block = task >> 1;
+                if (block == pivot) {
+                    return;
+                }
+                if ((task & 1) == 0) {
+                    updateTile(distances, successors, n, pivot, block, pivot);
+                } else {
+                    updateTile(distances, successors, n, block, pivot, pivot);
+                }
+            });
+            // Phase 3: all remaining tiles, which only depend on phase 2
+            IntStream.range(0, blocks * blocks).parallel().forEach(task -> {
+                int rowBlock = task / blocks;
+                int columnBlock = task % blocks;
+                if (rowBlock != pivot && columnBlock != pivot) {
+                    updateTile(distances, successors, n, rowBlock, columnBlock, pivot);
+                }
+            });
+        }
+
+        for (int vertex = 0; vertex < n; vertex++) {
+            if (distances[vertex * n + vertex] < 0) {
+                throw new IllegalArgumentException("Graph contains a negative cycle");
+            }
+        }
+        return new ShortestPaths(n, distances, successors);
+    }
+
+    /**
+     * Relaxes the tile at ({@code rowBlock}, {@code columnBlock}) over the intermediate vertices of {@code pivotBlock}.
+     * The intermediate vertices are the outer loop, so a tile may also be updated with values of its own row or column.
+     */
+    private static void updateTile(int[] distances, int[] successors, int n, int rowBlock, int columnBlock, int pivotBlock) {
+        int rowEnd = Math.min(n, (rowBlock + 1) * BLOCK_SIZE);
+        int columnStart = columnBlock * BLOCK_SIZE;
+        int columnEnd = Math.min(n, columnStart + BLOCK_SIZE);
+        int pivotEnd = Math.min(n, (pivotBlock + 1) * BLOCK_SIZE);
+
+        for (int k = pivotBlock * BLOCK_SIZE; k < pivotEnd; k++) {
+            int kRow = k * n;
+            for (int i = rowBlock * BLOCK_SIZE; i < rowEnd; i++) {
+                int iRow = i * n;
+                int throughK = distances[iRow + k];
+                if (throughK == UNREACHABLE) {
+                    continue;
+                }
+                int successor = successors[iRow + k];
+                for (int j = columnStart; j < columnEnd; j++) {
+                    int rest = distances[kRow + j];
+                    if (rest != UNREACHABLE && throughK + rest < distances[iRow + j]) {
+                        distances[iRow + j] = throughK + rest;
+                        successors[iRow + j] = successor;
+                    }
+                }
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.thealgorithms.datastructures.graphs;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Queue;
 
@@ -72,4 +73,106 @@ public final class FordFulkerson {
 
         return totalFlow;
     }
+
+    /**
+     * Computes the maximum flow in a flow network given in compressed sparse row form, with the edge weights
+     * as capacities. The residual network is built once in the same form: every edge gets a reverse edge, and
+     * each breadth-first search only visits the residual edges of the vertices it reaches, so no {@code V x V}
+     * matrix is needed.
+     *
+     * @param capacity the flow network, where the weight of each edge is its capacity
+     * @param flow     receives the flow on each edge of {@code capacity}, indexed by edge; must have {@code capacity.edgeCount()} elements
+     * @param source   the source vertex in the flow network
+     * @param sink     the sink vertex in the flow network
+     * @return the total maximum flow from the source to the sink
+     * @throws IllegalArgumentException if the flow array does not have one element per edge
+     */
+    public static int networkFlow(CsrGraph capacity, int[] flow, int source, int sink) {
+        if (flow.length != capacity.edgeCount()) {
+            throw new IllegalArgumentException("Flow array must have one element per edge");
+        }
+        if (source == sink) {
+            Arrays.fill(flow, 0);
+            return 0;
+        }
+        int vertexCount = capacity.vertexCount();
+        int edgeCount = capacity.edgeCount();
+
+        // Residual edges of vertex v are offsets[v] .. offsets[v + 1] - 1; edge e of the network becomes
+        // residual edge forward[e] and its reverse edge reverse[forward[e]] with no capacity
+        int[] offsets = new int[vertexCount + 1];
+        for (int u = 0; u < vertexCount; u++) {
+            for (int e = capacity.firstEdge(u); e < capacity.endEdge(u); e++) {
+                offsets[u + 1]++;
+                offsets[capacity.target(e) + 1]++;
+            }
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] fill = Arrays.copyOf(offsets, vertexCount);
+        int[] targets = new int[2 * edgeCount];
+        int[] residual = new int[2 * edgeCount];
+        int[] reverse = new int[2 * edgeCount];
+        int[] forward = new int[edgeCount];
+        for (int u = 0; u < vertexCount; u++) {
+            for (int e = capacity.firstEdge(u); e < capacity.endEdge(u); e++) {
+                int v = capacity.target(e);
+                int f = fill[u]++;
+                int b = fill[v]++;
+                targets[f] = v;
+                residual[f] = capacity.weight(e);
+                targets[b] = u;
+                reverse[f] = b;
+                reverse[b] = f;
+                forward[e] = f;
+            }
+        }
+
+        int totalFlow = 0;
+        int[] parentEdge = new int[vertexCount];
+        int[] queue = new int[vertexCount];
+
+        while (true) {
+            Arrays.fill(parentEdge, -1);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            boolean reachedSink = false;
+
+            while (head < tail && !reachedSink) {
+                int current = queue[head++];
+
+                for (int r = offsets[current]; r < offsets[current + 1]; r++) {
+                    int next = targets[r];
+                    if (next != source && parentEdge[next] < 0 && residual[r] > 0) {
+                        parentEdge[next] = r;
+                        queue[tail++] = next;
+                        reachedSink |= next == sink;
+                    }
+                }
+            }
+
+            if (!reachedSink) {
+                break; // No more augmenting paths
+            }
+
+            int pathFlow = INF;
+            for (int v = sink; v != source; v = targets[reverse[parentEdge[v]]]) {
+                pathFlow = Math.min(pathFlow, residual[parentEdge[v]]);
+            }
+
+            for (int v = sink; v != source; v = targets[reverse[parentEdge[v]]]) {
+                residual[parentEdge[v]] -= pathFlow;
+                residual[reverse[parentEdge[v]]] += pathFlow;
+            }
+
+            totalFlow += pathFlow;
+        }
+
+        for (int e = 0; e < edgeCount; e++) {
+            flow[e] = residual[reverse[forward[e]]];
+        }
+        return totalFlow;
+    }
 }
@@ -1,7 +1,8 @@
 package com.thealgorithms.datastructures.crdt;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * G-Counter (Grow-only Counter) is a state-based CRDT (Conflict-free Replicated Data Type)
@@ -13,47 +14,74 @@ import java.util.Map;
  * to compute the element-wise maximum.
  * (https://en.wikipedia.org/wiki/Conflict-free_replicated_data_type)
  *
+ * <p>The counts are kept in a {@code long} array indexed by node, and the total is updated by
+ * every increment and merge, so {@link #value()} takes constant time.</p>
+ *
+ * <p>Besides full-state merges, the counter supports delta-state replication: it remembers
+ * which entries changed since the last call of {@link #takeDelta()}, through local increments
+ * or through merges, and that call returns only those entries. Merging the deltas of a node into
+ * another node has the same effect as merging the full states, as long as every delta is
+ * delivered. A {@link Delta} has a compact binary encoding of variable-length integers.</p>
+ *
  * @author itakurah (https://github.com/itakurah)
  */
 
 class GCounter {
-    private final Map<Integer, Integer> counterMap;
+    private final long[] counts;
     private final int myId;
     private final int n;
+    private long total;
+
+    // nodes whose count changed since the last delta, without duplicates
+    private final int[] changed;
+    private final boolean[] isChanged;
+    private int changedCount;
 
     /**
      * Constructs a G-Counter for a cluster of n nodes.
      *
+     * @param myId The identifier of the current node.
      * @param n The number of nodes in the cluster.
      */
     GCounter(int myId, int n) {
+        if (myId < 0 || myId >= n) {
+            throw new IllegalArgumentException("Node id " + myId + " is outside of a cluster of " + n + " nodes");
+        }
         this.myId = myId;
         this.n = n;
-        this.counterMap = new HashMap<>();
-
-        for (int i = 0; i < n; i++) {
-            counterMap.put(i, 0);
-        }
+        this.counts = new long[n];
+        this.changed = new int[n];
+        this.isChanged = new boolean[n];
     }
 
     /**
      * Increments the counter for the current node.
      */
     public void increment() {
-        counterMap.put(myId, counterMap.get(myId) + 1);
+        increment(1);
     }
 
     /**
-     * Gets the total value of the counter by summing up values from all nodes.
+     * Increments the counter for the current node by the given amount.
      *
-     * @return The total value of the counter.
+     * @param amount The non-negative amount to add.
      */
-    public int value() {
-        int sum = 0;
-        for (int v : counterMap.values()) {
-            sum += v;
+    public void increment(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("A G-Counter cannot be decremented");
         }
-        return sum;
+        counts[myId] += amount;
+        total += amount;
+        markChanged(myId);
+    }
+
+    /**
+     * Gets the total value of the counter, the sum of the values from all nodes.
+     *
+     * @return The total value of the counter.
+     */
+    public long value() {
+        return total;
     }
 
     /**
@@ -63,8 +91,9 @@ class GCounter {
      * @return True if the state of this G-Counter is less than or equal to the state of the other G-Counter.
      */
     public boolean compare(GCounter other) {
+        checkSameCluster(other.n);
         for (int i = 0; i < n; i++) {
-            if (this.counterMap.get(i) > other.counterMap.get(i)) {
+            if (this.counts[i] > other.counts[i]) {
                 return false;
             }
         }
@@ -77,8 +106,198 @@ class GCounter {
      * @param other The other G-Counter to merge with.
      */
     public void merge(GCounter other) {
+        checkSameCluster(other.n);
         for (int i = 0; i < n; i++) {
-            this.counterMap.put(i, Math.max(this.counterMap.get(i), other.counterMap.get(i)));
+            mergeEntry(i, other.counts[i]);
+        }
+    }
+
+    /**
+     * Merges a delta, or an encoded full state, of another G-Counter into this one.
+     *
+     * @param delta The delta to merge.
+     */
+    public void merge(Delta delta) {
+        checkSameCluster(delta.n);
+        for (int i = 0; i < delta.nodes.length; i++) {
+            mergeEntry(delta.nodes[i], delta.counts[i]);
+        }
+    }
+
+    /**
+     * Returns the entries that changed since the previous call and starts collecting anew.
+     *
+     * @return The delta to send to the other nodes.
+     */
+    public Delta takeDelta() {
+        int[] nodes = Arrays.copyOf(changed, changedCount);
+        Arrays.sort(nodes);
+        long[] values = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            values[i] = counts[nodes[i]];
+            isChanged[nodes[i]] = false;
+        }
+        changedCount = 0;
+        return new Delta(n, nodes, values);
+    }
+
+    /**
+     * @return The full state of this G-Counter in the form of a delta, with all non-zero entries.
+     */
+    public Delta state() {
+        int nonZero = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                nonZero++;
+            }
+        }
+        int[] nodes = new int[nonZero];
+        long[] values = new long[nonZero];
+        for (int i = 0, j = 0; i < n; i++) {
+            if (counts[i] != 0) {
+                nodes[j] = i;
+                values[j++] = counts[i];
+            }
+        }
+        return new Delta(n, nodes, values);
+    }
+
+    private void mergeEntry(int node, long count) {
+        if (count > counts[node]) {
+            total += count - counts[node];
+            counts[node] = count;
+            markChanged(node);
+        }
+    }
+
+    private void markChanged(int node) {
+        if (!isChanged[node]) {
+            isChanged[node] = true;
+            changed[changedCount++] = node;
+        }
+    }
+
+    private void checkSameCluster(int otherN) {
+        if (this.n != otherN) {
+            throw new IllegalArgumentException("G-Counters with different number of nodes cannot be compared or merged");
+        }
+    }
+
+    /**
+     * The counts of some nodes of a G-Counter, ordered by node.
+     *
+     * <p>Encoded as variable-length integers: the number of nodes in the cluster, the number of
+     * entries, and for every entry the distance of its node to the previous node and its count.
+     * A delta of a few small counts therefore takes a few bytes, independent of the cluster size.</p>
+     */
+    static final class Delta {
+        private final int n;
+        private final int[] nodes;
+        private final long[] counts;
+
+        private Delta(int n, int[] nodes, long[] counts) {
+            this.n = n;
+            this.nodes = nodes;
+            this.counts = counts;
+        }
+
+        /**
+         * @return The number of entries.
+         */
+        public int size() {
+            return nodes.length;
+        }
+
+        /**
+         * @return The number of bytes of the encoded delta.
+         */
+        public int encodedSize() {
+            int size = VarInt.size(n) + VarInt.size(nodes.length);
+            int previous = 0;
+            for (int i = 0; i < nodes.length; i++) {
+                size += VarInt.size(nodes[i] - previous) + VarInt.size(counts[i]);
+                previous = nodes[i];
+            }
+            return size;
+        }
+
+        /**
+         * @return The encoded delta.
+         */
+        public byte[] encode() {
+            byte[] buffer = new byte[encodedSize()];
+            encode(buffer, 0);
+            return buffer;
+        }
+
+        /**
+         * Writes the encoded delta into a buffer.
+         *
+         * @param buffer The array to write to; needs room for {@link #encodedSize()} bytes.
+         * @param offset The index of the first byte to write.
+         * @return The index after the last byte written.
+         */
+        public int encode(byte[] buffer, int offset) {
+            offset = VarInt.write(buffer, offset, n);
+            offset = VarInt.write(buffer, offset, nodes.length);
+            int previous = 0;
+            for (int i = 0; i < nodes.length; i++) {
+                offset = VarInt.write(buffer, offset, nodes[i] - previous);
+                offset = VarInt.write(buffer, offset, counts[i]);
+                previous = nodes[i];
+            }
+            return offset;
+        }
+
+        /**
+         * @param bytes An encoded delta.
+         * @return The decoded delta.
+         * @throws IllegalArgumentException if the bytes are not a valid delta
+         */
+        public static Delta decode(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Delta delta = decode(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException(buffer.remaining() + " bytes after the end of the delta");
+            }
+            return delta;
+        }
+
+        /**
+         * Reads an encoded delta and advances the position of the buffer past it.
+         *
+         * @param buffer The buffer to read from.
+         * @return The decoded delta.
+         * @throws IllegalArgumentException if the bytes are not a valid delta
+         */
+        public static Delta decode(ByteBuffer buffer) {
+            try {
+                long n = VarInt.read(buffer);
+                long size = VarInt.read(buffer);
+                if (n < 0 || n > Integer.MAX_VALUE || size < 0 || size > n) {
+                    throw new IllegalArgumentException("Delta of " + size + " entries for " + n + " nodes");
+                }
+                // every entry takes at least two bytes, so a larger size is rejected before the arrays are allocated
+                if (size > buffer.remaining() / 2) {
+                    throw new IllegalArgumentException("Delta of " + size + " entries in " + buffer.remaining() + " bytes");
+                }
+                int[] nodes = new int[(int) size];
+                long[] counts = new long[(int) size];
+                long node = 0;
+                for (int i = 0; i < size; i++) {
+                    long gap = VarInt.read(buffer);
+                    counts[i] = VarInt.read(buffer);
+                    // nodes are strictly increasing, and the gap is checked before it is added so that it cannot overflow
+                    if ((i > 0 && gap == 0) || gap < 0 || gap >= n - node || counts[i] < 0) {
+                        throw new IllegalArgumentException("Invalid entry " + i + " of delta");
+                    }
+                    node += gap;
+                    nodes[i] = (int) node;
+                }
+                return new Delta((int) n, nodes, counts);
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Delta ends unexpectedly", e);
+            }
         }
     }
 }
@@ -16,8 +16,17 @@ import java.util.LinkedList;
  *
  * <p>
  * The hash map automatically resizes itself when the load factor exceeds 0.5. The load factor is defined
- * as the ratio of the number of entries to the number of buckets. When resizing occurs, all existing entries
- * are rehashed and inserted into the new buckets.
+ * as the ratio of the number of entries to the number of buckets. Resizing is incremental: the old buckets
+ * are kept next to the new ones and every operation moves a bounded number of old buckets into the new
+ * buckets, so no single operation pays for rehashing the whole map. Until all old buckets are moved,
+ * a key is looked up in its old bucket if that bucket has not been moved yet, and in its new bucket otherwise.
+ * </p>
+ *
+ * <p>
+ * The bucket of a key is taken from the high bits of its mixed hash code, so doubling the number of buckets
+ * splits old bucket {@code i} into new buckets {@code 2i} and {@code 2i + 1}. The new array list therefore only
+ * grows by two slots for every old bucket moved, and a resize never fills the whole array list at once.
+ * Buckets are created on first write; lookups of absent keys allocate nothing.
  * </p>
  *
  * @param <K> the type of keys maintained by this hash map
@@ -25,7 +34,12 @@ import java.util.LinkedList;
  */
 public class GenericHashMapUsingArrayList<K, V> {
 
+    private static final int MIGRATION_STEP = 4; // Old buckets moved per operation while rehashing
+
     private ArrayList<LinkedList<Node>> buckets; // Array list of buckets (linked lists)
+    private ArrayList<LinkedList<Node>> oldBuckets; // Buckets being rehashed away from, null if not rehashing
+    private int migrateIndex; // Old buckets below this index have been moved
+    private int capacity; // Number of buckets, including those not yet appended while rehashing
     private int size; // Number of key-value pairs in the hash map
 
     /**
@@ -36,6 +50,7 @@ public class GenericHashMapUsingArrayList<K, V> {
         for (int i = 0; i < 10; i++) {
             buckets.add(new LinkedList<>());
         }
+        capacity = buckets.size();
         size = 0;
     }
 
@@ -47,68 +62,170 @@ public class GenericHashMapUsingArrayList<K, V> {
      * @param value the value to be associated with the specified key
      */
     public void put(K key, V value) {
-        int hash = Math.abs(key.hashCode() % buckets.size());
-        LinkedList<Node> nodes = buckets.get(hash);
-
-        for (Node node : nodes) {
-            if (node.key.equals(key)) {
-                node.val = value;
-                return;
-            }
+        migrateStep();
+        Node existing = findNode(key);
+        if (existing != null) {
+            existing.val = value;
+            return;
         }
 
-        nodes.add(new Node(key, value));
+        bucketFor(key).add(new Node(key, value));
         size++;
 
         // Load factor threshold for resizing
         float loadFactorThreshold = 0.5f;
-        if ((float) size / buckets.size() > loadFactorThreshold) {
+        if ((float) size / capacity > loadFactorThreshold) {
             reHash();
         }
     }
 
     /**
-     * Resizes the hash map by doubling the number of buckets and rehashing existing entries.
+     * Starts resizing the hash map by doubling the number of buckets.
+     * The existing entries are moved over by subsequent operations; a resize still in progress is finished first.
      */
     private void reHash() {
-        ArrayList<LinkedList<Node>> oldBuckets = buckets;
-        buckets = new ArrayList<>();
-        size = 0;
-        for (int i = 0; i < oldBuckets.size() * 2; i++) {
-            buckets.add(new LinkedList<>());
+        while (oldBuckets != null) {
+            migrateStep();
         }
-        for (LinkedList<Node> nodes : oldBuckets) {
-            for (Node node : nodes) {
-                put(node.key, node.val);
+        oldBuckets = buckets;
+        migrateIndex = 0;
+        capacity = oldBuckets.size() * 2;
+        buckets = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Moves up to {@link #MIGRATION_STEP} old buckets into the new buckets, reusing their nodes.
+     * Old bucket {@code i} is split into new buckets {@code 2i} and {@code 2i + 1}, which are appended first.
+     */
+    private void migrateStep() {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(migrateIndex + MIGRATION_STEP, oldBuckets.size());
+        for (; migrateIndex < end; migrateIndex++) {
+            buckets.add(null);
+            buckets.add(null);
+            LinkedList<Node> nodes = oldBuckets.get(migrateIndex);
+            if (nodes != null) {
+                for (Node node : nodes) {
+                    currentBucket(node.key).add(node);
+                }
+                nodes.clear();
             }
         }
+        if (migrateIndex == oldBuckets.size()) {
+            oldBuckets = null;
+        }
     }
 
     /**
-     * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
+     * Returns the index of the bucket in which the key would be stored for the given number of buckets.
      *
-     * @param key the key whose associated value is to be returned
-     * @return the value associated with the specified key, or null if no mapping exists
+     * @param key the key whose bucket index is to be computed
+     * @param bucketCount the number of buckets
+     * @return the bucket index
      */
-    public V get(K key) {
-        int hash = Math.abs(key.hashCode() % buckets.size());
-        LinkedList<Node> nodes = buckets.get(hash);
+    private int bucketIndex(K key, int bucketCount) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (int) ((Integer.toUnsignedLong(hash) * bucketCount) >>> 32);
+    }
+
+    /**
+     * Returns the bucket that currently holds the key: its old bucket if that has not been moved yet,
+     * otherwise its bucket in the current array list.
+     *
+     * @param key the key to locate
+     * @return the bucket that holds the key if it is present, or null if that bucket has not been created
+     */
+    private LinkedList<Node> findBucket(K key) {
+        if (oldBuckets != null) {
+            int oldIndex = bucketIndex(key, oldBuckets.size());
+            if (oldIndex >= migrateIndex) {
+                return oldBuckets.get(oldIndex);
+            }
+        }
+        return buckets.get(bucketIndex(key, capacity));
+    }
+
+    /**
+     * Returns the bucket that currently holds the key like {@link #findBucket}, creating it if it does not exist yet.
+     *
+     * @param key the key to locate
+     * @return the bucket in which the key is or should be stored
+     */
+    private LinkedList<Node> bucketFor(K key) {
+        if (oldBuckets != null) {
+            int oldIndex = bucketIndex(key, oldBuckets.size());
+            if (oldIndex >= migrateIndex) {
+                LinkedList<Node> nodes = oldBuckets.get(oldIndex);
+                if (nodes == null) {
+                    nodes = new LinkedList<>();
+                    oldBuckets.set(oldIndex, nodes);
+                }
+                return nodes;
+            }
+        }
+        return currentBucket(key);
+    }
+
+    /**
+     * Returns the bucket of the key in the current array list, creating it if it does not exist yet.
+     *
+     * @param key the key whose bucket is to be returned
+     * @return the bucket for the key
+     */
+    private LinkedList<Node> currentBucket(K key) {
+        int index = bucketIndex(key, capacity);
+        LinkedList<Node> nodes = buckets.get(index);
+        if (nodes == null) {
+            nodes = new LinkedList<>();
+            buckets.set(index, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the node holding the specified key, or null if the key is not present.
+     *
+     * @param key the key to look up
+     * @return the node of the key, or null
+     */
+    private Node findNode(K key) {
+        LinkedList<Node> nodes = findBucket(key);
+        if (nodes == null) {
+            return null;
+        }
         for (Node node : nodes) {
             if (node.key.equals(key)) {
-                return node.val;
+                return node;
             }
         }
         return null;
     }
 
+    /**
+     * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value associated with the specified key, or null if no mapping exists
+     */
+    public V get(K key) {
+        migrateStep();
+        Node node = findNode(key);
+        return node == null ? null : node.val;
+    }
+
     /**
      * Removes the mapping for the specified key from this map if present.
      *
      * @param key the key whose mapping is to be removed from the map
      */
     public void remove(K key) {
-        int hash = Math.abs(key.hashCode() % buckets.size());
-        LinkedList<Node> nodes = buckets.get(hash);
+        migrateStep();
+        LinkedList<Node> nodes = findBucket(key);
+        if (nodes == null) {
+            return;
+        }
 
         Node target = null;
         for (Node node : nodes) {
@@ -151,13 +268,9 @@ public class GenericHashMapUsingArrayList<K, V> {
     public String toString() {
         StringBuilder builder = new StringBuilder();
         builder.append("{");
-        for (LinkedList<Node> nodes : buckets) {
-            for (Node node : nodes) {
-                builder.append(node.key);
-                builder.append(" : ");
-                builder.append(node.val);
-                builder.append(", ");
-            }
+        appendNodes(builder, buckets);
+        if (oldBuckets != null) {
+            appendNodes(builder, oldBuckets);
         }
         // Remove trailing comma and space if there are any elements
         if (builder.length() > 1) {
@@ -167,6 +280,26 @@ public class GenericHashMapUsingArrayList<K, V> {
         return builder.toString();
     }
 
+    /**
+     * Appends every key-value pair stored in the given buckets to the builder.
+     *
+     * @param builder the builder to append to
+     * @param bucketList the buckets whose nodes are appended
+     */
+    private void appendNodes(StringBuilder builder, ArrayList<LinkedList<Node>> bucketList) {
+        for (LinkedList<Node> nodes : bucketList) {
+            if (nodes == null) {
+                continue;
+            }
+            for (Node node : nodes) {
+                builder.append(node.key);
+                builder.append(" : ");
+                builder.append(node.val);
+                builder.append(", ");
+            }
+        }
+    }
+
     /**
      * A private inner class representing a key-value pair (node) in the hash map.
      */
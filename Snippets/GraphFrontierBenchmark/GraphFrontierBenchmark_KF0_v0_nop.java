@@ -0,0 +1,192 @@
+package com.thealgorithms.datastructures.graphs;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Measures Dijkstra's algorithm and Prim's algorithm with an {@code IndexedMinHeap} frontier
+ * against the same algorithms with the {@link TreeSet} frontier they used before, on a large
+ * sparse graph.
+ *
+ * <p>The graph is undirected, with a path through all vertices so that it is connected, plus
+ * random edges, all with random weights from 1 to 1,000. It is generated from a fixed seed and
+ * stored as a {@link CsrGraph}, so that both frontiers visit the same edges in the same order.
+ * The heap versions are {@link DijkstraOptimizedAlgorithm#run(CsrGraph, int)} and
+ * {@link PrimMST#primMST(CsrGraph)}; the {@link TreeSet} versions keep (distance, vertex) entries,
+ * remove the old entry of a vertex before adding its new one, and allocate an entry for every
+ * update. The results of both frontiers are checked to be equal. Every measurement is run twice
+ * and the second run is reported, so that it is compiled.</p>
+ *
+ * <p>The arguments are the number of vertices (1,000,000 by default) and the number of random
+ * edges per vertex (2, for an average degree of 6). The results are written as CSV to standard
+ * output.</p>
+ */
+public final class GraphFrontierBenchmark {
+    private static final int DEFAULT_VERTEX_COUNT = 1_000_000;
+    private static final int DEFAULT_EDGES_PER_VERTEX = 2;
+    private static final int MAX_WEIGHT = 1_000;
+    private static final long SEED = 42;
+
+    private GraphFrontierBenchmark() {
+    }
+
+    /**
+     * A frontier entry of the {@link TreeSet} versions, ordered by distance and then by vertex.
+     *
+     * @param distance the tentative distance or key of the vertex
+     * @param vertex the vertex
+     */
+    private record Entry(int distance, int vertex) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int byDistance = Integer.compare(distance, other.distance);
+            return byDistance != 0 ? byDistance : Integer.compare(vertex, other.vertex);
+        }
+    }
+
+    public static void main(String[] args) {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VERTEX_COUNT;
+        int edgesPerVertex = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_EDGES_PER_VERTEX;
+        CsrGraph graph = randomGraph(vertexCount, edgesPerVertex, new Random(SEED));
+
+        System.out.println("algorithm,frontier,vertices,edges,ms");
+        int[] heapDistances = null;
+        int[] treeSetDistances = null;
+        int[] heapParents = null;
+        int[] treeSetParents = null;
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            heapDistances = new DijkstraOptimizedAlgorithm(vertexCount).run(graph, 0);
+            long heapDijkstraNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            treeSetDistances = dijkstraWithTreeSet(graph, 0);
+            long treeSetDijkstraNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            heapParents = new PrimMST().primMST(graph);
+            long heapPrimNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            treeSetParents = primWithTreeSet(graph);
+            long treeSetPrimNanos = System.nanoTime() - start;
+
+            if (round == 1) {
+                report("Dijkstra", "IndexedMinHeap", graph, heapDijkstraNanos);
+                report("Dijkstra", "TreeSet", graph, treeSetDijkstraNanos);
+                report("Prim", "IndexedMinHeap", graph, heapPrimNanos);
+                report("Prim", "TreeSet", graph, treeSetPrimNanos);
+            }
+        }
+        if (!Arrays.equals(heapDistances, treeSetDistances)) {
+            throw new IllegalStateException("The frontiers found different shortest distances");
+        }
+        if (treeWeight(graph, heapParents) != treeWeight(graph, treeSetParents)) {
+            throw new IllegalStateException("The frontiers found spanning trees of different weight");
+        }
+    }
+
+    private static void report(String algorithm, String frontier, CsrGraph graph, long nanos) {
+        System.out.println(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f", algorithm, frontier, graph.vertexCount(), graph.edgeCount(), nanos / 1e6));
+    }
+
+    /**
+     * Dijkstra's algorithm as {@link DijkstraOptimizedAlgorithm} ran it before, with a {@link TreeSet} frontier.
+     */
+    private static int[] dijkstraWithTreeSet(CsrGraph graph, int source) {
+        int[] distances = new int[graph.vertexCount()];
+        boolean[] processed = new boolean[graph.vertexCount()];
+        TreeSet<Entry> unprocessed = new TreeSet<>();
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[source] = 0;
+        unprocessed.add(new Entry(0, source));
+
+        while (!unprocessed.isEmpty()) {
+            int u = unprocessed.pollFirst().vertex();
+            processed[u] = true;
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!processed[v] && distances[u] + graph.weight(e) < distances[v]) {
+                    unprocessed.remove(new Entry(distances[v], v));
+                    distances[v] = distances[u] + graph.weight(e);
+                    unprocessed.add(new Entry(distances[v], v));
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Prim's algorithm as {@link PrimMST} runs it, with a {@link TreeSet} frontier holding every vertex not yet in the tree.
+     */
+    private static int[] primWithTreeSet(CsrGraph graph) {
+        int vertexCount = graph.vertexCount();
+        int[] parent = new int[vertexCount];
+        Arrays.fill(parent, -1);
+        int[] key = new int[vertexCount];
+        boolean[] mstSet = new boolean[vertexCount];
+        TreeSet<Entry> notInMst = new TreeSet<>();
+
+        Arrays.fill(key, Integer.MAX_VALUE);
+        key[0] = 0;
+        for (int i = 0; i < vertexCount; i++) {
+            notInMst.add(new Entry(key[i], i));
+        }
+
+        while (!notInMst.isEmpty()) {
+            int u = notInMst.pollFirst().vertex();
+            mstSet[u] = true;
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!mstSet[v] && graph.weight(e) < key[v]) {
+                    notInMst.remove(new Entry(key[v], v));
+                    parent[v] = u;
+                    key[v] = graph.weight(e);
+                    notInMst.add(new Entry(key[v], v));
+                }
+            }
+        }
+        return parent;
+    }
+
+    /**
+     * @return the total weight of the tree edges, each from a vertex to its parent
+     */
+    private static long treeWeight(CsrGraph graph, int[] parent) {
+        long total = 0;
+        for (int v = 0; v < parent.length; v++) {
+            if (parent[v] < 0) {
+                continue;
+            }
+            int lightest = Integer.MAX_VALUE;
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                if (graph.target(e) == parent[v]) {
+                    lightest = Math.min(lightest, graph.weight(e));
+                }
+            }
+            total += lightest;
+        }
+        return total;
+    }
+
+    /**
+     * @return a connected undirected graph: a path through all vertices plus random edges, all with random weights
+     */
+    private static CsrGraph randomGraph(int vertexCount, int edgesPerVertex, Random random) {
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertexCount, 2 * (vertexCount - 1 + vertexCount * edgesPerVertex));
+        for (int v = 1; v < vertexCount; v++) {
+            builder.addUndirectedEdge(v - 1, v, 1 + random.nextInt(MAX_WEIGHT));
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            for (int i = 0; i < edgesPerVertex; i++) {
+                builder.addUndirectedEdge(v, random.nextInt(vertexCount), 1 + random.nextInt(MAX_WEIGHT));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.thealgorithms.datastructures.graphs;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 class AdjacencyListGraph<E extends Comparable<E>> {
 
@@ -98,6 +100,27 @@ class AdjacencyListGraph<E extends Comparable<E>> {
         return fromV.addAdjacentVertex(toV);
     }
 
+    /**
+     * this converts the graph into a {@link CsrGraph}, where the vertex with
+     * index i in the list of vertices becomes vertex i and every edge has
+     * weight 1
+     *
+     * @return returns the graph in compressed sparse row form
+     */
+    public CsrGraph toCsrGraph() {
+        Map<Vertex, Integer> ids = new IdentityHashMap<>();
+        for (Vertex v : vertices) {
+            ids.put(v, ids.size());
+        }
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertices.size());
+        for (Vertex v : vertices) {
+            for (Vertex v2 : v.adjacentVertices) {
+                builder.addEdge(ids.get(v), ids.get(v2));
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * this gives a list of vertices in the graph and their adjacencies
      *
@@ -0,0 +1,159 @@
+package com.thealgorithms.datastructures.hashmap.hashing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Compares the chained {@link GenericHashMapUsingArray} with the flat-array
+ * {@link OpenAddressingHashMap}, {@link IntKeyHashMap} and {@link LongKeyHashMap}, and with
+ * {@link HashMap} as reference: the heap retained per entry by a filled map, and the throughput
+ * of {@code put} and of {@code get} for keys that are present and keys that are not.
+ *
+ * <p>The keys are distinct {@code int} values scattered over the whole range, generated and
+ * shuffled from a fixed seed; the generic maps receive them boxed, as a caller would pass them.
+ * Every entry maps to the same value, so the retained heap counts the table, the nodes and the
+ * boxed keys, but no values. It is the difference of the used heap after a full garbage
+ * collection before and after filling the map, so the benchmark should run with a heap large
+ * enough for the largest map and without other allocating threads.</p>
+ *
+ * <p>The number of entries is given as first argument (1,000,000 by default). The best of
+ * several rounds is reported. The results are written as CSV to standard output.</p>
+ */
+public final class HashMapBenchmark {
+    private static final int DEFAULT_ENTRY_COUNT = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42;
+    private static final Object VALUE = new Object();
+
+    private HashMapBenchmark() {
+    }
+
+    /**
+     * Looks up an {@code int} key in a map.
+     */
+    @FunctionalInterface
+    private interface Lookup<T> {
+        boolean contains(T map, int key);
+    }
+
+    /**
+     * A hash map implementation under test, accessed through its common operations.
+     */
+    private static final class Candidate<T> {
+        private final String name;
+        private final Supplier<T> factory;
+        private final ObjIntConsumer<T> put;
+        private final Lookup<T> get;
+
+        Candidate(String name, Supplier<T> factory, ObjIntConsumer<T> put, Lookup<T> get) {
+            this.name = name;
+            this.factory = factory;
+            this.put = put;
+            this.get = get;
+        }
+    }
+
+    public static void main(String[] args) {
+        int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+        Random random = new Random(SEED);
+        int[] keys = scatteredKeys(0, entryCount, random);
+        int[] missingKeys = scatteredKeys(entryCount, entryCount, random);
+
+        List<Candidate<?>> candidates = new ArrayList<>();
+        candidates.add(new Candidate<GenericHashMapUsingArray<Integer, Object>>("GenericHashMapUsingArray", GenericHashMapUsingArray::new, (map, key) -> map.put(key, VALUE), (map, key) -> map.get(key) != null));
+        candidates.add(new Candidate<OpenAddressingHashMap<Integer, Object>>("OpenAddressingHashMap", OpenAddressingHashMap::new, (map, key) -> map.put(key, VALUE), (map, key) -> map.get(key) != null));
+        candidates.add(new Candidate<IntKeyHashMap<Object>>("IntKeyHashMap", IntKeyHashMap::new, (map, key) -> map.put(key, VALUE), (map, key) -> map.get(key) != null));
+        candidates.add(new Candidate<LongKeyHashMap<Object>>("LongKeyHashMap", LongKeyHashMap::new, (map, key) -> map.put(key, VALUE), (map, key) -> map.get(key) != null));
+        candidates.add(new Candidate<HashMap<Integer, Object>>("java.util.HashMap", HashMap::new, (map, key) -> map.put(key, VALUE), (map, key) -> map.get(key) != null));
+
+        System.out.println("implementation,entries,retained_bytes,bytes_per_entry,put_ns_per_op,get_hit_ns_per_op,get_miss_ns_per_op");
+        for (Candidate<?> candidate : candidates) {
+            System.out.println(run(candidate, keys, missingKeys));
+        }
+    }
+
+    /**
+     * Measures the retained heap of one filled map, then the throughput of the operations over several rounds.
+     *
+     * @return the CSV line with the results
+     */
+    private static <T> String run(Candidate<T> candidate, int[] keys, int[] missingKeys) {
+        long before = usedHeap();
+        T map = candidate.factory.get();
+        for (int key : keys) {
+            candidate.put.accept(map, key);
+        }
+        long retained = usedHeap() - before;
+
+        long putNanos = Long.MAX_VALUE;
+        long hitNanos = Long.MAX_VALUE;
+        long missNanos = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            T fresh = candidate.factory.get();
+            long start = System.nanoTime();
+            for (int key : keys) {
+                candidate.put.accept(fresh, key);
+            }
+            putNanos = Math.min(putNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int key : keys) {
+                found += candidate.get.contains(map, key) ? 1 : 0;
+            }
+            hitNanos = Math.min(hitNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int key : missingKeys) {
+                found += candidate.get.contains(map, key) ? 1 : 0;
+            }
+            missNanos = Math.min(missNanos, System.nanoTime() - start);
+        }
+        if (found != ROUNDS * keys.length) {
+            throw new IllegalStateException(candidate.name + " found " + found + " keys instead of " + ROUNDS * keys.length);
+        }
+
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.1f,%.1f,%.1f", candidate.name, keys.length, retained, (double) retained / keys.length, (double) putNanos / keys.length, (double) hitNanos / keys.length, (double) missNanos / missingKeys.length);
+    }
+
+    /**
+     * @return the heap in use after asking the JVM for a full garbage collection until the value settles
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    /**
+     * Multiplying by an odd constant is a bijection on {@code int}, so distinct indices give distinct keys.
+     *
+     * @return the keys for the indices from {@code first} to {@code first + count - 1}, in random order
+     */
+    private static int[] scatteredKeys(int first, int count, Random random) {
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = (first + i) * 0x5BD1E995;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        return keys;
+    }
+}
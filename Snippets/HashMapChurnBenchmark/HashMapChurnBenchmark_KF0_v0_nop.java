@@ -0,0 +1,203 @@
+package com.thealgorithms.datastructures.hashmap.hashing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+
+/**
+ * Measures {@link LinearProbingHashMap} under a churn of 50% inserts and 50% deletes at a constant
+ * number of entries, against the delete it used before backward-shift deletion, which emptied the
+ * slot and inserted the rest of the cluster again, and against {@link HashMap} as reference.
+ *
+ * <p>Every map is filled with the given number of entries. Then each step deletes a random present
+ * key and inserts a key that was never present, so the number of entries stays the same and the
+ * table is never resized. After the churn, every present key is looked up once, to show whether
+ * the clusters have degraded. The churn is generated from a fixed seed before the timed part, and
+ * the same churn is applied to every map. Each map is run twice and the second run is reported,
+ * so that it is compiled.</p>
+ *
+ * <p>The arguments are the number of entries (1,000,000 by default) and the number of churn steps,
+ * each one delete and one insert (1,000,000). The results are written as CSV to standard output.</p>
+ */
+public final class HashMapChurnBenchmark {
+    private static final int DEFAULT_ENTRY_COUNT = 1_000_000;
+    private static final int DEFAULT_STEPS = 1_000_000;
+    private static final long SEED = 42;
+
+    private HashMapChurnBenchmark() {
+    }
+
+    /**
+     * A map implementation under test, accessed through its common operations.
+     */
+    private static final class Candidate<T> {
+        private final String name;
+        private final IntFunction<T> factory;
+        private final BiConsumer<T, Integer> put;
+        private final BiConsumer<T, Integer> delete;
+        private final BiPredicate<T, Integer> contains;
+
+        Candidate(String name, IntFunction<T> factory, BiConsumer<T, Integer> put, BiConsumer<T, Integer> delete, BiPredicate<T, Integer> contains) {
+            this.name = name;
+            this.factory = factory;
+            this.put = put;
+            this.delete = delete;
+            this.contains = contains;
+        }
+    }
+
+    public static void main(String[] args) {
+        int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_STEPS;
+
+        // keys[0, entryCount) fill the map; step i deletes deleted[i] and inserts keys[entryCount + i]
+        Random random = new Random(SEED);
+        Integer[] keys = new Integer[entryCount + steps];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt() & Integer.MAX_VALUE;
+        }
+        distinct(keys);
+        Integer[] deleted = new Integer[steps];
+        Integer[] present = new Integer[entryCount];
+        System.arraycopy(keys, 0, present, 0, entryCount);
+        for (int i = 0; i < steps; i++) {
+            int victim = random.nextInt(entryCount);
+            deleted[i] = present[victim];
+            present[victim] = keys[entryCount + i];
+        }
+
+        List<Candidate<?>> candidates = new ArrayList<>();
+        candidates.add(new Candidate<LinearProbingHashMap<Integer, Integer>>("LinearProbingHashMap", c -> new LinearProbingHashMap<>(), (map, key) -> map.put(key, key), LinearProbingHashMap::delete, LinearProbingHashMap::contains));
+        candidates.add(new Candidate<ReinsertingTable>("ReinsertingTable", ReinsertingTable::new, ReinsertingTable::put, ReinsertingTable::delete, ReinsertingTable::contains));
+        candidates.add(new Candidate<HashMap<Integer, Integer>>("java.util.HashMap", c -> new HashMap<>(), (map, key) -> map.put(key, key), HashMap::remove, HashMap::containsKey));
+
+        System.out.println("implementation,entries,steps,churn_ns_per_operation,lookup_ns_per_operation");
+        for (Candidate<?> candidate : candidates) {
+            run(candidate, keys, deleted, present, entryCount);
+        }
+    }
+
+    private static <T> void run(Candidate<T> candidate, Integer[] keys, Integer[] deleted, Integer[] present, int entryCount) {
+        int steps = deleted.length;
+        for (int round = 0; round < 2; round++) {
+            T map = candidate.factory.apply(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                candidate.put.accept(map, keys[i]);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < steps; i++) {
+                candidate.delete.accept(map, deleted[i]);
+                candidate.put.accept(map, keys[entryCount + i]);
+            }
+            long churnNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int found = 0;
+            for (Integer key : present) {
+                found += candidate.contains.test(map, key) ? 1 : 0;
+            }
+            long lookupNanos = System.nanoTime() - start;
+            if (found != present.length) {
+                throw new IllegalStateException(candidate.name + " found " + found + " of " + present.length + " keys");
+            }
+
+            if (round == 1) {
+                System.out.println(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.1f", candidate.name, entryCount, steps, (double) churnNanos / (2L * steps), (double) lookupNanos / present.length));
+            }
+        }
+    }
+
+    /**
+     * Makes the keys distinct by moving every repeated key to the next value that is not taken yet.
+     * Only repeats are changed, so a key keeps its role in the churn.
+     */
+    private static void distinct(Integer[] keys) {
+        HashMap<Integer, Integer> seen = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            while (seen.containsKey(key)) {
+                key = (key + 1) & Integer.MAX_VALUE;
+            }
+            seen.put(key, key);
+            keys[i] = key;
+        }
+    }
+
+    /**
+     * The {@link LinearProbingHashMap} delete before backward-shift deletion, over a fixed table
+     * of the same size: the key is looked up twice, its slot is emptied and every later key of
+     * the cluster is removed and inserted again. Every key maps to itself.
+     */
+    private static final class ReinsertingTable {
+        private final Integer[] keys;
+        private final Integer[] values;
+        private final int mask;
+
+        /**
+         * Creates a table that stays between a quarter and half full with the given number of keys,
+         * as {@link LinearProbingHashMap} does.
+         */
+        ReinsertingTable(int entryCount) {
+            int size = Integer.highestOneBit(Math.max(2 * entryCount, 2) - 1) << 1;
+            keys = new Integer[size];
+            values = new Integer[size];
+            mask = size - 1;
+        }
+
+        void put(Integer key) {
+            put(key, key);
+        }
+
+        private void put(Integer key, Integer value) {
+            int i = indexFor(key);
+            while (keys[i] != null) {
+                if (keys[i].equals(key)) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void delete(Integer key) {
+            if (!contains(key)) {
+                return;
+            }
+            int i = indexFor(key);
+            while (!key.equals(keys[i])) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = null;
+            values[i] = null;
+            for (i = (i + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+                Integer keyToRehash = keys[i];
+                Integer valueToRehash = values[i];
+                keys[i] = null;
+                values[i] = null;
+                put(keyToRehash, valueToRehash);
+            }
+        }
+
+        boolean contains(Integer key) {
+            for (int i = indexFor(key); keys[i] != null; i = (i + 1) & mask) {
+                if (keys[i].equals(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int indexFor(Integer key) {
+            int h = key.hashCode();
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
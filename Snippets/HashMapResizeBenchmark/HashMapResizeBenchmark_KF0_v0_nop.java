@@ -0,0 +1,153 @@
+package com.thealgorithms.datastructures.hashmap.hashing;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Records the latency of every single {@code put} and {@code delete} while a map grows from empty
+ * to the given number of entries and shrinks back, as a histogram. It shows whether the incremental
+ * resizing of {@link LinearProbingHashMap} and {@link GenericHashMapUsingArrayList} keeps every
+ * operation short, compared with {@link HashMap}, which copies its whole table in the operation
+ * that crosses the load factor.
+ *
+ * <p>The keys are the numbers from 0 to the number of entries, shuffled from a fixed seed. Every
+ * operation is timed with {@link System#nanoTime()}, so the lowest buckets are dominated by the
+ * timer itself; the interesting part is the tail. Each map is run twice and the second run is
+ * reported, so that it is compiled.</p>
+ *
+ * <p>The number of entries is given as first argument (2,000,000 by default). The histogram is
+ * written as CSV to standard output: one line per implementation, operation and power-of-two
+ * latency bucket, with the number of operations below that bound and not below the previous one,
+ * followed by a line with the largest latency seen and one with the milliseconds spent in garbage
+ * collection meanwhile. A collection pause lands in the operation it interrupts, so a tail that
+ * matches the collection time is not caused by resizing; a large pre-touched heap keeps it small.</p>
+ */
+public final class HashMapResizeBenchmark {
+    private static final int DEFAULT_ENTRY_COUNT = 2_000_000;
+    private static final int BUCKET_COUNT = 40; // bucket b holds latencies in [2^(b-1), 2^b) ns
+    private static final long SEED = 42;
+
+    private HashMapResizeBenchmark() {
+    }
+
+    /**
+     * A map implementation under test, accessed through its common operations.
+     */
+    private static final class Candidate<T> {
+        private final String name;
+        private final Supplier<T> factory;
+        private final BiConsumer<T, Integer> put;
+        private final BiConsumer<T, Integer> delete;
+
+        Candidate(String name, Supplier<T> factory, BiConsumer<T, Integer> put, BiConsumer<T, Integer> delete) {
+            this.name = name;
+            this.factory = factory;
+            this.put = put;
+            this.delete = delete;
+        }
+    }
+
+    public static void main(String[] args) {
+        int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRY_COUNT;
+        Integer[] keys = shuffledKeys(entryCount, new Random(SEED));
+
+        List<Candidate<?>> candidates = new ArrayList<>();
+        candidates.add(new Candidate<LinearProbingHashMap<Integer, Integer>>("LinearProbingHashMap", LinearProbingHashMap::new, (map, key) -> map.put(key, key), LinearProbingHashMap::delete));
+        candidates.add(new Candidate<GenericHashMapUsingArrayList<Integer, Integer>>("GenericHashMapUsingArrayList", GenericHashMapUsingArrayList::new, (map, key) -> map.put(key, key), GenericHashMapUsingArrayList::remove));
+        candidates.add(new Candidate<HashMap<Integer, Integer>>("java.util.HashMap", HashMap::new, (map, key) -> map.put(key, key), HashMap::remove));
+
+        System.out.println("implementation,operation,latency_below_ns,operations");
+        for (Candidate<?> candidate : candidates) {
+            run(candidate, keys);
+        }
+    }
+
+    /**
+     * Inserts all keys into a new map and deletes them again, timing every operation, and prints the histograms of the second run.
+     */
+    private static <T> void run(Candidate<T> candidate, Integer[] keys) {
+        for (int round = 0; round < 2; round++) {
+            long[] putHistogram = new long[BUCKET_COUNT];
+            long[] deleteHistogram = new long[BUCKET_COUNT];
+            long putMax = 0;
+            long deleteMax = 0;
+
+            long gcStart = gcMillis();
+            T map = candidate.factory.get();
+            for (Integer key : keys) {
+                long start = System.nanoTime();
+                candidate.put.accept(map, key);
+                long nanos = System.nanoTime() - start;
+                putHistogram[bucketOf(nanos)]++;
+                putMax = Math.max(putMax, nanos);
+            }
+            long putGc = gcMillis() - gcStart;
+            gcStart = gcMillis();
+            for (Integer key : keys) {
+                long start = System.nanoTime();
+                candidate.delete.accept(map, key);
+                long nanos = System.nanoTime() - start;
+                deleteHistogram[bucketOf(nanos)]++;
+                deleteMax = Math.max(deleteMax, nanos);
+            }
+            long deleteGc = gcMillis() - gcStart;
+
+            if (round == 1) {
+                print(candidate.name, "put", putHistogram, putMax, putGc);
+                print(candidate.name, "delete", deleteHistogram, deleteMax, deleteGc);
+            }
+        }
+    }
+
+    /**
+     * @return the bucket of a latency: the number of bits needed to write it, capped at the last bucket
+     */
+    private static int bucketOf(long nanos) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * @return the milliseconds all garbage collectors have spent so far
+     */
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static void print(String name, String operation, long[] histogram, long max, long gcMillis) {
+        for (int b = 0; b < histogram.length; b++) {
+            if (histogram[b] > 0) {
+                System.out.println(String.format(Locale.ROOT, "%s,%s,%d,%d", name, operation, 1L << b, histogram[b]));
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "%s,%s,max,%d", name, operation, max));
+        System.out.println(String.format(Locale.ROOT, "%s,%s,gc_ms,%d", name, operation, gcMillis));
+    }
+
+    /**
+     * @return the boxed numbers from 0 to {@code count - 1} in random order
+     */
+    private static Integer[] shuffledKeys(int count, Random random) {
+        Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        return keys;
+    }
+}
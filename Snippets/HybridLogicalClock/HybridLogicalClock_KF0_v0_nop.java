@@ -0,0 +1,68 @@
+package com.thealgorithms.datastructures.crdt;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Hybrid logical clock (HLC): 64-bit timestamps that stay close to the wall-clock time but,
+ * like a Lamport clock, never go backwards and always exceed every timestamp the replica has seen.
+ *
+ * <p>A timestamp holds the wall-clock time in milliseconds in its upper 48 bits and a logical
+ * counter in its lower 16 bits. {@link #now()} returns the current wall-clock time with a zero
+ * counter if that is later than the last timestamp, and the last timestamp plus one otherwise;
+ * a counter that overflows simply carries into the milliseconds. {@link #update(long)} makes the
+ * clock aware of a timestamp received from another replica, so that every later local event is
+ * ordered after it even if the clocks of the two machines disagree.</p>
+ *
+ * <p>Timestamps of different replicas can be equal; users that need a total order break ties
+ * with the replica id.</p>
+ *
+ * @see <a href="https://cse.buffalo.edu/tech-reports/2014-04.pdf">Logical Physical Clocks and Consistent Snapshots in Globally Distributed Databases</a>
+ */
+class HybridLogicalClock {
+    /** Number of bits of the logical counter */
+    static final int LOGICAL_BITS = 16;
+
+    private final LongSupplier wallClock;
+    private long last;
+
+    /**
+     * Constructs a clock that reads {@link System#currentTimeMillis()}.
+     */
+    HybridLogicalClock() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a clock with the given source of wall-clock time.
+     *
+     * @param wallClock Returns the current time in milliseconds.
+     */
+    HybridLogicalClock(LongSupplier wallClock) {
+        this.wallClock = wallClock;
+    }
+
+    /**
+     * @return A timestamp for a local event, larger than every timestamp returned or seen before.
+     */
+    public long now() {
+        last = Math.max(wallClock.getAsLong() << LOGICAL_BITS, last + 1);
+        return last;
+    }
+
+    /**
+     * Makes the clock aware of a timestamp of another replica.
+     *
+     * @param timestamp The received timestamp.
+     */
+    public void update(long timestamp) {
+        last = Math.max(last, timestamp);
+    }
+
+    /**
+     * @param timestamp A timestamp of a hybrid logical clock.
+     * @return The wall-clock part of the timestamp, in milliseconds.
+     */
+    public static long physicalTime(long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+}
@@ -76,6 +76,13 @@ class Trieac {
     // Recursive function to print auto-suggestions
     // for given node.
     static void suggestionsRec(TrieNode root, String currPrefix) {
+        suggestionsRec(root, new StringBuilder(currPrefix));
+    }
+
+    // Prints the suggestions below root, reusing one
+    // buffer that holds the characters of the path to
+    // root instead of concatenating a new string per node
+    static void suggestionsRec(TrieNode root, StringBuilder currPrefix) {
         // found a string in Trie with the given prefix
         if (root.isWordEnd) {
             System.out.println(currPrefix);
@@ -88,11 +95,14 @@ class Trieac {
 
         for (int i = 0; i < ALPHABET_SIZE; i++) {
             if (root.children[i] != null) {
-                // append current character to currPrefix string
-                currPrefix += (char) (97 + i);
+                // append current character to currPrefix
+                currPrefix.append((char) (97 + i));
 
                 // recur over the rest
                 suggestionsRec(root.children[i], currPrefix);
+
+                // remove it again before trying the next character
+                currPrefix.setLength(currPrefix.length() - 1);
             }
         }
     }
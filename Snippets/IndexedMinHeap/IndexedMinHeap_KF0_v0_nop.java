@@ -0,0 +1,243 @@
+package com.thealgorithms.datastructures.heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An indexed min-heap over the ids {@code 0 .. capacity - 1} with primitive {@code int} keys,
+ * as used for the frontier of graph algorithms such as Dijkstra's or Prim's algorithm.
+ *
+ * <p>Every id is stored at most once, and its key can be lowered in place with
+ * {@link #decreaseKey(int, int)} instead of removing and re-inserting it. The heap is
+ * 4-ary: each node has four children, which halves the height of the tree compared to a
+ * binary heap and keeps the children of a node next to each other in memory. Ids with equal
+ * keys are ordered by id, so the order in which ids are removed is deterministic.</p>
+ *
+ * <p>The heap and the position of every id are kept in {@code int} arrays that are allocated
+ * once in the constructor, so no operation allocates memory.</p>
+ *
+ * Example usage:
+ * <pre>
+ * IndexedMinHeap heap = new IndexedMinHeap(3);
+ * heap.insert(0, 7);
+ * heap.insert(2, 4);
+ * heap.decreaseKey(0, 1);
+ * int id = heap.poll(); // Returns 0
+ * </pre>
+ */
+public class IndexedMinHeap {
+
+    private static final int ARITY = 4;
+
+    /** The ids in heap order */
+    private final int[] heap;
+
+    /** The position of each id in {@link #heap}, or -1 if the id is not in the heap */
+    private final int[] positions;
+
+    /** The key of each id, only meaningful while the id is in the heap */
+    private final int[] keys;
+
+    private int size;
+
+    /**
+     * Constructs an empty heap for the ids {@code 0 .. capacity - 1}.
+     *
+     * @param capacity the number of distinct ids
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * @return the number of ids in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the heap contains no ids
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param id the id to look up
+     * @return true if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return positions[id] >= 0;
+    }
+
+    /**
+     * @param id an id that is in the heap
+     * @return the current key of the id
+     * @throws NoSuchElementException if the id is not in the heap
+     */
+    public int keyOf(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("Id " + id + " is not in the heap");
+        }
+        return keys[id];
+    }
+
+    /**
+     * Adds an id with the given key.
+     *
+     * @param id the id to add
+     * @param key the key of the id
+     * @throws IllegalArgumentException if the id is already in the heap
+     */
+    public void insert(int id, int key) {
+        if (contains(id)) {
+            throw new IllegalArgumentException("Id " + id + " is already in the heap");
+        }
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the key of an id that is in the heap.
+     *
+     * @param id the id whose key is lowered
+     * @param key the new key, which must not be greater than the current key
+     * @throws IllegalArgumentException if the id is not in the heap or the key is greater than the current key
+     */
+    public void decreaseKey(int id, int key) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("Id " + id + " is not in the heap");
+        }
+        if (key > keys[id]) {
+            throw new IllegalArgumentException("New key " + key + " is greater than the current key " + keys[id]);
+        }
+        keys[id] = key;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Adds an id with the given key, or lowers its key if it is already in the heap
+     * with a greater key. Does nothing if the id is in the heap with a smaller or equal key.
+     *
+     * @param id the id to add or update
+     * @param key the new key
+     * @return true if the heap was changed
+     */
+    public boolean insertOrDecrease(int id, int key) {
+        if (!contains(id)) {
+            insert(id, key);
+            return true;
+        }
+        if (key < keys[id]) {
+            keys[id] = key;
+            siftUp(positions[id]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the id with the smallest key, without removing it
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the id with the smallest key.
+     *
+     * @return the id with the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int poll() {
+        int min = peek();
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Removes all ids, in time proportional to the number of ids in the heap,
+     * so that the heap can be reused without allocating a new one.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the id at the given position up until its parent is not greater.
+     */
+    private void siftUp(int position) {
+        int id = heap[position];
+        while (position > 0) {
+            int parentPosition = (position - 1) / ARITY;
+            int parent = heap[parentPosition];
+            if (!less(id, parent)) {
+                break;
+            }
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    /**
+     * Moves the id at the given position down until none of its children is smaller.
+     */
+    private void siftDown(int position) {
+        int id = heap[position];
+        while (true) {
+            int firstChild = ARITY * position + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int smallest = firstChild;
+            int lastChild = Math.min(firstChild + ARITY, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (less(heap[child], heap[smallest])) {
+                    smallest = child;
+                }
+            }
+            if (!less(heap[smallest], id)) {
+                break;
+            }
+            heap[position] = heap[smallest];
+            positions[heap[position]] = position;
+            position = smallest;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    /**
+     * Orders ids by key, and ids with equal keys by id.
+     */
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+}
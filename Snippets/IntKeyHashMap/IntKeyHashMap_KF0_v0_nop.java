@@ -0,0 +1,245 @@
+package com.thealgorithms.datastructures.hashmap.hashing;
+
+/**
+ * A hash map from primitive {@code int} keys to generic values, specialised from
+ * {@link OpenAddressingHashMap} so that keys are never boxed.
+ *
+ * <p>
+ * Keys live in an {@code int[]} and values in a parallel {@code Object[]}; collisions are resolved
+ * with linear probing over a power-of-two table and removal uses backward-shift deletion.
+ * The key {@code 0} marks an empty slot, so a mapping for {@code 0} is kept in two separate fields.
+ * </p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Linear_probing">Linear Probing</a>
+ *
+ * @param <V> the type of mapped values
+ */
+public class IntKeyHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_EXPECTED_SIZE = (int) (MAXIMUM_CAPACITY * LOAD_FACTOR);
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask; // number of slots - 1
+    private int threshold; // number of slot entries at which the table is doubled
+    private int size; // includes the mapping for FREE_KEY
+
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+
+    /**
+     * Constructs a new empty hash map with an initial capacity of 16 slots.
+     */
+    public IntKeyHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty hash map that can hold the given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the map should hold before it resizes
+     * @throws IllegalArgumentException if the expected size is negative or needs more than 2^30 slots
+     */
+    public IntKeyHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative.");
+        }
+        if (expectedSize > MAXIMUM_EXPECTED_SIZE) {
+            throw new IllegalArgumentException("Expected size must not exceed " + MAXIMUM_EXPECTED_SIZE + ".");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is replaced.
+     *
+     * @param key the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    public void put(int key, V value) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+
+        int i = indexFor(key);
+        while (keys[i] != FREE_KEY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        if (size - (hasFreeKey ? 1 : 0) > threshold) {
+            reHash();
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value associated with the specified key, or null if no mapping exists
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return freeKeyValue;
+        }
+        int i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     */
+    public void remove(int key) {
+        if (key == FREE_KEY) {
+            if (hasFreeKey) {
+                hasFreeKey = false;
+                freeKeyValue = null;
+                size--;
+            }
+            return;
+        }
+        int i = find(key);
+        if (i < 0) {
+            return;
+        }
+
+        // Shift later entries of the cluster back into the gap while their home slot allows it
+        int gap = i;
+        int j = (gap + 1) & mask;
+        while (keys[j] != FREE_KEY) {
+            int home = indexFor(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+            j = (j + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = null;
+        size--;
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param key the key whose presence in this map is to be tested
+     * @return true if this map contains a mapping for the specified key
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? hasFreeKey : find(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs in this map.
+     *
+     * @return the number of key-value pairs
+     */
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{");
+        if (hasFreeKey) {
+            builder.append(FREE_KEY).append(" : ").append(freeKeyValue).append(", ");
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                builder.append(keys[i]);
+                builder.append(" : ");
+                builder.append(values[i]);
+                builder.append(", ");
+            }
+        }
+        // Remove trailing comma and space
+        if (builder.length() > 1) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the slot that holds the specified non-zero key.
+     *
+     * @param key the key to look up
+     * @return the slot index, or -1 if the key is not present
+     */
+    private int find(int key) {
+        for (int i = indexFor(key); keys[i] != FREE_KEY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the home slot of a key by mixing its bits and masking it to the table size.
+     *
+     * @param key the key whose home slot is to be computed
+     * @return the home slot index
+     */
+    private int indexFor(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Replaces the arrays with empty ones of the given power-of-two capacity.
+     *
+     * @param capacity the new number of slots
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Doubles the number of slots and moves every entry into the new arrays.
+     */
+    private void reHash() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int j = indexFor(oldKeys[i]);
+                while (keys[j] != FREE_KEY) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
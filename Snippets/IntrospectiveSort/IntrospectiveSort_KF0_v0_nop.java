@@ -32,44 +32,52 @@ public class IntrospectiveSort implements SortAlgorithm {
      * @param array The array to be sorted
      * @param low   The starting index of the subarray
      * @param high  The ending index of the subarray
-     * @param depth The current depth of recursion
+     * @param depth The number of partitioning steps left before falling back to heapsort
      * @param <T>   The type of elements in the array, which must be comparable
      */
-    private static <T extends Comparable<T>> void introspectiveSort(T[] array, final int low, int high, final int depth) {
+    private static <T extends Comparable<T>> void introspectiveSort(T[] array, final int low, int high, int depth) {
         while (high - low > INSERTION_SORT_THRESHOLD) {
             if (depth == 0) {
                 heapSort(array, low, high);
                 return;
             }
-            final int pivotIndex = partition(array, low, high);
-            introspectiveSort(array, pivotIndex + 1, high, depth - 1);
-            high = pivotIndex - 1;
+            depth--;
+            final long bounds = partition(array, low, high);
+            final int equalStart = (int) (bounds >>> 32);
+            final int equalEnd = (int) bounds;
+            introspectiveSort(array, equalEnd + 1, high, depth);
+            high = equalStart - 1;
         }
         insertionSort(array, low, high);
     }
 
     /**
-     * Partitions the array around a pivot.
+     * Partitions the array into the elements less than, equal to and greater than a random pivot,
+     * so that runs of equal elements are not partitioned again.
      *
      * @param array The array to be partitioned
      * @param low   The starting index of the subarray
      * @param high  The ending index of the subarray
      * @param <T>   The type of elements in the array, which must be comparable
-     * @return The index of the pivot
+     * @return The index of the first element equal to the pivot in the upper and of the last one in the lower 32 bits
      */
-    private static <T extends Comparable<T>> int partition(T[] array, final int low, final int high) {
+    private static <T extends Comparable<T>> long partition(T[] array, final int low, final int high) {
         final int pivotIndex = low + (int) (Math.random() * (high - low + 1));
-        SortUtils.swap(array, pivotIndex, high);
-        final T pivot = array[high];
-        int i = low - 1;
-        for (int j = low; j < high; j++) {
-            if (array[j].compareTo(pivot) <= 0) {
+        final T pivot = array[pivotIndex];
+        int lessEnd = low;
+        int i = low;
+        int greaterStart = high;
+        while (i <= greaterStart) {
+            final int comparison = array[i].compareTo(pivot);
+            if (comparison < 0) {
+                SortUtils.swap(array, lessEnd++, i++);
+            } else if (comparison > 0) {
+                SortUtils.swap(array, i, greaterStart--);
+            } else {
                 i++;
-                SortUtils.swap(array, i, j);
             }
         }
-        SortUtils.swap(array, i + 1, high);
-        return i + 1;
+        return ((long) lessEnd << 32) | greaterStart;
     }
 
     /**
@@ -136,4 +144,346 @@ public class IntrospectiveSort implements SortAlgorithm {
             heapify(array, largest, n, low);
         }
     }
+
+    /**
+     * Sorts the given {@code int} array using Introspective Sort, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public int[] sort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return array;
+        }
+        final int depth = 2 * (int) (Math.log(array.length) / Math.log(2));
+        introspectiveSort(array, 0, array.length - 1, depth);
+        return array;
+    }
+
+    /**
+     * Sorts the given {@code long} array using Introspective Sort, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public long[] sort(long[] array) {
+        if (array == null || array.length <= 1) {
+            return array;
+        }
+        final int depth = 2 * (int) (Math.log(array.length) / Math.log(2));
+        introspectiveSort(array, 0, array.length - 1, depth);
+        return array;
+    }
+
+    /**
+     * Sorts the given {@code double} array using Introspective Sort, without boxing the elements.
+     *
+     * @param array The array to be sorted
+     * @return The sorted array
+     */
+    public double[] sort(double[] array) {
+        if (array == null || array.length <= 1) {
+            return array;
+        }
+        final int depth = 2 * (int) (Math.log(array.length) / Math.log(2));
+        introspectiveSort(array, 0, array.length - 1, depth);
+        return array;
+    }
+
+    /**
+     * {@code int} counterpart of {@link #introspectiveSort(Comparable[], int, int, int)}.
+     */
+    private static void introspectiveSort(int[] array, final int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+            final long bounds = partition(array, low, high);
+            final int equalStart = (int) (bounds >>> 32);
+            final int equalEnd = (int) bounds;
+            introspectiveSort(array, equalEnd + 1, high, depth);
+            high = equalStart - 1;
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * {@code int} counterpart of {@link #partition(Comparable[], int, int)}.
+     */
+    private static long partition(int[] array, final int low, final int high) {
+        final int pivotIndex = low + (int) (Math.random() * (high - low + 1));
+        final int pivot = array[pivotIndex];
+        int lessEnd = low;
+        int i = low;
+        int greaterStart = high;
+        while (i <= greaterStart) {
+            final int comparison = Integer.compare(array[i], pivot);
+            if (comparison < 0) {
+                swap(array, lessEnd++, i++);
+            } else if (comparison > 0) {
+                swap(array, i, greaterStart--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lessEnd << 32) | greaterStart;
+    }
+
+    /**
+     * {@code int} counterpart of {@link #insertionSort(Comparable[], int, int)}.
+     */
+    private static void insertionSort(int[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final int key = array[i];
+            int j = i - 1;
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * {@code int} counterpart of {@link #heapSort(Comparable[], int, int)}.
+     */
+    private static void heapSort(int[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(array, i, n, low);
+        }
+        for (int i = high; i > low; i--) {
+            swap(array, low, i);
+            heapify(array, 0, i - low, low);
+        }
+    }
+
+    /**
+     * {@code int} counterpart of {@link #heapify(Comparable[], int, int, int)}, sifting down in a loop.
+     */
+    private static void heapify(int[] array, int i, final int n, final int low) {
+        while (true) {
+            final int left = 2 * i + 1;
+            final int right = 2 * i + 2;
+            int largest = i;
+
+            if (left < n && array[low + left] > array[low + largest]) {
+                largest = left;
+            }
+            if (right < n && array[low + right] > array[low + largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(array, low + i, low + largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(int[] array, final int i, final int j) {
+        final int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * {@code long} counterpart of {@link #introspectiveSort(Comparable[], int, int, int)}.
+     */
+    private static void introspectiveSort(long[] array, final int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+            final long bounds = partition(array, low, high);
+            final int equalStart = (int) (bounds >>> 32);
+            final int equalEnd = (int) bounds;
+            introspectiveSort(array, equalEnd + 1, high, depth);
+            high = equalStart - 1;
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * {@code long} counterpart of {@link #partition(Comparable[], int, int)}.
+     */
+    private static long partition(long[] array, final int low, final int high) {
+        final int pivotIndex = low + (int) (Math.random() * (high - low + 1));
+        final long pivot = array[pivotIndex];
+        int lessEnd = low;
+        int i = low;
+        int greaterStart = high;
+        while (i <= greaterStart) {
+            final int comparison = Long.compare(array[i], pivot);
+            if (comparison < 0) {
+                swap(array, lessEnd++, i++);
+            } else if (comparison > 0) {
+                swap(array, i, greaterStart--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lessEnd << 32) | greaterStart;
+    }
+
+    /**
+     * {@code long} counterpart of {@link #insertionSort(Comparable[], int, int)}.
+     */
+    private static void insertionSort(long[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final long key = array[i];
+            int j = i - 1;
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * {@code long} counterpart of {@link #heapSort(Comparable[], int, int)}.
+     */
+    private static void heapSort(long[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(array, i, n, low);
+        }
+        for (int i = high; i > low; i--) {
+            swap(array, low, i);
+            heapify(array, 0, i - low, low);
+        }
+    }
+
+    /**
+     * {@code long} counterpart of {@link #heapify(Comparable[], int, int, int)}, sifting down in a loop.
+     */
+    private static void heapify(long[] array, int i, final int n, final int low) {
+        while (true) {
+            final int left = 2 * i + 1;
+            final int right = 2 * i + 2;
+            int largest = i;
+
+            if (left < n && array[low + left] > array[low + largest]) {
+                largest = left;
+            }
+            if (right < n && array[low + right] > array[low + largest]) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(array, low + i, low + largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(long[] array, final int i, final int j) {
+        final long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * {@code double} counterpart of {@link #introspectiveSort(Comparable[], int, int, int)}.
+     */
+    private static void introspectiveSort(double[] array, final int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depth--;
+            final long bounds = partition(array, low, high);
+            final int equalStart = (int) (bounds >>> 32);
+            final int equalEnd = (int) bounds;
+            introspectiveSort(array, equalEnd + 1, high, depth);
+            high = equalStart - 1;
+        }
+        insertionSort(array, low, high);
+    }
+
+    /**
+     * {@code double} counterpart of {@link #partition(Comparable[], int, int)}.
+     */
+    private static long partition(double[] array, final int low, final int high) {
+        final int pivotIndex = low + (int) (Math.random() * (high - low + 1));
+        final double pivot = array[pivotIndex];
+        int lessEnd = low;
+        int i = low;
+        int greaterStart = high;
+        while (i <= greaterStart) {
+            final int comparison = Double.compare(array[i], pivot);
+            if (comparison < 0) {
+                swap(array, lessEnd++, i++);
+            } else if (comparison > 0) {
+                swap(array, i, greaterStart--);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lessEnd << 32) | greaterStart;
+    }
+
+    /**
+     * {@code double} counterpart of {@link #insertionSort(Comparable[], int, int)}.
+     */
+    private static void insertionSort(double[] array, final int low, final int high) {
+        for (int i = low + 1; i <= high; i++) {
+            final double key = array[i];
+            int j = i - 1;
+            while (j >= low && Double.compare(array[j], key) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * {@code double} counterpart of {@link #heapSort(Comparable[], int, int)}.
+     */
+    private static void heapSort(double[] array, final int low, final int high) {
+        final int n = high - low + 1;
+        for (int i = (n / 2) - 1; i >= 0; i--) {
+            heapify(array, i, n, low);
+        }
+        for (int i = high; i > low; i--) {
+            swap(array, low, i);
+            heapify(array, 0, i - low, low);
+        }
+    }
+
+    /**
+     * {@code double} counterpart of {@link #heapify(Comparable[], int, int, int)}, sifting down in a loop.
+     */
+    private static void heapify(double[] array, int i, final int n, final int low) {
+        while (true) {
+            final int left = 2 * i + 1;
+            final int right = 2 * i + 2;
+            int largest = i;
+
+            if (left < n && Double.compare(array[low + left], array[low + largest]) > 0) {
+                largest = left;
+            }
+            if (right < n && Double.compare(array[low + right], array[low + largest]) > 0) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            swap(array, low + i, low + largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(double[] array, final int i, final int j) {
+        final double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
 }
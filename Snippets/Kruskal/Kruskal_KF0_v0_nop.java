@@ -1,5 +1,6 @@
 package com.thealgorithms.datastructures.graphs;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.PriorityQueue;
@@ -18,6 +19,9 @@ import java.util.PriorityQueue;
  * </ul>
  *
  * <p><strong>Time Complexity:</strong> O(E log V), where E is the number of edges and V is the number of vertices.</p>
+ *
+ * <p>For large graphs, {@link #kruskal(CsrGraph)} works on a {@link CsrGraph}: it sorts the edges by weight in a
+ * primitive array and tracks the components with a union-find over {@code int} arrays.</p>
  */
 public class Kruskal {
 
@@ -49,6 +53,26 @@ public class Kruskal {
         graph[from].add(new Edge(from, to, weight));
     }
 
+    /**
+     * Converts the adjacency list into a {@link CsrGraph} with the same vertices, edges and weights.
+     *
+     * @param graph the adjacency list representing the graph
+     * @return the graph in compressed sparse row form
+     */
+    static CsrGraph toCsrGraph(HashSet<Edge>[] graph) {
+        int edgeCount = 0;
+        for (HashSet<Edge> edges : graph) {
+            edgeCount += edges.size();
+        }
+        CsrGraph.Builder builder = new CsrGraph.Builder(graph.length, edgeCount);
+        for (HashSet<Edge> edges : graph) {
+            for (Edge edge : edges) {
+                builder.addEdge(edge.from, edge.to, edge.weight);
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * Kruskal's algorithm to find the Minimum Spanning Tree (MST) of a graph.
      *
@@ -89,4 +113,70 @@ public class Kruskal {
         }
         return minGraph;
     }
+
+    /**
+     * Kruskal's algorithm on a graph in compressed sparse row form, which stores every undirected edge in both
+     * directions. If the graph is not connected, the result is a minimum spanning forest.
+     *
+     * @param graph the input graph with integer edge weights
+     * @return the edges of the MST, each in one of the directions in which the input graph stores it
+     * @throws IllegalStateException if the graph has double weights
+     */
+    public CsrGraph kruskal(CsrGraph graph) {
+        int nodes = graph.vertexCount();
+        int edgeCount = graph.edgeCount();
+
+        // Sort the edges by weight, with the weight in the upper and the edge in the lower 32 bits
+        long[] edges = new long[edgeCount];
+        int[] from = new int[edgeCount];
+        for (int v = 0; v < nodes; v++) {
+            for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                edges[e] = ((long) graph.weight(e) << 32) | e;
+                from[e] = v;
+            }
+        }
+        Arrays.sort(edges);
+
+        int[] parent = new int[nodes]; // union-find forest; a root is its own parent
+        int[] componentSize = new int[nodes];
+        for (int i = 0; i < nodes; i++) {
+            parent[i] = i;
+            componentSize[i] = 1;
+        }
+
+        CsrGraph.Builder minGraph = new CsrGraph.Builder(nodes, Math.max(0, nodes - 1));
+        int treeEdges = 0;
+        for (int i = 0; i < edgeCount && treeEdges < nodes - 1; i++) {
+            int e = (int) edges[i];
+            int fromRoot = find(parent, from[e]);
+            int toRoot = find(parent, graph.target(e));
+
+            // Avoid forming cycles by checking if the nodes belong to different connected components
+            if (fromRoot != toRoot) {
+                // Hang the smaller component below the larger one
+                if (componentSize[fromRoot] < componentSize[toRoot]) {
+                    int swap = fromRoot;
+                    fromRoot = toRoot;
+                    toRoot = swap;
+                }
+                parent[toRoot] = fromRoot;
+                componentSize[fromRoot] += componentSize[toRoot];
+
+                minGraph.addEdge(from[e], graph.target(e), graph.weight(e));
+                treeEdges++;
+            }
+        }
+        return minGraph.build();
+    }
+
+    /**
+     * Finds the root of the component of a vertex, halving the path to it on the way.
+     */
+    private static int find(int[] parent, int vertex) {
+        while (parent[vertex] != vertex) {
+            parent[vertex] = parent[parent[vertex]];
+            vertex = parent[vertex];
+        }
+        return vertex;
+    }
 }
@@ -10,9 +10,10 @@ import java.util.Map;
  * and a frequency count that tracks how many times the item has been accessed. A doubly linked list
  * is used to efficiently manage the ordering of items based on their usage frequency.
  *
- * <p>This implementation is designed to provide O(1) time complexity for both the {@code get} and
- * {@code put} operations, which is achieved through the use of a hashmap for quick access and a
- * doubly linked list for maintaining the order of item frequencies.</p>
+ * <p>This implementation provides O(1) time complexity for {@code get}, {@code put} and eviction.
+ * A hashmap gives quick access to the nodes, and every frequency count owns its own doubly linked
+ * list (bucket) of nodes. Together with a pointer to the smallest frequency in use, this means a
+ * node never has to be searched for its position when its frequency changes.</p>
  *
  * <p>
  * Reference: <a href="https://en.wikipedia.org/wiki/Least_frequently_used">LFU Cache - Wikipedia</a>
@@ -51,9 +52,19 @@ public class LFUCache<K, V> {
         }
     }
 
-    private Node head;
-    private Node tail;
+    /**
+     * The {@code FrequencyBucket} class holds all nodes that share the same frequency.
+     * Nodes are kept in insertion order, so the head is the least recently used node
+     * among those with this frequency and is the one evicted first.
+     */
+    private class FrequencyBucket {
+        private Node head;
+        private Node tail;
+    }
+
     private final Map<K, Node> cache;
+    private final Map<Integer, FrequencyBucket> buckets;
+    private int minFrequency;
     private final int capacity;
     private static final int DEFAULT_CAPACITY = 100;
 
@@ -76,12 +87,13 @@ public class LFUCache<K, V> {
         }
         this.capacity = capacity;
         this.cache = new HashMap<>();
+        this.buckets = new HashMap<>();
     }
 
     /**
      * Retrieves the value associated with the given key from the cache.
-     * If the key exists, the node's frequency is incremented, and the node is repositioned
-     * in the linked list based on its updated frequency.
+     * If the key exists, the node's frequency is incremented, and the node is moved
+     * to the bucket of its updated frequency.
      *
      * @param key The key whose associated value is to be returned.
      * @return The value associated with the key, or {@code null} if the key is not present in the cache.
@@ -109,77 +121,67 @@ public class LFUCache<K, V> {
         if (cache.containsKey(key)) {
             Node node = cache.get(key);
             node.value = value;
-            node.frequency += 1;
             removeNode(node);
+            node.frequency += 1;
             addNodeWithUpdatedFrequency(node);
         } else {
             if (cache.size() >= capacity) {
-                cache.remove(this.head.key); // Evict least frequently used item
-                removeNode(head);
+                Node evicted = buckets.get(minFrequency).head; // Evict least frequently used item
+                cache.remove(evicted.key);
+                removeNode(evicted);
             }
             Node node = new Node(key, value, 1);
             addNodeWithUpdatedFrequency(node);
+            minFrequency = 1;
             cache.put(key, node);
         }
     }
 
     /**
-     * Adds a node to the linked list in the correct position based on its frequency.
-     * The linked list is ordered by frequency, with the least frequently used node at the head.
+     * Appends a node to the tail of the bucket that matches its frequency.
+     * Within a bucket the least recently used node stays at the head.
      *
-     * @param node The node to be inserted into the list.
+     * @param node The node to be inserted into its frequency bucket.
      */
     private void addNodeWithUpdatedFrequency(Node node) {
-        if (tail != null && head != null) {
-            Node temp = this.head;
-            while (temp != null) {
-                if (temp.frequency > node.frequency) {
-                    if (temp == head) {
-                        node.next = temp;
-                        temp.previous = node;
-                        this.head = node;
-                        break;
-                    } else {
-                        node.next = temp;
-                        node.previous = temp.previous;
-                        temp.previous.next = node;
-                        temp.previous = node;
-                        break;
-                    }
-                } else {
-                    temp = temp.next;
-                    if (temp == null) {
-                        tail.next = node;
-                        node.previous = tail;
-                        node.next = null;
-                        tail = node;
-                        break;
-                    }
-                }
-            }
+        FrequencyBucket bucket = buckets.computeIfAbsent(node.frequency, frequency -> new FrequencyBucket());
+        node.next = null;
+        node.previous = bucket.tail;
+        if (bucket.tail != null) {
+            bucket.tail.next = node;
         } else {
-            tail = node;
-            head = tail;
+            bucket.head = node;
         }
+        bucket.tail = node;
     }
 
     /**
-     * Removes a node from the doubly linked list.
-     * This method ensures that the pointers of neighboring nodes are properly updated.
+     * Removes a node from the doubly linked list of its frequency bucket.
+     * Empty buckets are discarded, and the minimum frequency is advanced if its bucket became empty.
      *
-     * @param node The node to be removed from the list.
+     * @param node The node to be removed from its bucket.
      */
     private void removeNode(Node node) {
+        FrequencyBucket bucket = buckets.get(node.frequency);
         if (node.previous != null) {
             node.previous.next = node.next;
         } else {
-            this.head = node.next;
+            bucket.head = node.next;
         }
 
         if (node.next != null) {
             node.next.previous = node.previous;
         } else {
-            this.tail = node.previous;
+            bucket.tail = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+
+        if (bucket.head == null) {
+            buckets.remove(node.frequency);
+            if (minFrequency == node.frequency) {
+                minFrequency++;
+            }
         }
     }
 }
@@ -0,0 +1,218 @@
+package com.thealgorithms.datastructures.caches;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Measures {@link LFUCache} against the frequency-ordered list it used before, for capacities
+ * from 1,000 to 1,000,000.
+ *
+ * <p>Every cache is filled to its capacity and then receives a mix of 90% {@code get} and 10%
+ * {@code put} on keys drawn from twice the capacity, skewed towards small keys so that some keys
+ * become much more frequent than others. The old cache walks its list from the head on every
+ * access, so it costs O(capacity) per operation; it is filled in O(capacity) by appending, and
+ * it runs fewer operations at large capacities so that a run stays short. The keys are generated
+ * from a fixed seed before the timed part. Each cache is run twice and the second run is reported,
+ * so that it is compiled.</p>
+ *
+ * <p>The maximum capacity is given as first argument (1,000,000 by default). The results are
+ * written as CSV to standard output.</p>
+ */
+public final class LFUCacheBenchmark {
+    private static final int MIN_CAPACITY = 1_000;
+    private static final int DEFAULT_MAX_CAPACITY = 1_000_000;
+    private static final int OPERATIONS = 1_000_000;
+    // the list walk touches about capacity nodes per operation
+    private static final long LIST_WALK_STEPS = 200_000_000L;
+    private static final int PUT_PERCENT = 10;
+    private static final long SEED = 42;
+
+    private LFUCacheBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int maxCapacity = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_CAPACITY;
+        System.out.println("implementation,capacity,operations,ns_per_operation,hits");
+
+        for (int capacity = MIN_CAPACITY; capacity <= maxCapacity; capacity *= 10) {
+            int[] keys = createKeys(capacity, OPERATIONS);
+            for (int round = 0; round < 2; round++) {
+                LFUCache<Integer, Integer> cache = new LFUCache<>(capacity);
+                for (int key = 0; key < capacity; key++) {
+                    cache.put(key, key);
+                }
+                long start = System.nanoTime();
+                long hits = run(keys, OPERATIONS, cache::get, cache::put);
+                long nanos = System.nanoTime() - start;
+                if (round == 1) {
+                    report("LFUCache", capacity, OPERATIONS, nanos, hits);
+                }
+            }
+
+            int operations = (int) Math.max(100, Math.min(OPERATIONS, LIST_WALK_STEPS / capacity));
+            for (int round = 0; round < 2; round++) {
+                ListWalkLFUCache cache = new ListWalkLFUCache(capacity);
+                long start = System.nanoTime();
+                long hits = run(keys, operations, cache::get, cache::put);
+                long nanos = System.nanoTime() - start;
+                if (round == 1) {
+                    report("ListWalkLFUCache", capacity, operations, nanos, hits);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the operations: a negative key is a put of its complement, any other key a get.
+     *
+     * @return the number of gets that found their key
+     */
+    private static long run(int[] keys, int operations, Function<Integer, Integer> getter, BiConsumer<Integer, Integer> putter) {
+        long hits = 0;
+        for (int i = 0; i < operations; i++) {
+            int key = keys[i];
+            if (key < 0) {
+                putter.accept(~key, i);
+            } else if (getter.apply(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * @return keys in [0, 2 * capacity), squared towards 0; puts are stored as complements
+     */
+    private static int[] createKeys(int capacity, int operations) {
+        Random random = new Random(SEED + capacity);
+        int[] keys = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            double u = random.nextDouble();
+            int key = (int) (2.0 * capacity * u * u);
+            keys[i] = random.nextInt(100) < PUT_PERCENT ? ~key : key;
+        }
+        return keys;
+    }
+
+    private static void report(String name, int capacity, int operations, long nanos, long hits) {
+        System.out.println(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%d", name, capacity, operations, (double) nanos / operations, hits));
+    }
+
+    /**
+     * The {@link LFUCache} before frequency buckets: one list ordered by frequency, in which a
+     * node is placed by walking from the head.
+     */
+    private static final class ListWalkLFUCache {
+        private static final class Node {
+            private final Integer key;
+            private Integer value;
+            private int frequency;
+            private Node previous;
+            private Node next;
+
+            Node(Integer key, Integer value, int frequency) {
+                this.key = key;
+                this.value = value;
+                this.frequency = frequency;
+            }
+        }
+
+        private Node head;
+        private Node tail;
+        private final int capacity;
+        private final Map<Integer, Node> cache = new HashMap<>();
+
+        /**
+         * Creates the cache filled with the keys 0 to capacity - 1, all with frequency 1. Putting
+         * them one by one would walk the whole list for each.
+         */
+        ListWalkLFUCache(int capacity) {
+            this.capacity = capacity;
+            for (int key = 0; key < capacity; key++) {
+                Node node = new Node(key, key, 1);
+                node.previous = tail;
+                if (tail == null) {
+                    head = node;
+                } else {
+                    tail.next = node;
+                }
+                tail = node;
+                cache.put(key, node);
+            }
+        }
+
+        Integer get(Integer key) {
+            Node node = cache.get(key);
+            if (node == null) {
+                return null;
+            }
+            removeNode(node);
+            node.frequency += 1;
+            addNodeWithUpdatedFrequency(node);
+            return node.value;
+        }
+
+        void put(Integer key, Integer value) {
+            Node node = cache.get(key);
+            if (node != null) {
+                node.value = value;
+                node.frequency += 1;
+                removeNode(node);
+                addNodeWithUpdatedFrequency(node);
+            } else {
+                if (cache.size() >= capacity) {
+                    cache.remove(head.key);
+                    removeNode(head);
+                }
+                node = new Node(key, value, 1);
+                addNodeWithUpdatedFrequency(node);
+                cache.put(key, node);
+            }
+        }
+
+        private void addNodeWithUpdatedFrequency(Node node) {
+            node.previous = null;
+            node.next = null;
+            if (head == null) {
+                head = node;
+                tail = node;
+                return;
+            }
+            Node temp = head;
+            while (temp != null && temp.frequency <= node.frequency) {
+                temp = temp.next;
+            }
+            if (temp == null) {
+                tail.next = node;
+                node.previous = tail;
+                tail = node;
+            } else {
+                node.next = temp;
+                node.previous = temp.previous;
+                if (temp.previous == null) {
+                    head = node;
+                } else {
+                    temp.previous.next = node;
+                }
+                temp.previous = node;
+            }
+        }
+
+        private void removeNode(Node node) {
+            if (node.previous != null) {
+                node.previous.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.previous = node.previous;
+            } else {
+                tail = node.previous;
+            }
+        }
+    }
+}
@@ -16,17 +16,17 @@ import java.util.Map;
 
 class Element {
     String key;
-    int timestamp;
+    long timestamp;
     Bias bias;
 
     /**
      * Constructs a new Element with the specified key, timestamp and bias.
      *
      * @param key       The key of the element.
-     * @param timestamp The timestamp associated with the element.
+     * @param timestamp The timestamp associated with the element, for example of a {@link HybridLogicalClock}.
      * @param bias      The bias of the element (ADDS or REMOVALS).
      */
-    Element(String key, int timestamp, Bias bias) {
+    Element(String key, long timestamp, Bias bias) {
         this.key = key;
         this.timestamp = timestamp;
         this.bias = bias;
@@ -63,6 +63,16 @@ class LWWElementSet {
         addSet.put(e.key, e);
     }
 
+    /**
+     * Adds the element with the given key and timestamp to the addSet.
+     *
+     * @param key       The key of the element.
+     * @param timestamp The timestamp of the addition.
+     */
+    public void add(String key, long timestamp) {
+        add(new Element(key, timestamp, Bias.ADDS));
+    }
+
     /**
      * Removes an element from the removeSet.
      *
@@ -74,6 +84,16 @@ class LWWElementSet {
         }
     }
 
+    /**
+     * Removes the element with the given key at the given timestamp, if it is present.
+     *
+     * @param key       The key of the element.
+     * @param timestamp The timestamp of the removal.
+     */
+    public void remove(String key, long timestamp) {
+        remove(new Element(key, timestamp, Bias.REMOVALS));
+    }
+
     /**
      * Checks if an element is in the LWWElementSet by comparing timestamps in the addSet and removeSet.
      *
@@ -87,6 +107,23 @@ class LWWElementSet {
         return (inAddSet != null && (inRemoveSet == null || inAddSet.timestamp > inRemoveSet.timestamp));
     }
 
+    /**
+     * Checks if the element with the given key is in the LWWElementSet.
+     *
+     * @param key The key of the element.
+     * @return True if the element is present, false otherwise.
+     */
+    public boolean lookup(String key) {
+        return lookup(new Element(key, 0, Bias.ADDS));
+    }
+
+    /**
+     * @return The number of elements in the addSet and the removeSet, which a merge of this set walks.
+     */
+    public int entryCount() {
+        return addSet.size() + removeSet.size();
+    }
+
     /**
      * Compares the LWWElementSet with another LWWElementSet to check if addSet and removeSet are a subset.
      *
@@ -128,7 +165,7 @@ class LWWElementSet {
             throw new IllegalArgumentException("Invalid bias value");
         }
         Bias bias = e.bias;
-        int timestampComparison = Integer.compare(e.timestamp, other.timestamp);
+        int timestampComparison = Long.compare(e.timestamp, other.timestamp);
 
         if (timestampComparison == 0) {
             return bias != Bias.ADDS;
@@ -0,0 +1,156 @@
+package com.thealgorithms.datastructures.crdt;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Simulates anti-entropy between replicas of a large LWW element set with a small churn per
+ * round, once with {@link DeltaLWWElementSet} and once with full-state merges of {@link LWWElementSet}.
+ *
+ * <p>The first replica starts with all elements and the others receive them before the
+ * measurement starts. In every round, the replicas together add or remove the given fraction of
+ * the elements, chosen at random among twice as many keys, and then every replica pulls from its
+ * successor in a ring: with version vectors it receives only the writes it is missing, while the
+ * full-state merge walks both complete sets of the successor. Afterwards every
+ * {@link DeltaLWWElementSet} collects its stable tombstones. When all rounds are done, quiet rounds
+ * are run until the replicas agree, and every key is checked to be present in all of them or in none.</p>
+ *
+ * <p>The arguments are the number of elements (1,000,000 by default), the number of replicas (3),
+ * the churn per round (0.001) and the number of rounds (20). The {@link LWWElementSet} replicas
+ * hold all elements twice, so they are run with two replicas only. The writes are generated from a
+ * fixed seed and the clocks advance by one millisecond per round. The results are written as CSV
+ * to standard output.</p>
+ */
+public final class LWWElementSetBenchmark {
+    private static final int DEFAULT_ELEMENTS = 1_000_000;
+    private static final int DEFAULT_REPLICAS = 3;
+    private static final double DEFAULT_CHURN = 0.001;
+    private static final int DEFAULT_ROUNDS = 20;
+    private static final int FULL_STATE_REPLICAS = 2;
+    private static final long SEED = 42;
+
+    private LWWElementSetBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+        int replicaCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REPLICAS;
+        double churn = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_CHURN;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_ROUNDS;
+        int writesPerRound = Math.max(1, (int) (elements * churn));
+
+        System.out.println("implementation,replicas,elements,rounds,writes_per_round,entries_per_sync,us_per_sync,max_tombstones,final_tombstones");
+        runDelta(elements, replicaCount, writesPerRound, rounds);
+        runFullState(elements, writesPerRound, rounds);
+    }
+
+    private static void runDelta(int elements, int replicaCount, int writesPerRound, int rounds) {
+        long[] millis = {1};
+        @SuppressWarnings("unchecked")
+        DeltaLWWElementSet<Integer>[] replicas = (DeltaLWWElementSet<Integer>[]) new DeltaLWWElementSet<?>[replicaCount];
+        for (int i = 0; i < replicaCount; i++) {
+            replicas[i] = new DeltaLWWElementSet<>(i, replicaCount, new HybridLogicalClock(() -> millis[0]));
+        }
+        for (int key = 0; key < elements; key++) {
+            replicas[0].add(key);
+        }
+        for (int round = 0; round < replicaCount; round++) {
+            sync(replicas);
+        }
+
+        Random random = new Random(SEED);
+        long entries = 0;
+        long nanos = 0;
+        int maxTombstones = 0;
+        for (int round = 0; round < rounds; round++) {
+            millis[0]++;
+            for (int write = 0; write < writesPerRound; write++) {
+                DeltaLWWElementSet<Integer> replica = replicas[random.nextInt(replicaCount)];
+                int key = random.nextInt(2 * elements);
+                if (replica.contains(key)) {
+                    replica.remove(key);
+                } else {
+                    replica.add(key);
+                }
+            }
+
+            long start = System.nanoTime();
+            entries += sync(replicas);
+            for (DeltaLWWElementSet<Integer> replica : replicas) {
+                replica.collectGarbage();
+                maxTombstones = Math.max(maxTombstones, replica.tombstoneCount());
+            }
+            nanos += System.nanoTime() - start;
+        }
+
+        // quiet rounds until every write has travelled around the ring and every tombstone is stable
+        for (int round = 0; round < 2 * replicaCount; round++) {
+            sync(replicas);
+            for (DeltaLWWElementSet<Integer> replica : replicas) {
+                replica.collectGarbage();
+            }
+        }
+        for (int key = 0; key < 2 * elements; key++) {
+            for (DeltaLWWElementSet<Integer> replica : replicas) {
+                if (replica.contains(key) != replicas[0].contains(key)) {
+                    throw new IllegalStateException("Replicas disagree on " + key);
+                }
+            }
+        }
+        long syncs = (long) rounds * replicaCount;
+        System.out.println(String.format(Locale.ROOT, "DeltaLWWElementSet,%d,%d,%d,%d,%.1f,%.1f,%d,%d", replicaCount, elements, rounds, writesPerRound, (double) entries / syncs, nanos / 1e3 / syncs, maxTombstones, replicas[0].tombstoneCount()));
+    }
+
+    /**
+     * Lets every replica pull the writes it is missing from its successor.
+     *
+     * @return The number of entries sent.
+     */
+    private static long sync(DeltaLWWElementSet<Integer>[] replicas) {
+        long entries = 0;
+        for (int i = 0; i < replicas.length; i++) {
+            DeltaLWWElementSet<Integer> peer = replicas[(i + 1) % replicas.length];
+            DeltaLWWElementSet.Delta<Integer> delta = peer.deltaSince(i, replicas[i].versionVector());
+            replicas[i].merge(delta);
+            entries += delta.size();
+        }
+        return entries;
+    }
+
+    private static void runFullState(int elements, int writesPerRound, int rounds) {
+        LWWElementSet[] replicas = new LWWElementSet[FULL_STATE_REPLICAS];
+        for (int i = 0; i < replicas.length; i++) {
+            replicas[i] = new LWWElementSet();
+        }
+        long timestamp = 0;
+        for (int key = 0; key < elements; key++) {
+            replicas[0].add(Integer.toString(key), ++timestamp);
+        }
+        replicas[1].merge(replicas[0]);
+
+        Random random = new Random(SEED);
+        long nanos = 0;
+        long entries = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int write = 0; write < writesPerRound; write++) {
+                LWWElementSet replica = replicas[random.nextInt(replicas.length)];
+                String key = Integer.toString(random.nextInt(2 * elements));
+                if (replica.lookup(key)) {
+                    replica.remove(key, ++timestamp);
+                } else {
+                    replica.add(key, ++timestamp);
+                }
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < replicas.length; i++) {
+                LWWElementSet peer = replicas[(i + 1) % replicas.length];
+                replicas[i].merge(peer);
+                entries += peer.entryCount();
+            }
+            nanos += System.nanoTime() - start;
+        }
+        long syncs = (long) rounds * replicas.length;
+        System.out.println(String.format(Locale.ROOT, "LWWElementSet,%d,%d,%d,%d,%.1f,%.1f,-,-", replicas.length, elements, rounds, writesPerRound, (double) entries / syncs, nanos / 1e3 / syncs));
+    }
+}
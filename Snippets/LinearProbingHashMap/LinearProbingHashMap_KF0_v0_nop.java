@@ -29,28 +29,55 @@ import java.util.ArrayList;
  * ensuring efficient space utilization.
  * </p>
  *
+ * <p>
+ * Resizing is incremental: the old table is kept next to the new one and every operation moves a bounded number of
+ * old slots into the new table, so no single operation pays for copying the whole table. While a resize is in
+ * progress, lookups check the new table first and then the part of the old table that has not been moved yet.
+ * Keys deleted from that part are replaced by a tombstone so that the old probe sequences stay intact.
+ * The number of slots moved per operation is chosen when the resize starts, from the number of operations that
+ * must pass before the load factor can leave the range again, so a resize is always finished before the next
+ * one is due. A shrink, which can be followed by the next one soonest, moves 16 slots per operation.
+ * </p>
+ *
+ * <p>
+ * Deleting from the current table uses backward-shift deletion: the following entries of the cluster are moved
+ * back into the freed slot when their probe sequence allows it, so clusters never contain holes or tombstones.
+ * The table size is always a power of two, which lets the slot of a key be computed with a bit mask.
+ * </p>
+ *
  * @see <a href="https://en.wikipedia.org/wiki/Linear_probing">Linear Probing Hash Table</a>
  *
  * @param <Key> the type of keys maintained by this map
  * @param <Value> the type of mapped values
  */
 public class LinearProbingHashMap<Key extends Comparable<Key>, Value> extends Map<Key, Value> {
-    private int hsize; // size of the hash table
+    private static final int MIN_MIGRATION_STEP = 8; // least number of old slots moved per operation while resizing
+
+    @SuppressWarnings("rawtypes")
+    private static final Comparable TOMBSTONE = other -> 0; // marks deleted keys in the old table
+
+    private int hsize; // size of the hash table, always a power of two
     private Key[] keys; // array to store keys
     private Value[] values; // array to store values
     private int size; // number of elements in the hash table
 
+    private int oldHsize; // size of the table being resized away from
+    private Key[] oldKeys; // old keys, null when no resize is in progress
+    private Value[] oldValues; // old values, null when no resize is in progress
+    private int migrateIndex; // old slots below this index have been moved
+    private int migrationStep; // old slots moved per operation during the current resize
+
     // Default constructor initializes the table with a default size of 16
     public LinearProbingHashMap() {
         this(16);
     }
 
     @SuppressWarnings("unchecked")
-    // Constructor to initialize the hash table with a specified size
+    // Constructor to initialize the hash table with a specified size, rounded up to a power of two
     public LinearProbingHashMap(int size) {
-        this.hsize = size;
-        keys = (Key[]) new Comparable[size];
-        values = (Value[]) new Object[size];
+        this.hsize = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+        keys = newKeyArray(hsize);
+        values = (Value[]) new Object[hsize];
     }
 
     @Override
@@ -59,11 +86,12 @@ public class LinearProbingHashMap<Key extends Comparable<Key>, Value> extends Ma
             return false;
         }
 
+        migrateStep();
         if (size > hsize / 2) {
             resize(2 * hsize);
         }
 
-        int keyIndex = hash(key, hsize);
+        int keyIndex = indexFor(key, hsize);
         for (; keys[keyIndex] != null; keyIndex = increment(keyIndex)) {
             if (key.equals(keys[keyIndex])) {
                 values[keyIndex] = value;
@@ -71,6 +99,12 @@ public class LinearProbingHashMap<Key extends Comparable<Key>, Value> extends Ma
             }
         }
 
+        int oldIndex = findInOldTable(key);
+        if (oldIndex >= 0) {
+            oldValues[oldIndex] = value;
+            return true;
+        }
+
         keys[keyIndex] = key;
         values[keyIndex] = value;
         size++;
@@ -83,40 +117,48 @@ public class LinearProbingHashMap<Key extends Comparable<Key>, Value> extends Ma
             return null;
         }
 
-        for (int i = hash(key, hsize); keys[i] != null; i = increment(i)) {
-            if (key.equals(keys[i])) {
-                return values[i];
-            }
+        migrateStep();
+        int i = find(key);
+        if (i >= 0) {
+            return values[i];
         }
 
-        return null;
+        int oldIndex = findInOldTable(key);
+        return oldIndex >= 0 ? oldValues[oldIndex] : null;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean delete(Key key) {
-        if (key == null || !contains(key)) {
+        if (key == null) {
             return false;
         }
 
-        int i = hash(key, hsize);
-        while (!key.equals(keys[i])) {
-            i = increment(i);
+        migrateStep();
+        int gap = find(key);
+        if (gap < 0) {
+            int oldIndex = findInOldTable(key);
+            if (oldIndex < 0) {
+                return false;
+            }
+            oldKeys[oldIndex] = (Key) TOMBSTONE;
+            oldValues[oldIndex] = null;
+            size--;
+            return true;
         }
 
-        keys[i] = null;
-        values[i] = null;
-
-        i = increment(i);
-        while (keys[i] != null) {
-            // Save the key and value for rehashing
-            Key keyToRehash = keys[i];
-            Value valToRehash = values[i];
-            keys[i] = null;
-            values[i] = null;
-            size--;
-            put(keyToRehash, valToRehash);
-            i = increment(i);
+        // Shift later entries of the cluster back into the gap while their home slot allows it
+        int mask = hsize - 1;
+        for (int i = increment(gap); keys[i] != null; i = increment(i)) {
+            int home = indexFor(keys[i], hsize);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
         }
+        keys[gap] = null;
+        values[gap] = null;
 
         size--;
         if (size > 0 && size <= hsize / 8) {
@@ -144,25 +186,127 @@ public class LinearProbingHashMap<Key extends Comparable<Key>, Value> extends Ma
                 listOfKeys.add(keys[i]);
             }
         }
+        if (oldKeys != null) {
+            for (int i = migrateIndex; i < oldHsize; i++) {
+                if (oldKeys[i] != null && oldKeys[i] != TOMBSTONE) {
+                    listOfKeys.add(oldKeys[i]);
+                }
+            }
+        }
 
         listOfKeys.sort(Comparable::compareTo);
         return listOfKeys;
     }
 
+    /**
+     * Creates a key array of the given size. The array never leaves this map, so the cast is safe.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<K>> K[] newKeyArray(int size) {
+        return (K[]) new Comparable<?>[size];
+    }
+
     private int increment(int i) {
-        return (i + 1) % hsize;
+        return (i + 1) & (hsize - 1);
     }
 
-    private void resize(int newSize) {
-        LinearProbingHashMap<Key, Value> tmp = new LinearProbingHashMap<>(newSize);
-        for (int i = 0; i < hsize; i++) {
-            if (keys[i] != null) {
-                tmp.put(keys[i], values[i]);
+    /**
+     * Returns the home slot of a key in a table of the given power-of-two size.
+     * The high bits of the hash code are folded in so that they still influence the masked index.
+     */
+    private int indexFor(Key key, int tableSize) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (tableSize - 1);
+    }
+
+    /**
+     * Finds a key in the current table.
+     *
+     * @return the slot of the key, or -1 if the key is not in the current table
+     */
+    private int find(Key key) {
+        for (int i = indexFor(key, hsize); keys[i] != null; i = increment(i)) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores a key that is known to be absent from both tables into the current table.
+     */
+    private void insert(Key key, Value value) {
+        int i = indexFor(key, hsize);
+        while (keys[i] != null) {
+            i = increment(i);
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    /**
+     * Finds a key in the part of the old table that has not been moved yet.
+     *
+     * @return the old slot of the key, or -1 if no resize is in progress or the key is not there
+     */
+    private int findInOldTable(Key key) {
+        if (oldKeys == null) {
+            return -1;
+        }
+        for (int i = indexFor(key, oldHsize); oldKeys[i] != null; i = (i + 1) & (oldHsize - 1)) {
+            if (key.equals(oldKeys[i])) {
+                return i >= migrateIndex ? i : -1;
             }
         }
+        return -1;
+    }
+
+    /**
+     * Moves up to {@link #migrationStep} slots of the old table into the current table.
+     * The old slots are left untouched so that the old probe sequences stay intact.
+     */
+    private void migrateStep() {
+        if (oldKeys == null) {
+            return;
+        }
+        int end = Math.min(migrateIndex + migrationStep, oldHsize);
+        for (; migrateIndex < end; migrateIndex++) {
+            Key key = oldKeys[migrateIndex];
+            if (key != null && key != TOMBSTONE) {
+                insert(key, oldValues[migrateIndex]);
+            }
+        }
+        if (migrateIndex == oldHsize) {
+            oldKeys = null;
+            oldValues = null;
+        }
+    }
 
-        this.keys = tmp.keys;
-        this.values = tmp.values;
+    /**
+     * Starts moving the entries into a table of the given size.
+     * Every operation moves enough old slots for the move to end before {@code put} can grow the new table
+     * or {@code delete} can shrink it, since each of them changes the size by at most one. The loop that
+     * finishes a resize still in progress is only a safeguard.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int newSize) {
+        while (oldKeys != null) {
+            migrateStep();
+        }
+
+        oldKeys = keys;
+        oldValues = values;
+        oldHsize = hsize;
+        migrateIndex = 0;
+
+        this.keys = newKeyArray(newSize);
+        this.values = (Value[]) new Object[newSize];
         this.hsize = newSize;
+
+        int operationsUntilGrow = newSize / 2 - size + 1;
+        int operationsUntilShrink = size - newSize / 8;
+        int operationsLeft = Math.max(1, Math.min(operationsUntilGrow, operationsUntilShrink));
+        migrationStep = Math.max(MIN_MIGRATION_STEP, (oldHsize + operationsLeft - 1) / operationsLeft);
     }
 }
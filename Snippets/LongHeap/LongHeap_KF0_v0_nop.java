@@ -0,0 +1,229 @@
+package com.thealgorithms.datastructures.heaps;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary heap of primitive {@code long} keys stored in a {@code long} array,
+ * as a min-heap or a max-heap.
+ *
+ * <p>The heap is 0-based: the children of position {@code i} are {@code 2i + 1} and
+ * {@code 2i + 2}, so parents and children are found with integer arithmetic only.
+ * Sifting is iterative and moves a single hole instead of swapping at every level.
+ * Keys are never boxed, and the array only grows when the heap is full.</p>
+ *
+ * <p>A heap can be built from an array of keys in O(n) with
+ * {@link #minHeapOf(long...)} or {@link #maxHeapOf(long...)}. {@link #replaceTop(long)}
+ * removes the top and inserts a new key with a single sift, which is what a streaming
+ * top-k selection or a k-way merge does for every element.</p>
+ *
+ * <p>Values that need to travel with a key can be packed into the lower bits of the key;
+ * for example {@code ((long) value << 32) | source} orders by an {@code int} value first
+ * and by {@code source} second.</p>
+ *
+ * Example usage:
+ * <pre>
+ * LongHeap heap = LongHeap.minHeapOf(5, 2, 9);
+ * heap.replaceTop(7); // Returns 2, the heap now holds 5, 7 and 9
+ * long min = heap.poll(); // Returns 5
+ * </pre>
+ */
+public final class LongHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean maxHeap;
+    private long[] keys;
+    private int size;
+
+    private LongHeap(boolean maxHeap, long[] keys, int size) {
+        this.maxHeap = maxHeap;
+        this.keys = keys;
+        this.size = size;
+    }
+
+    /**
+     * @return an empty heap whose top is the smallest key
+     */
+    public static LongHeap minHeap() {
+        return minHeap(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of keys the heap holds before it grows
+     * @return an empty heap whose top is the smallest key
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static LongHeap minHeap(int initialCapacity) {
+        return new LongHeap(false, new long[checkCapacity(initialCapacity)], 0);
+    }
+
+    /**
+     * @return an empty heap whose top is the largest key
+     */
+    public static LongHeap maxHeap() {
+        return maxHeap(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of keys the heap holds before it grows
+     * @return an empty heap whose top is the largest key
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static LongHeap maxHeap(int initialCapacity) {
+        return new LongHeap(true, new long[checkCapacity(initialCapacity)], 0);
+    }
+
+    /**
+     * Builds a min-heap from a copy of the keys in O(n) time.
+     *
+     * @param keys the initial keys
+     * @return a heap whose top is the smallest key
+     */
+    public static LongHeap minHeapOf(long... keys) {
+        LongHeap heap = new LongHeap(false, Arrays.copyOf(keys, Math.max(keys.length, DEFAULT_CAPACITY)), keys.length);
+        heap.heapify();
+        return heap;
+    }
+
+    /**
+     * Builds a max-heap from a copy of the keys in O(n) time.
+     *
+     * @param keys the initial keys
+     * @return a heap whose top is the largest key
+     */
+    public static LongHeap maxHeapOf(long... keys) {
+        LongHeap heap = new LongHeap(true, Arrays.copyOf(keys, Math.max(keys.length, DEFAULT_CAPACITY)), keys.length);
+        heap.heapify();
+        return heap;
+    }
+
+    /**
+     * @return the number of keys in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the heap contains no keys
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all keys without releasing the array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a key to the heap.
+     *
+     * @param key the key to add
+     */
+    public void add(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(DEFAULT_CAPACITY, keys.length + (keys.length >> 1)));
+        }
+        siftUp(size++, key);
+    }
+
+    /**
+     * @return the top key, without removing it
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Removes and returns the top key.
+     *
+     * @return the smallest key of a min-heap or the largest key of a max-heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long poll() {
+        long top = peek();
+        size--;
+        if (size > 0) {
+            siftDown(0, keys[size]);
+        }
+        return top;
+    }
+
+    /**
+     * Replaces the top key with the given key, which is cheaper than {@link #poll()}
+     * followed by {@link #add(long)}.
+     *
+     * @param key the key to add
+     * @return the removed top key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long replaceTop(long key) {
+        long top = peek();
+        siftDown(0, key);
+        return top;
+    }
+
+    /**
+     * @return true if key a belongs above key b
+     */
+    private boolean above(long a, long b) {
+        return maxHeap ? a > b : a < b;
+    }
+
+    /**
+     * Moves the hole at position up until the key fits, then stores the key there.
+     */
+    private void siftUp(int position, long key) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!above(key, keys[parent])) {
+                break;
+            }
+            keys[position] = keys[parent];
+            position = parent;
+        }
+        keys[position] = key;
+    }
+
+    /**
+     * Moves the hole at position down until the key fits, then stores the key there.
+     */
+    private void siftDown(int position, long key) {
+        int half = size >>> 1; // positions below half have at least one child
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && above(keys[child + 1], keys[child])) {
+                child++;
+            }
+            if (!above(keys[child], key)) {
+                break;
+            }
+            keys[position] = keys[child];
+            position = child;
+        }
+        keys[position] = key;
+    }
+
+    /**
+     * Restores the heap order of the whole array bottom-up.
+     */
+    private void heapify() {
+        for (int position = (size >>> 1) - 1; position >= 0; position--) {
+            siftDown(position, keys[position]);
+        }
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        return capacity;
+    }
+}
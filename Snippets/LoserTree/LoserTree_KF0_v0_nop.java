@@ -0,0 +1,367 @@
+package com.thealgorithms.datastructures.heaps;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * K-way merge of sorted runs with a tournament tree of losers.
+ *
+ * <p>The k runs are the leaves of a complete binary tree. Every internal node remembers the
+ * run that lost the match played there, and the overall winner is kept above the root. After
+ * the winner has been emitted, only its own path to the root is replayed: at every level its
+ * next element is compared with the loser stored there, which is exactly ⌈log2 k⌉ comparisons
+ * per element. A binary heap needs up to two comparisons per level when it sifts down, so the
+ * loser tree does about half the work for large k. Every match on the path is played, whoever
+ * wins, so the {@code int} merges replay it with {@code min} and {@code max} instead of branches.</p>
+ *
+ * <p>Four kinds of runs are supported:</p>
+ * <ul>
+ *   <li>{@code int} arrays, merged into a destination array without any allocation per element;</li>
+ *   <li>{@link PrimitiveIterator.OfInt} streams, merged lazily into another {@code OfInt};</li>
+ *   <li>{@link PrimitiveIterator.OfLong} streams, merged lazily into another {@code OfLong};</li>
+ *   <li>{@link Iterator} streams of any type with a {@link Comparator}, merged lazily.</li>
+ * </ul>
+ * <p>The iterator variants pull the next element of a run only after its previous element has
+ * been returned, so runs can be read from disk or from the network without loading them fully.
+ * Equal elements are returned in the order of their runs, so all merges are stable.</p>
+ *
+ * Example usage:
+ * <pre>
+ * int[] merged = new int[6];
+ * LoserTree.merge(new int[][] {{1, 4}, {2, 5, 6}, {3}}, merged); // merged = [1, 2, 3, 4, 5, 6]
+ * </pre>
+ */
+public final class LoserTree {
+    /** Key of a run without further elements; larger than the key of any {@code int} element */
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private LoserTree() {
+    }
+
+    /**
+     * Merges sorted arrays into the destination array.
+     *
+     * @param runs the arrays to merge, each sorted in non-decreasing order
+     * @param destination receives all elements in sorted order, starting at index 0
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException if the destination is too small for all elements
+     */
+    public static int merge(int[][] runs, int[] destination) {
+        int k = runs.length;
+        long total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        if (total > destination.length) {
+            throw new IllegalArgumentException("Destination has room for " + destination.length + " of " + total + " elements");
+        }
+        if (k == 0) {
+            return 0;
+        }
+
+        long[] keys = new long[k];
+        int[] positions = new int[k];
+        for (int run = 0; run < k; run++) {
+            keys[run] = runs[run].length > 0 ? key(runs[run][0], run) : EXHAUSTED;
+        }
+        long[] tree = build(keys);
+
+        for (int index = 0; index < total; index++) {
+            long winnerKey = tree[0];
+            int winner = (int) winnerKey;
+            destination[index] = (int) (winnerKey >> 32);
+            int[] run = runs[winner];
+            int next = ++positions[winner];
+            replay(tree, winner, next < run.length ? key(run[next], winner) : EXHAUSTED);
+        }
+        return (int) total;
+    }
+
+    /**
+     * Merges sorted streams of {@code int} lazily.
+     *
+     * @param runs the streams to merge, each sorted in non-decreasing order
+     * @return a stream of all elements in sorted order
+     */
+    public static PrimitiveIterator.OfInt merge(List<? extends PrimitiveIterator.OfInt> runs) {
+        PrimitiveIterator.OfInt[] sources = runs.toArray(new PrimitiveIterator.OfInt[0]);
+        long[] keys = new long[Math.max(sources.length, 1)];
+        keys[0] = EXHAUSTED;
+        for (int run = 0; run < sources.length; run++) {
+            keys[run] = sources[run].hasNext() ? key(sources[run].nextInt(), run) : EXHAUSTED;
+        }
+        long[] tree = build(keys);
+
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return tree[0] != EXHAUSTED;
+            }
+
+            @Override
+            public int nextInt() {
+                long winnerKey = tree[0];
+                if (winnerKey == EXHAUSTED) {
+                    throw new NoSuchElementException();
+                }
+                int winner = (int) winnerKey;
+                PrimitiveIterator.OfInt source = sources[winner];
+                replay(tree, winner, source.hasNext() ? key(source.nextInt(), winner) : EXHAUSTED);
+                return (int) (winnerKey >> 32);
+            }
+        };
+    }
+
+    /**
+     * Merges sorted streams of any type lazily.
+     *
+     * @param runs the streams to merge, each sorted according to the comparator
+     * @param comparator the order of the elements
+     * @param <T> the type of the elements
+     * @return a stream of all elements in sorted order
+     */
+    public static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> runs, Comparator<? super T> comparator) {
+        return new ObjectMerger<>(runs, comparator);
+    }
+
+    /**
+     * Merges sorted streams of {@code long} lazily. Since a {@code long} leaves no room for
+     * the index of its run, the tree stores the index of every loser next to its element.
+     *
+     * @param runs the streams to merge, each sorted in non-decreasing order
+     * @return a stream of all elements in sorted order
+     */
+    public static PrimitiveIterator.OfLong mergeLongs(List<? extends PrimitiveIterator.OfLong> runs) {
+        return new LongMerger(runs);
+    }
+
+    /**
+     * @return the key of an element: the element in the upper 32 bits and its run in the lower
+     *         32 bits, so that keys order by element and then by run, and the run of a key is
+     *         its lower half
+     */
+    private static long key(int element, int run) {
+        return ((long) element << 32) | run;
+    }
+
+    /**
+     * Plays the initial tournament. Leaf {@code i} is node {@code k + i} and node {@code n} has the
+     * children {@code 2n} and {@code 2n + 1}, which gives a complete tree for every k.
+     *
+     * <p>The tree stores keys instead of run indexes: since every key contains its run, the path of
+     * a run can be replayed without looking up the current key of each loser in a second array.
+     * Exhausted runs do not need to be told apart, as they never win while any run has elements.</p>
+     *
+     * @param keys the key of the first element of every run
+     * @return the keys that lost at the internal nodes 1 to k - 1, with the winning key at index 0
+     */
+    private static long[] build(long[] keys) {
+        int k = keys.length;
+        long[] winners = new long[2 * k];
+        long[] tree = new long[k];
+        System.arraycopy(keys, 0, winners, k, k);
+        for (int node = k - 1; node > 0; node--) {
+            long left = winners[2 * node];
+            long right = winners[2 * node + 1];
+            winners[node] = Math.min(left, right);
+            tree[node] = Math.max(left, right);
+        }
+        tree[0] = winners[1];
+        return tree;
+    }
+
+    /**
+     * Replays the matches on the path from the leaf of the run to the root with the new key of the run.
+     */
+    private static void replay(long[] tree, int run, long key) {
+        long winnerKey = key;
+        for (int node = (run + tree.length) >>> 1; node > 0; node >>>= 1) {
+            // min and max instead of a branch that random keys mispredict half of the time
+            long loserKey = tree[node];
+            tree[node] = Math.max(loserKey, winnerKey);
+            winnerKey = Math.min(loserKey, winnerKey);
+        }
+        tree[0] = winnerKey;
+    }
+
+    /**
+     * Loser tree over the current elements of iterators, compared with a comparator.
+     */
+    private static final class ObjectMerger<T> implements Iterator<T> {
+        private final Iterator<? extends T>[] sources;
+        private final Comparator<? super T> comparator;
+        private final Object[] heads;
+        private final boolean[] exhausted;
+        private final int[] losers;
+
+        @SuppressWarnings("unchecked")
+        ObjectMerger(List<? extends Iterator<? extends T>> runs, Comparator<? super T> comparator) {
+            this.sources = (Iterator<? extends T>[]) runs.toArray(new Iterator<?>[0]);
+            this.comparator = comparator;
+            int k = Math.max(sources.length, 1);
+            this.heads = new Object[k];
+            this.exhausted = new boolean[k];
+            this.losers = new int[k];
+            exhausted[0] = sources.length == 0;
+            for (int run = 0; run < sources.length; run++) {
+                advance(run);
+            }
+
+            int[] winners = new int[2 * k];
+            for (int run = 0; run < k; run++) {
+                winners[k + run] = run;
+            }
+            for (int node = k - 1; node > 0; node--) {
+                int left = winners[2 * node];
+                int right = winners[2 * node + 1];
+                if (beats(right, left)) {
+                    winners[node] = right;
+                    losers[node] = left;
+                } else {
+                    winners[node] = left;
+                    losers[node] = right;
+                }
+            }
+            losers[0] = winners[1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !exhausted[losers[0]];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            int winner = losers[0];
+            if (exhausted[winner]) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) heads[winner];
+            advance(winner);
+            for (int node = (winner + losers.length) >>> 1; node > 0; node >>>= 1) {
+                int loser = losers[node];
+                if (beats(loser, winner)) {
+                    losers[node] = winner;
+                    winner = loser;
+                }
+            }
+            losers[0] = winner;
+            return element;
+        }
+
+        /**
+         * Moves the head of the run to its next element.
+         */
+        private void advance(int run) {
+            if (sources[run].hasNext()) {
+                heads[run] = sources[run].next();
+            } else {
+                heads[run] = null;
+                exhausted[run] = true;
+            }
+        }
+
+        /**
+         * @return true if the head of run a comes before the head of run b
+         */
+        @SuppressWarnings("unchecked")
+        private boolean beats(int a, int b) {
+            if (exhausted[a] || exhausted[b]) {
+                return !exhausted[a];
+            }
+            int comparison = comparator.compare((T) heads[a], (T) heads[b]);
+            return comparison < 0 || (comparison == 0 && a < b);
+        }
+    }
+
+    /**
+     * Loser tree over the current elements of {@code long} streams. Every node stores the key and
+     * the run of its loser side by side, so a replay reads one node per level. An exhausted run
+     * has the key {@code Long.MAX_VALUE} and a run index above all real runs, which makes it lose
+     * against every element, including {@code Long.MAX_VALUE} itself.
+     */
+    private static final class LongMerger implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong[] sources;
+        private final long[] keys;
+        private final int[] runs;
+
+        LongMerger(List<? extends PrimitiveIterator.OfLong> runList) {
+            this.sources = runList.toArray(new PrimitiveIterator.OfLong[0]);
+            int k = Math.max(sources.length, 1);
+            long[] winnerKeys = new long[2 * k];
+            int[] winnerRuns = new int[2 * k];
+            for (int run = 0; run < k; run++) {
+                boolean present = run < sources.length && sources[run].hasNext();
+                winnerKeys[k + run] = present ? sources[run].nextLong() : Long.MAX_VALUE;
+                winnerRuns[k + run] = present ? run : exhaustedRun(run);
+            }
+            this.keys = new long[k];
+            this.runs = new int[k];
+            for (int node = k - 1; node > 0; node--) {
+                int left = 2 * node;
+                int right = left + 1;
+                int winner = before(winnerKeys[right], winnerRuns[right], winnerKeys[left], winnerRuns[left]) ? right : left;
+                int loser = winner ^ 1;
+                winnerKeys[node] = winnerKeys[winner];
+                winnerRuns[node] = winnerRuns[winner];
+                keys[node] = winnerKeys[loser];
+                runs[node] = winnerRuns[loser];
+            }
+            keys[0] = winnerKeys[1];
+            runs[0] = winnerRuns[1];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return runs[0] < sources.length;
+        }
+
+        @Override
+        public long nextLong() {
+            int run = runs[0];
+            if (run >= sources.length) {
+                throw new NoSuchElementException();
+            }
+            long element = keys[0];
+
+            PrimitiveIterator.OfLong source = sources[run];
+            long winnerKey = Long.MAX_VALUE;
+            int winnerRun = exhaustedRun(run);
+            if (source.hasNext()) {
+                winnerKey = source.nextLong();
+                winnerRun = run;
+            }
+            for (int node = (run + keys.length) >>> 1; node > 0; node >>>= 1) {
+                long loserKey = keys[node];
+                int loserRun = runs[node];
+                if (before(loserKey, loserRun, winnerKey, winnerRun)) {
+                    keys[node] = winnerKey;
+                    runs[node] = winnerRun;
+                    winnerKey = loserKey;
+                    winnerRun = loserRun;
+                }
+            }
+            keys[0] = winnerKey;
+            runs[0] = winnerRun;
+            return element;
+        }
+
+        /**
+         * @return the run index that marks the run as exhausted, unique per run
+         */
+        private int exhaustedRun(int run) {
+            return sources.length + run;
+        }
+
+        /**
+         * @return true if element keyA of run runA comes before element keyB of run runB
+         */
+        private static boolean before(long keyA, int runA, long keyB, int runB) {
+            return keyA < keyB || (keyA == keyB && runA < runB);
+        }
+    }
+}
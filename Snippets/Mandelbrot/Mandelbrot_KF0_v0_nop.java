@@ -2,8 +2,11 @@ package com.thealgorithms.others;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.File;
 import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import javax.imageio.ImageIO;
 
 /**
@@ -24,6 +27,10 @@ import javax.imageio.ImageIO;
  * )
  */
 public final class Mandelbrot {
+    private static final int TILE_SIZE = 64;
+    private static final int PROGRESSIVE_BLOCK_SIZE = 16;
+    private static final double PERIODICITY_EPSILON = 1e-13;
+
     private Mandelbrot() {
     }
 
@@ -46,6 +53,16 @@ public final class Mandelbrot {
         // Pixel inside the Mandelbrot set should be black.
         assert coloredImage.getRGB(400, 300) == new Color(0, 0, 0).getRGB();
 
+        // Parallel rendering should produce the same image as sequential rendering
+        BufferedImage parallelImage = getImageParallel(800, 600, -0.6, 0, 3.2, 50, true);
+        assert parallelImage.getRGB(0, 0) == coloredImage.getRGB(0, 0);
+        assert parallelImage.getRGB(400, 300) == coloredImage.getRGB(400, 300);
+        assert parallelImage.getRGB(250, 150) == coloredImage.getRGB(250, 150);
+
+        // The last pass of progressive rendering should be the full-resolution image
+        BufferedImage progressiveImage = getImageProgressive(800, 600, -0.6, 0, 3.2, 50, true, pass -> {});
+        assert progressiveImage.getRGB(250, 150) == coloredImage.getRGB(250, 150);
+
         // Save image
         try {
             ImageIO.write(coloredImage, "png", new File("Mandelbrot.png"));
@@ -73,36 +90,157 @@ public final class Mandelbrot {
      * @return The image of the rendered Mandelbrot set.
      */
     public static BufferedImage getImage(int imageWidth, int imageHeight, double figureCenterX, double figureCenterY, double figureWidth, int maxStep, boolean useDistanceColorCoding) {
-        if (imageWidth <= 0) {
-            throw new IllegalArgumentException("imageWidth should be greater than zero");
-        }
+        validateArguments(imageWidth, imageHeight, maxStep);
 
-        if (imageHeight <= 0) {
-            throw new IllegalArgumentException("imageHeight should be greater than zero");
-        }
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int[] palette = getPalette(maxStep, useDistanceColorCoding);
+        renderTile(pixels, palette, 0, 0, imageWidth, imageHeight, imageWidth, imageHeight, figureCenterX, figureCenterY, figureWidth, maxStep);
+        return image;
+    }
 
-        if (maxStep <= 0) {
-            throw new IllegalArgumentException("maxStep should be greater than zero");
-        }
+    /**
+     * Same as {@link #getImage}, but splits the image into square tiles of
+     * {@value #TILE_SIZE} pixels that are rendered in parallel on the common
+     * fork-join pool. The result is identical to that of {@link #getImage}.
+     *
+     * @param imageWidth The width of the rendered image.
+     * @param imageHeight The height of the rendered image.
+     * @param figureCenterX The x-coordinate of the center of the figure.
+     * @param figureCenterY The y-coordinate of the center of the figure.
+     * @param figureWidth The width of the figure.
+     * @param maxStep Maximum number of steps to check for divergent behavior.
+     * @param useDistanceColorCoding Render in color or black and white.
+     * @return The image of the rendered Mandelbrot set.
+     */
+    public static BufferedImage getImageParallel(int imageWidth, int imageHeight, double figureCenterX, double figureCenterY, double figureWidth, int maxStep, boolean useDistanceColorCoding) {
+        validateArguments(imageWidth, imageHeight, maxStep);
+
+        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int[] palette = getPalette(maxStep, useDistanceColorCoding);
+        int tilesX = (imageWidth + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (imageHeight + TILE_SIZE - 1) / TILE_SIZE;
+
+        // tiles write to disjoint parts of the pixel array, so they need no synchronization
+        IntStream.range(0, tilesX * tilesY).parallel().forEach(tile -> {
+            int startX = (tile % tilesX) * TILE_SIZE;
+            int startY = (tile / tilesX) * TILE_SIZE;
+            int endX = Math.min(startX + TILE_SIZE, imageWidth);
+            int endY = Math.min(startY + TILE_SIZE, imageHeight);
+            renderTile(pixels, palette, startX, startY, endX, endY, imageWidth, imageHeight, figureCenterX, figureCenterY, figureWidth, maxStep);
+        });
+        return image;
+    }
+
+    /**
+     * Renders the image in passes of decreasing block size, starting with
+     * blocks of {@value #PROGRESSIVE_BLOCK_SIZE} x {@value #PROGRESSIVE_BLOCK_SIZE}
+     * pixels and halving the block size until single pixels are reached. Each
+     * pass only computes the pixels that no earlier pass has computed and
+     * fills the block of each such pixel with its color, so the image becomes
+     * sharper after every pass while every pixel is computed exactly once.
+     * After each pass, the image is handed to the given consumer, e.g. to
+     * display a coarse preview early. The final image is identical to that of
+     * {@link #getImage}.
+     *
+     * @param imageWidth The width of the rendered image.
+     * @param imageHeight The height of the rendered image.
+     * @param figureCenterX The x-coordinate of the center of the figure.
+     * @param figureCenterY The y-coordinate of the center of the figure.
+     * @param figureWidth The width of the figure.
+     * @param maxStep Maximum number of steps to check for divergent behavior.
+     * @param useDistanceColorCoding Render in color or black and white.
+     * @param onPass Receives the image after each pass; it is refined in place by later passes.
+     * @return The image of the rendered Mandelbrot set.
+     */
+    public static BufferedImage getImageProgressive(int imageWidth, int imageHeight, double figureCenterX, double figureCenterY, double figureWidth, int maxStep, boolean useDistanceColorCoding, Consumer<BufferedImage> onPass) {
+        validateArguments(imageWidth, imageHeight, maxStep);
 
         BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int[] palette = getPalette(maxStep, useDistanceColorCoding);
+        double figureHeight = figureWidth / imageWidth * imageHeight;
+
+        for (int blockSize = PROGRESSIVE_BLOCK_SIZE; blockSize >= 1; blockSize /= 2) {
+            int size = blockSize;
+            int previousSize = blockSize == PROGRESSIVE_BLOCK_SIZE ? 0 : 2 * blockSize;
+            int blockRows = (imageHeight + size - 1) / size;
+
+            IntStream.range(0, blockRows).parallel().forEach(blockRow -> {
+                int imageY = blockRow * size;
+                double figureY = figureCenterY + ((double) imageY / imageHeight - 0.5) * figureHeight;
+                int endY = Math.min(imageY + size, imageHeight);
+                for (int imageX = 0; imageX < imageWidth; imageX += size) {
+                    // pixels on the grid of the previous pass already have their color
+                    if (previousSize != 0 && imageX % previousSize == 0 && imageY % previousSize == 0) {
+                        continue;
+                    }
+                    double figureX = figureCenterX + ((double) imageX / imageWidth - 0.5) * figureWidth;
+                    int color = palette[getSteps(figureX, figureY, maxStep)];
+                    int endX = Math.min(imageX + size, imageWidth);
+                    for (int y = imageY; y < endY; y++) {
+                        for (int x = imageX; x < endX; x++) {
+                            pixels[y * imageWidth + x] = color;
+                        }
+                    }
+                }
+            });
+            onPass.accept(image);
+        }
+        return image;
+    }
+
+    /**
+     * Renders the pixels in the rectangle [startX, endX) x [startY, endY) of
+     * the image directly into its row-major pixel array.
+     */
+    private static void renderTile(int[] pixels, int[] palette, int startX, int startY, int endX, int endY, int imageWidth, int imageHeight, double figureCenterX, double figureCenterY, double figureWidth, int maxStep) {
         double figureHeight = figureWidth / imageWidth * imageHeight;
 
         // loop through the image-coordinates
-        for (int imageX = 0; imageX < imageWidth; imageX++) {
-            for (int imageY = 0; imageY < imageHeight; imageY++) {
+        for (int imageY = startY; imageY < endY; imageY++) {
+            double figureY = figureCenterY + ((double) imageY / imageHeight - 0.5) * figureHeight;
+            int rowOffset = imageY * imageWidth;
+            for (int imageX = startX; imageX < endX; imageX++) {
                 // determine the figure-coordinates based on the image-coordinates
                 double figureX = figureCenterX + ((double) imageX / imageWidth - 0.5) * figureWidth;
-                double figureY = figureCenterY + ((double) imageY / imageHeight - 0.5) * figureHeight;
 
-                double distance = getDistance(figureX, figureY, maxStep);
-
-                // color the corresponding pixel based on the selected coloring-function
-                image.setRGB(imageX, imageY, useDistanceColorCoding ? colorCodedColorMap(distance).getRGB() : blackAndWhiteColorMap(distance).getRGB());
+                // color the corresponding pixel with the precomputed color of its step count
+                pixels[rowOffset + imageX] = palette[getSteps(figureX, figureY, maxStep)];
             }
         }
+    }
+
+    /**
+     * Precomputes the RGB value for every possible number of steps, so that
+     * no color has to be computed or allocated per pixel.
+     *
+     * @param maxStep Maximum number of steps to check for divergent behavior.
+     * @param useDistanceColorCoding Render in color or black and white.
+     * @return The RGB values indexed by the number of steps taken.
+     */
+    private static int[] getPalette(int maxStep, boolean useDistanceColorCoding) {
+        int[] palette = new int[maxStep];
+        for (int step = 0; step < maxStep; step++) {
+            double distance = (double) step / (maxStep - 1);
+            palette[step] = useDistanceColorCoding ? colorCodedColorMap(distance).getRGB() : blackAndWhiteColorMap(distance).getRGB();
+        }
+        return palette;
+    }
 
-        return image;
+    private static void validateArguments(int imageWidth, int imageHeight, int maxStep) {
+        if (imageWidth <= 0) {
+            throw new IllegalArgumentException("imageWidth should be greater than zero");
+        }
+
+        if (imageHeight <= 0) {
+            throw new IllegalArgumentException("imageHeight should be greater than zero");
+        }
+
+        if (maxStep <= 0) {
+            throw new IllegalArgumentException("maxStep should be greater than zero");
+        }
     }
 
     /**
@@ -158,18 +296,33 @@ public final class Mandelbrot {
     }
 
     /**
-     * Return the relative distance (ratio of steps taken to maxStep) after
-     * which the complex number constituted by this x-y-pair diverges. Members
-     * of the Mandelbrot set do not diverge so their distance is 1.
+     * Return the number of steps after which the complex number constituted
+     * by this x-y-pair diverges. Members of the Mandelbrot set do not diverge
+     * so their number of steps is maxStep - 1; dividing the result by
+     * maxStep - 1 gives the relative distance used by the color maps.
+     *
+     * <p>Points inside the main cardioid or the period-2 bulb are known
+     * members and are not iterated at all. For other points, the orbit is
+     * compared against a saved point whose distance in steps doubles
+     * periodically (Brent's cycle detection); an orbit that returns to the
+     * saved point is periodic and therefore belongs to the set.
      *
      * @param figureX The x-coordinate within the figure.
-     * @param figureX The y-coordinate within the figure.
+     * @param figureY The y-coordinate within the figure.
      * @param maxStep Maximum number of steps to check for divergent behavior.
-     * @return The relative distance as the ratio of steps taken to maxStep.
+     * @return The number of steps taken, between 0 and maxStep - 1.
      */
-    private static double getDistance(double figureX, double figureY, int maxStep) {
+    private static int getSteps(double figureX, double figureY, int maxStep) {
+        if (isInMainCardioidOrPeriod2Bulb(figureX, figureY)) {
+            return maxStep - 1;
+        }
+
         double a = figureX;
         double b = figureY;
+        double savedA = a;
+        double savedB = b;
+        int period = 0;
+        int periodLimit = 8;
         int currentStep = 0;
         for (int step = 0; step < maxStep; step++) {
             currentStep = step;
@@ -182,7 +335,36 @@ public final class Mandelbrot {
             if (a * a + b * b > 4) {
                 break;
             }
+
+            // an orbit that revisits a previous point is periodic and never diverges
+            if (Math.abs(a - savedA) < PERIODICITY_EPSILON && Math.abs(b - savedB) < PERIODICITY_EPSILON) {
+                return maxStep - 1;
+            }
+            if (++period == periodLimit) {
+                period = 0;
+                periodLimit *= 2;
+                savedA = a;
+                savedB = b;
+            }
+        }
+        return currentStep;
+    }
+
+    /**
+     * Checks whether a point lies inside the main cardioid or the period-2
+     * bulb, the two largest regions of the Mandelbrot set, using their closed
+     * form boundaries.
+     *
+     * @param x The x-coordinate within the figure.
+     * @param y The y-coordinate within the figure.
+     * @return Whether the point is inside one of the two regions.
+     */
+    private static boolean isInMainCardioidOrPeriod2Bulb(double x, double y) {
+        double ySquared = y * y;
+        double q = (x - 0.25) * (x - 0.25) + ySquared;
+        if (q * (q + (x - 0.25)) <= 0.25 * ySquared) {
+            return true;
         }
-        return (double) currentStep / (maxStep - 1);
+        return (x + 1) * (x + 1) + ySquared <= 0.0625;
     }
 }
@@ -0,0 +1,80 @@
+package com.thealgorithms.others;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how {@link Mandelbrot#getImageParallel} scales with the number of cores, at 800x600 and
+ * at 3840x2160, against the sequential {@link Mandelbrot#getImage}.
+ *
+ * <p>The parallel renderer runs its tiles on the fork-join pool it is called from, so every
+ * thread count gets its own {@link ForkJoinPool} of that parallelism. The thread counts are 1,
+ * 2, 4, ... up to the maximum, and the maximum itself. Every measurement renders the full view of
+ * the set, is run twice and reports the second run, so that it is compiled. Every parallel image
+ * is checked to be identical to the sequential one. The results are written as CSV to standard
+ * output, with the speedup over the sequential renderer.</p>
+ *
+ * <p>The arguments are the maximum number of threads (the number of available processors by
+ * default) and the maximum number of steps per pixel (500).</p>
+ */
+public final class MandelbrotBenchmark {
+    private static final int[][] SIZES = {{800, 600}, {3840, 2160}};
+    private static final int DEFAULT_MAX_STEP = 500;
+    private static final double CENTER_X = -0.6;
+    private static final double CENTER_Y = 0;
+    private static final double FIGURE_WIDTH = 3.2;
+
+    private MandelbrotBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int maxStep = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_STEP;
+
+        System.out.println("width,height,renderer,threads,ms,megapixels_per_second,speedup");
+        for (int[] size : SIZES) {
+            int width = size[0];
+            int height = size[1];
+
+            int[] expected = null;
+            long sequentialNanos = 0;
+            for (int round = 0; round < 2; round++) {
+                long start = System.nanoTime();
+                BufferedImage image = Mandelbrot.getImage(width, height, CENTER_X, CENTER_Y, FIGURE_WIDTH, maxStep, true);
+                sequentialNanos = System.nanoTime() - start;
+                expected = pixels(image);
+            }
+            report(width, height, "getImage", 1, sequentialNanos, sequentialNanos);
+
+            for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads && 2 * threads > maxThreads ? maxThreads : 2 * threads) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    long nanos = 0;
+                    for (int round = 0; round < 2; round++) {
+                        long start = System.nanoTime();
+                        BufferedImage image = pool.submit(() -> Mandelbrot.getImageParallel(width, height, CENTER_X, CENTER_Y, FIGURE_WIDTH, maxStep, true)).get();
+                        nanos = System.nanoTime() - start;
+                        if (!Arrays.equals(pixels(image), expected)) {
+                            throw new IllegalStateException("Parallel image with " + threads + " threads differs from the sequential image");
+                        }
+                    }
+                    report(width, height, "getImageParallel", threads, nanos, sequentialNanos);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static void report(int width, int height, String renderer, int threads, long nanos, long sequentialNanos) {
+        System.out.println(String.format(Locale.ROOT, "%d,%d,%s,%d,%.1f,%.2f,%.2f", width, height, renderer, threads, nanos / 1e6, (double) width * height * 1e3 / nanos, (double) sequentialNanos / nanos));
+    }
+}
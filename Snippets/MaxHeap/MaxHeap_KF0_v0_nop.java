@@ -65,24 +65,27 @@ public class MaxHeap implements Heap {
      * @param elementIndex 1-based index of the element to heapify
      */
     private void heapifyDown(int elementIndex) {
-        int largest = elementIndex - 1;
-        int leftChild = 2 * elementIndex - 1;
-        int rightChild = 2 * elementIndex;
+        while (true) {
+            int largest = elementIndex - 1;
+            int leftChild = 2 * elementIndex - 1;
+            int rightChild = 2 * elementIndex;
 
-        if (leftChild < maxHeap.size() && maxHeap.get(leftChild).getKey() > maxHeap.get(largest).getKey()) {
-            largest = leftChild;
-        }
+            if (leftChild < maxHeap.size() && maxHeap.get(leftChild).getKey() > maxHeap.get(largest).getKey()) {
+                largest = leftChild;
+            }
 
-        if (rightChild < maxHeap.size() && maxHeap.get(rightChild).getKey() > maxHeap.get(largest).getKey()) {
-            largest = rightChild;
-        }
+            if (rightChild < maxHeap.size() && maxHeap.get(rightChild).getKey() > maxHeap.get(largest).getKey()) {
+                largest = rightChild;
+            }
 
-        if (largest != elementIndex - 1) {
+            if (largest == elementIndex - 1) {
+                return;
+            }
             HeapElement swap = maxHeap.get(elementIndex - 1);
             maxHeap.set(elementIndex - 1, maxHeap.get(largest));
             maxHeap.set(largest, swap);
 
-            heapifyDown(largest + 1);
+            elementIndex = largest + 1;
         }
     }
 
@@ -135,9 +138,9 @@ public class MaxHeap implements Heap {
      */
     private void toggleUp(int elementIndex) {
         double key = maxHeap.get(elementIndex - 1).getKey();
-        while (elementIndex > 1 && getElementKey((int) Math.floor(elementIndex / 2.0)) < key) {
-            swap(elementIndex, (int) Math.floor(elementIndex / 2.0));
-            elementIndex = (int) Math.floor(elementIndex / 2.0);
+        while (elementIndex > 1 && getElementKey(elementIndex / 2) < key) {
+            swap(elementIndex, elementIndex / 2);
+            elementIndex = elementIndex / 2;
         }
     }
 
@@ -212,7 +215,7 @@ public class MaxHeap implements Heap {
         // No need to toggle if we just removed the last element
         if (!maxHeap.isEmpty() && elementIndex <= maxHeap.size()) {
             // Determine whether to toggle up or down
-            if (elementIndex > 1 && getElementKey(elementIndex) > getElementKey((int) Math.floor(elementIndex / 2.0))) {
+            if (elementIndex > 1 && getElementKey(elementIndex) > getElementKey(elementIndex / 2)) {
                 toggleUp(elementIndex);
             } else {
                 toggleDown(elementIndex);
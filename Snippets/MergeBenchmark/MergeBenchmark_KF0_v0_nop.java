@@ -0,0 +1,129 @@
+package com.thealgorithms.datastructures.heaps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Measures the throughput of k-way merges for k from 2 to 1024.
+ *
+ * <p>For every k, the same number of random {@code int}s is split into k sorted runs of
+ * equal length and merged with:</p>
+ * <ul>
+ *   <li>a {@link PriorityQueue} of {@code int[]} entries, as {@link MergeKSortedArrays} used to do;</li>
+ *   <li>{@link MergeKSortedArrays#mergeKArraysWithHeap(int[][], int[])} on a {@link LongHeap};</li>
+ *   <li>{@link LoserTree#merge(int[][], int[])} over the arrays;</li>
+ *   <li>{@link LoserTree#merge(List)} over {@link PrimitiveIterator.OfInt} streams of the arrays.</li>
+ * </ul>
+ *
+ * <p>The total number of elements is given as first argument (4,000,000 by default). The runs
+ * are generated from a fixed seed, and every merge must produce the same result as
+ * {@link Arrays#sort(int[])}. Each merge is run twice and the second run is reported, so that
+ * it is compiled.</p>
+ *
+ * <p>The results are written as CSV to standard output.</p>
+ */
+public final class MergeBenchmark {
+    private static final int DEFAULT_ELEMENT_COUNT = 4_000_000;
+    private static final int MAX_RUNS = 1024;
+    private static final long SEED = 42;
+
+    private MergeBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int elementCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ELEMENT_COUNT;
+        System.out.println("implementation,k,elements,ns_per_element,million_elements_per_second");
+
+        for (int k = 2; k <= MAX_RUNS; k *= 2) {
+            int[][] runs = createRuns(k, elementCount / k);
+            int[] expected = Arrays.stream(runs).flatMapToInt(Arrays::stream).sorted().toArray();
+            int[] merged = new int[expected.length];
+
+            long nanos = 0;
+            for (int round = 0; round < 2; round++) {
+                long start = System.nanoTime();
+                mergeWithPriorityQueue(runs, merged);
+                nanos = System.nanoTime() - start;
+            }
+            report("PriorityQueue", k, merged, expected, nanos);
+
+            for (int round = 0; round < 2; round++) {
+                Arrays.fill(merged, 0);
+                long start = System.nanoTime();
+                MergeKSortedArrays.mergeKArraysWithHeap(runs, merged);
+                nanos = System.nanoTime() - start;
+            }
+            report("LongHeap", k, merged, expected, nanos);
+
+            for (int round = 0; round < 2; round++) {
+                Arrays.fill(merged, 0);
+                long start = System.nanoTime();
+                LoserTree.merge(runs, merged);
+                nanos = System.nanoTime() - start;
+            }
+            report("LoserTree", k, merged, expected, nanos);
+
+            for (int round = 0; round < 2; round++) {
+                Arrays.fill(merged, 0);
+                long start = System.nanoTime();
+                List<PrimitiveIterator.OfInt> streams = new ArrayList<>(k);
+                for (int[] run : runs) {
+                    streams.add(Arrays.stream(run).iterator());
+                }
+                PrimitiveIterator.OfInt iterator = LoserTree.merge(streams);
+                for (int index = 0; iterator.hasNext(); index++) {
+                    merged[index] = iterator.nextInt();
+                }
+                nanos = System.nanoTime() - start;
+            }
+            report("LoserTree(iterator)", k, merged, expected, nanos);
+        }
+    }
+
+    /**
+     * @return k sorted runs of random values
+     */
+    private static int[][] createRuns(int k, int runLength) {
+        Random random = new Random(SEED + k);
+        int[][] runs = new int[k][];
+        for (int run = 0; run < k; run++) {
+            runs[run] = random.ints(runLength).sorted().toArray();
+        }
+        return runs;
+    }
+
+    /**
+     * The merge of {@link MergeKSortedArrays} before it moved to primitive entries.
+     */
+    private static void mergeWithPriorityQueue(int[][] arrays, int[] result) {
+        PriorityQueue<int[]> minHeap = new PriorityQueue<>(Comparator.comparingInt(a -> a[0]));
+        for (int i = 0; i < arrays.length; i++) {
+            if (arrays[i].length > 0) {
+                minHeap.offer(new int[] {arrays[i][0], i, 0});
+            }
+        }
+
+        int index = 0;
+        while (!minHeap.isEmpty()) {
+            int[] top = minHeap.poll();
+            result[index++] = top[0];
+
+            if (top[2] + 1 < arrays[top[1]].length) {
+                minHeap.offer(new int[] {arrays[top[1]][top[2] + 1], top[1], top[2] + 1});
+            }
+        }
+    }
+
+    private static void report(String name, int k, int[] merged, int[] expected, long nanos) {
+        if (!Arrays.equals(merged, expected)) {
+            throw new IllegalStateException(name + " merged " + k + " runs incorrectly");
+        }
+        System.out.println(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.1f", name, k, expected.length, (double) nanos / expected.length, expected.length * 1e3 / nanos));
+    }
+}
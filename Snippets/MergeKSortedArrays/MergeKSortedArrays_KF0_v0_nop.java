@@ -1,16 +1,15 @@
 package com.thealgorithms.datastructures.heaps;
 
-import java.util.Comparator;
-import java.util.PriorityQueue;
-
 /**
- * This class provides a method to merge multiple sorted arrays into a single sorted array.
- * It utilizes a min-heap to efficiently retrieve the smallest elements from each array.
+ * This class provides methods to merge multiple sorted arrays into a single sorted array.
+ * The smallest remaining element of all arrays is found with a {@link LoserTree}, which needs
+ * about log2 k comparisons per element, or with a min-heap, which needs up to twice as many.
  *
  * Time Complexity: O(n * log k), where n is the total number of elements across all arrays
  * and k is the number of arrays.
  *
- * Space Complexity: O(k) for the heap, where k is the number of arrays.
+ * Space Complexity: O(k) for the tree or the heap, where k is the number of arrays. Both store
+ * primitive {@code long} entries, so no objects are allocated per element.
  *
  * @author Hardvan
  */
@@ -19,13 +18,12 @@ public final class MergeKSortedArrays {
     }
 
     /**
-     * Merges k sorted arrays into one sorted array using a min-heap.
+     * Merges k sorted arrays into one sorted array using a loser tree.
      * Steps:
-     * 1. Create a min-heap to store elements in the format: {value, array index, element index}
-     * 2. Add the first element from each array to the heap
-     * 3. While the heap is not empty, remove the smallest element from the heap
-     *   and add it to the result array. If there are more elements in the same array,
-     *   add the next element to the heap.
+     * 1. Play a tournament between the first elements of all arrays; every match
+     *   remembers its loser and the winner is the smallest element
+     * 2. Add the winner to the result array and replace it by the next element of the same array
+     * 3. Replay only the matches on the path of that array to the root of the tournament
      *   Continue until all elements have been processed.
      *   The result array will contain all elements in sorted order.
      * 4. Return the result array.
@@ -34,27 +32,77 @@ public final class MergeKSortedArrays {
      * @return a single sorted array containing all elements from the input arrays
      */
     public static int[] mergeKArrays(int[][] arrays) {
-        PriorityQueue<int[]> minHeap = new PriorityQueue<>(Comparator.comparingInt(a -> a[0]));
-
         int totalLength = 0;
+        for (int[] array : arrays) {
+            totalLength = Math.addExact(totalLength, array.length);
+        }
+
+        int[] result = new int[totalLength];
+        mergeKArrays(arrays, result);
+        return result;
+    }
+
+    /**
+     * Merges k sorted arrays into the destination array using a loser tree.
+     *
+     * @param arrays a 2D array, where each subarray is sorted in non-decreasing order
+     * @param destination receives all elements from the input arrays in sorted order, starting at index 0
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException if the destination is too small for all elements
+     * @see LoserTree#merge(int[][], int[])
+     */
+    public static int mergeKArrays(int[][] arrays, int[] destination) {
+        return LoserTree.merge(arrays, destination);
+    }
+
+    /**
+     * Merges k sorted arrays into the destination array using a min-heap, without allocating per element.
+     * Each heap entry is a single {@code long} in a {@link LongHeap} that holds the value in
+     * its upper 32 bits and the index of its array in the lower 32 bits, so entries are
+     * ordered by value and then by array. The smallest entry is replaced by the next element
+     * of the same array with {@link LongHeap#replaceTop(long)}, which needs one sift instead of two.
+     *
+     * @param arrays a 2D array, where each subarray is sorted in non-decreasing order
+     * @param destination receives all elements from the input arrays in sorted order, starting at index 0
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException if the destination is too small for all elements
+     */
+    public static int mergeKArraysWithHeap(int[][] arrays, int[] destination) {
+        LongHeap minHeap = LongHeap.minHeap(arrays.length);
+        int[] positions = new int[arrays.length];
+
+        long totalLength = 0;
         for (int i = 0; i < arrays.length; i++) {
             if (arrays[i].length > 0) {
-                minHeap.offer(new int[] {arrays[i][0], i, 0});
+                minHeap.add(entry(arrays[i][0], i));
                 totalLength += arrays[i].length;
             }
         }
+        if (totalLength > destination.length) {
+            throw new IllegalArgumentException("Destination has room for " + destination.length + " of " + totalLength + " elements");
+        }
 
-        int[] result = new int[totalLength];
         int index = 0;
         while (!minHeap.isEmpty()) {
-            int[] top = minHeap.poll();
-            result[index++] = top[0];
+            long top = minHeap.peek();
+            int array = (int) top;
+            destination[index++] = (int) (top >> 32);
 
-            if (top[2] + 1 < arrays[top[1]].length) {
-                minHeap.offer(new int[] {arrays[top[1]][top[2] + 1], top[1], top[2] + 1});
+            int next = ++positions[array];
+            if (next < arrays[array].length) {
+                minHeap.replaceTop(entry(arrays[array][next], array));
+            } else {
+                minHeap.poll();
             }
         }
 
-        return result;
+        return index;
+    }
+
+    /**
+     * @return the heap entry for a value of the array with the given index
+     */
+    private static long entry(int value, int array) {
+        return ((long) value << 32) | array;
     }
 }
@@ -1,13 +1,17 @@
 package com.thealgorithms.datastructures.lists;
 
+import com.thealgorithms.datastructures.heaps.LoserTree;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.PriorityQueue;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * The MergeKSortedLinkedList class provides a method to merge multiple sorted linked lists
  * into a single sorted linked list.
- * This implementation uses a min-heap (priority queue) to efficiently
- * find the smallest node across all lists, thus optimizing the merge process.
+ * This implementation uses a {@link LoserTree} to efficiently find the smallest node
+ * across all lists with about log2 k comparisons per node, thus optimizing the merge process.
  *
  * <p>Example usage:
  * <pre>
@@ -30,9 +34,11 @@ public class MergeKSortedLinkedList {
     /**
      * Merges K sorted linked lists into a single sorted linked list.
      *
-     * <p>This method uses a priority queue (min-heap) to repeatedly extract the smallest node from the heads of all the lists,
-     * then inserts the next node from that list into the heap. The process continues until all nodes have been processed,
-     * resulting in a fully merged and sorted linked list.</p>
+     * <p>This method plays a tournament between the heads of all the lists with a loser tree. The winner is the
+     * smallest node; it is linked behind the merged list and replaced by the next node of its own list, after which
+     * only the matches on the path of that list are replayed. The process continues until all nodes have been
+     * processed, resulting in a fully merged and sorted linked list. Nodes with equal values keep the order of
+     * their lists.</p>
      *
      * @param a Array of linked list heads to be merged.
      * @param n Number of linked lists.
@@ -43,37 +49,54 @@ public class MergeKSortedLinkedList {
             return null;
         }
 
-        // Min Heap to store nodes based on their values for efficient retrieval of the smallest element.
-        PriorityQueue<Node> minHeap = new PriorityQueue<>(Comparator.comparingInt(x -> x.data));
-
-        // Initialize the min-heap with the head of each non-null linked list
-        for (Node node : a) {
-            if (node != null) {
-                minHeap.add(node);
-            }
+        List<Iterator<Node>> lists = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            lists.add(new NodeIterator(a[i]));
         }
-
-        // Start merging process
-        Node head = minHeap.poll(); // Smallest head is the initial head of the merged list
-        if (head != null && head.next != null) {
-            minHeap.add(head.next);
+        Iterator<Node> merged = LoserTree.merge(lists, Comparator.comparingInt(x -> x.data));
+        if (!merged.hasNext()) {
+            return null;
         }
 
+        // The iterator reads the next field of a node when it returns the node, so relinking it afterwards is safe
+        Node head = merged.next();
         Node curr = head;
-        while (!minHeap.isEmpty()) {
-            Node temp = minHeap.poll();
+        while (merged.hasNext()) {
+            Node temp = merged.next();
             curr.next = temp;
             curr = temp;
-
-            // Add the next node in the current list to the heap if it exists
-            if (temp.next != null) {
-                minHeap.add(temp.next);
-            }
         }
+        curr.next = null;
 
         return head;
     }
 
+    /**
+     * Iterates over the nodes of a linked list.
+     */
+    private static final class NodeIterator implements Iterator<Node> {
+        private Node current;
+
+        NodeIterator(Node head) {
+            this.current = head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public Node next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            Node node = current;
+            current = current.next;
+            return node;
+        }
+    }
+
     /**
      * Represents a node in the linked list.
      */
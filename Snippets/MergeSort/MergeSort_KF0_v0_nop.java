@@ -2,6 +2,8 @@ package com.thealgorithms.sorts;
 
 import static com.thealgorithms.sorts.SortUtils.less;
 
+import java.util.Objects;
+
 /**
  * Generic merge sort algorithm.
  *
@@ -10,6 +12,9 @@ import static com.thealgorithms.sorts.SortUtils.less;
 class MergeSort implements SortAlgorithm {
 
     private Comparable[] aux;
+    private int[] intAux;
+    private long[] longAux;
+    private double[] doubleAux;
 
     /**
      * Generic merge sort algorithm implements.
@@ -66,4 +71,175 @@ class MergeSort implements SortAlgorithm {
             }
         }
     }
+
+    /**
+     * Merge sort for a {@code int} array, without boxing the elements.
+     * The scratch buffer is kept between calls and only grows when a larger array is sorted.
+     *
+     * @param unsorted the array which should be sorted.
+     * @return sorted array.
+     */
+    public int[] sort(int[] unsorted) {
+        if (intAux == null || intAux.length < unsorted.length) {
+            intAux = new int[unsorted.length];
+        }
+        doSort(unsorted, intAux, 0, unsorted.length - 1);
+        return unsorted;
+    }
+
+    /**
+     * Merge sort for a {@code long} array, without boxing the elements.
+     * The scratch buffer is kept between calls and only grows when a larger array is sorted.
+     *
+     * @param unsorted the array which should be sorted.
+     * @return sorted array.
+     */
+    public long[] sort(long[] unsorted) {
+        return sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Merge sort for a range of a {@code long} array, without boxing the elements.
+     * The scratch buffer is kept between calls and only grows when a larger range is sorted.
+     *
+     * @param unsorted the array whose range should be sorted.
+     * @param fromIndex the first index of the range, inclusive.
+     * @param toIndex the last index of the range, exclusive.
+     * @return the array with the range sorted.
+     * @throws IndexOutOfBoundsException if the range is outside of the array.
+     */
+    public long[] sort(long[] unsorted, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, unsorted.length);
+        if (longAux == null || longAux.length < toIndex) {
+            longAux = new long[toIndex];
+        }
+        doSort(unsorted, longAux, fromIndex, toIndex - 1);
+        return unsorted;
+    }
+
+    /**
+     * Merge sort for a {@code double} array, without boxing the elements.
+     * The scratch buffer is kept between calls and only grows when a larger array is sorted.
+     *
+     * @param unsorted the array which should be sorted.
+     * @return sorted array.
+     */
+    public double[] sort(double[] unsorted) {
+        if (doubleAux == null || doubleAux.length < unsorted.length) {
+            doubleAux = new double[unsorted.length];
+        }
+        doSort(unsorted, doubleAux, 0, unsorted.length - 1);
+        return unsorted;
+    }
+
+    /**
+     * {@code int} counterpart of {@link #doSort(Comparable[], int, int)}.
+     */
+    private static void doSort(int[] arr, int[] aux, int left, int right) {
+        if (left < right) {
+            int mid = (left + right) >>> 1;
+            doSort(arr, aux, left, mid);
+            doSort(arr, aux, mid + 1, right);
+            // both halves are already in order, nothing to merge
+            if (arr[mid] <= arr[mid + 1]) {
+                return;
+            }
+            merge(arr, aux, left, mid, right);
+        }
+    }
+
+    /**
+     * {@code int} counterpart of {@link #merge(Comparable[], int, int, int)}.
+     */
+    private static void merge(int[] arr, int[] aux, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        System.arraycopy(arr, left, aux, left, right + 1 - left);
+
+        for (int k = left; k <= right; k++) {
+            if (j > right) {
+                arr[k] = aux[i++];
+            } else if (i > mid) {
+                arr[k] = aux[j++];
+            } else if (aux[j] < aux[i]) {
+                arr[k] = aux[j++];
+            } else {
+                arr[k] = aux[i++];
+            }
+        }
+    }
+
+    /**
+     * {@code long} counterpart of {@link #doSort(Comparable[], int, int)}.
+     */
+    private static void doSort(long[] arr, long[] aux, int left, int right) {
+        if (left < right) {
+            int mid = (left + right) >>> 1;
+            doSort(arr, aux, left, mid);
+            doSort(arr, aux, mid + 1, right);
+            // both halves are already in order, nothing to merge
+            if (arr[mid] <= arr[mid + 1]) {
+                return;
+            }
+            merge(arr, aux, left, mid, right);
+        }
+    }
+
+    /**
+     * {@code long} counterpart of {@link #merge(Comparable[], int, int, int)}.
+     */
+    private static void merge(long[] arr, long[] aux, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        System.arraycopy(arr, left, aux, left, right + 1 - left);
+
+        for (int k = left; k <= right; k++) {
+            if (j > right) {
+                arr[k] = aux[i++];
+            } else if (i > mid) {
+                arr[k] = aux[j++];
+            } else if (aux[j] < aux[i]) {
+                arr[k] = aux[j++];
+            } else {
+                arr[k] = aux[i++];
+            }
+        }
+    }
+
+    /**
+     * {@code double} counterpart of {@link #doSort(Comparable[], int, int)}.
+     */
+    private static void doSort(double[] arr, double[] aux, int left, int right) {
+        if (left < right) {
+            int mid = (left + right) >>> 1;
+            doSort(arr, aux, left, mid);
+            doSort(arr, aux, mid + 1, right);
+            // both halves are already in order, nothing to merge
+            if (Double.compare(arr[mid], arr[mid + 1]) <= 0) {
+                return;
+            }
+            merge(arr, aux, left, mid, right);
+        }
+    }
+
+    /**
+     * {@code double} counterpart of {@link #merge(Comparable[], int, int, int)}.
+     */
+    private static void merge(double[] arr, double[] aux, int left, int mid, int right) {
+        int i = left;
+        int j = mid + 1;
+        System.arraycopy(arr, left, aux, left, right + 1 - left);
+
+        for (int k = left; k <= right; k++) {
+            if (j > right) {
+                arr[k] = aux[i++];
+            } else if (i > mid) {
+                arr[k] = aux[j++];
+            } else if (Double.compare(aux[j], aux[i]) < 0) {
+                arr[k] = aux[j++];
+            } else {
+                arr[k] = aux[i++];
+            }
+        }
+    }
 }
@@ -11,50 +11,55 @@ public class MergeSortRecursive {
         this.arr = arr;
     }
 
+    /**
+     * Sorts a copy of the list. The values are unboxed into an array once and merged
+     * through a single scratch array, so no lists are created during the recursion.
+     *
+     * @return a new sorted list; the list given to the constructor is not changed
+     */
     public List<Integer> mergeSort() {
-        return merge(arr);
+        int[] values = new int[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.get(i);
+        }
+        merge(values, new int[values.length], 0, values.length);
+
+        List<Integer> sorted = new ArrayList<>(values.length);
+        for (int value : values) {
+            sorted.add(value);
+        }
+        return sorted;
     }
 
-    private static List<Integer> merge(List<Integer> arr) {
+    private static void merge(int[] values, int[] aux, int from, int to) {
         // base condition
-        if (arr.size() <= 1) {
-            return arr;
+        if (to - from <= 1) {
+            return;
         }
 
-        int arrLength = arr.size();
-        int half = arrLength / 2;
-        List<Integer> arrA = arr.subList(0, half);
-        List<Integer> arrB = arr.subList(half, arr.size());
+        int half = (from + to) >>> 1;
 
         // recursion
-        arrA = merge(arrA);
-        arrB = merge(arrB);
+        merge(values, aux, from, half);
+        merge(values, aux, half, to);
 
-        return sort(arrA, arrB);
+        sort(values, aux, from, half, to);
     }
 
-    private static List<Integer> sort(List<Integer> unsortedA, List<Integer> unsortedB) {
-        if (unsortedA.isEmpty() && unsortedB.isEmpty()) {
-            return new ArrayList<>();
-        }
-        if (unsortedA.isEmpty()) {
-            return unsortedB;
-        }
-        if (unsortedB.isEmpty()) {
-            return unsortedA;
-        }
-        if (unsortedA.get(0) <= unsortedB.get(0)) {
-            List<Integer> newAl = new ArrayList<Integer>() {
-                { add(unsortedA.get(0)); }
-            };
-            newAl.addAll(sort(unsortedA.subList(1, unsortedA.size()), unsortedB));
-            return newAl;
-        } else {
-            List<Integer> newAl = new ArrayList<Integer>() {
-                { add(unsortedB.get(0)); }
-            };
-            newAl.addAll(sort(unsortedA, unsortedB.subList(1, unsortedB.size())));
-            return newAl;
+    /**
+     * Merges the sorted ranges [from, half) and [half, to) of values, taking the element
+     * of the left range first when two elements are equal.
+     */
+    private static void sort(int[] values, int[] aux, int from, int half, int to) {
+        System.arraycopy(values, from, aux, from, to - from);
+        int a = from;
+        int b = half;
+        for (int k = from; k < to; k++) {
+            if (b >= to || (a < half && aux[a] <= aux[b])) {
+                values[k] = aux[a++];
+            } else {
+                values[k] = aux[b++];
+            }
         }
     }
 }
@@ -39,6 +39,8 @@ public class MonteCarloTreeSearch {
     static final int WIN_SCORE = 10;
     static final int TIME_LIMIT = 500; // Time the algorithm will be running for (in milliseconds).
 
+    private final Random rand = new Random();
+
     /**
      * Explores a game tree using Monte Carlo Tree Search (MCTS) and returns the
      * most promising node.
@@ -133,7 +135,6 @@ public class MonteCarloTreeSearch {
      * @param promisingNode Node that will be simulated.
      */
     public void simulateRandomPlay(Node promisingNode) {
-        Random rand = new Random();
         Node tempNode = promisingNode;
         boolean isPlayerWinner;
 
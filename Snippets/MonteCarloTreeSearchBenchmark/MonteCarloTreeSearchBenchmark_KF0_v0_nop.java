@@ -0,0 +1,48 @@
+package com.thealgorithms.searches;
+
+import java.util.Locale;
+
+/**
+ * Measures the playouts per second of {@link ParallelMonteCarloTreeSearch} with 1, 2, 4, ...
+ * threads sharing one tree.
+ *
+ * <p>Every measurement builds a new tree from the same seed and runs the given number of playouts
+ * on it. The pool holds a node for every child that can be created, so the tree is never cut
+ * short. Every thread count is run twice and the second run is reported, so that the code is
+ * compiled. The results are written as CSV to standard output, together with the size of the tree
+ * and the most promising child of the root and its share of the visits.</p>
+ *
+ * <p>The arguments are the number of playouts (1,000,000 by default) and the maximum number of
+ * threads (32).</p>
+ */
+public final class MonteCarloTreeSearchBenchmark {
+    private static final int DEFAULT_PLAYOUTS = 1_000_000;
+    private static final int DEFAULT_MAX_THREADS = 32;
+    private static final long SEED = 42;
+
+    private MonteCarloTreeSearchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int playouts = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PLAYOUTS;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_THREADS;
+        // every playout expands at most one node
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 1 + (long) playouts * ParallelMonteCarloTreeSearch.CHILD_COUNT);
+
+        System.out.println("threads,playouts,nodes,ms,playouts_per_second,best_child,best_child_visit_share");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            for (int round = 0; round < 2; round++) {
+                ParallelMonteCarloTreeSearch mcts = new ParallelMonteCarloTreeSearch(capacity, true, SEED);
+                long start = System.nanoTime();
+                int best = mcts.search(playouts, threads);
+                long nanos = System.nanoTime() - start;
+                if (mcts.playoutCount() != playouts) {
+                    throw new IllegalStateException("Ran " + mcts.playoutCount() + " playouts instead of " + playouts);
+                }
+                if (round == 1) {
+                    System.out.println(String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.0f,%d,%.3f", threads, playouts, mcts.nodeCount(), nanos / 1e6, playouts * 1e9 / nanos, best, (double) mcts.childVisitCount(best) / playouts));
+                }
+            }
+        }
+    }
+}
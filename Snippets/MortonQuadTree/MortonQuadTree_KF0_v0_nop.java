@@ -0,0 +1,459 @@
+package com.thealgorithms.datastructures.trees;
+
+import java.util.Arrays;
+
+/**
+ * MortonQuadTree is a static point QuadTree that is built in bulk from arrays of
+ * coordinates and stored in flat primitive arrays.
+ *
+ * The points are sorted by their Morton code (Z-order), which interleaves the bits
+ * of the quantized x and y coordinates. In this order the points of every quadrant
+ * at every level form one contiguous range, so a node only stores the range of its
+ * points, the tight bounding box of those points and the range of its children.
+ * Leaves hold at most {@code leafCapacity} points, except when all their points
+ * have the same quantized coordinates.
+ *
+ * Queries do not allocate: range queries report every point to a
+ * {@link PointVisitor}, and nodes that lie completely inside the range are reported
+ * without testing their points. {@link #nearest(double, double, int, int[], double[])}
+ * writes the k nearest neighbours into arrays supplied by the caller.
+ *
+ * Points are identified by their index in the arrays the tree was built from.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Z-order_curve">Z-order curve</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Quadtree">Quad Tree</a>
+ */
+public class MortonQuadTree {
+    private static final int BITS_PER_AXIS = 31;
+    private static final long MAX_CELL = (1L << BITS_PER_AXIS) - 1;
+    private static final int RADIX_BITS = 11;
+    private static final int DEFAULT_LEAF_CAPACITY = 16;
+
+    /**
+     * Receives the points found by a range query.
+     */
+    @FunctionalInterface
+    public interface PointVisitor {
+        /**
+         * @param index the index of the point in the arrays the tree was built from
+         * @param x the x coordinate of the point
+         * @param y the y coordinate of the point
+         */
+        void visit(int index, double x, double y);
+    }
+
+    // Points in Morton order
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] ids;
+
+    // Nodes; the children of a node are the nodes firstChild .. endChild - 1, and the root is node 0
+    private int[] pointStart;
+    private int[] pointEnd;
+    private int[] firstChild;
+    private int[] endChild;
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int nodeCount;
+
+    /**
+     * Builds the tree with leaves of at most 16 points.
+     *
+     * @param x the x coordinates of the points
+     * @param y the y coordinates of the points
+     * @throws IllegalArgumentException if the arrays have different lengths or a coordinate is not finite
+     */
+    public MortonQuadTree(double[] x, double[] y) {
+        this(x, y, DEFAULT_LEAF_CAPACITY);
+    }
+
+    /**
+     * Builds the tree. The arrays are not modified or kept.
+     *
+     * @param x the x coordinates of the points
+     * @param y the y coordinates of the points
+     * @param leafCapacity the number of points at which a node is divided
+     * @throws IllegalArgumentException if the arrays have different lengths, a coordinate is not finite or the leaf capacity is not positive
+     */
+    public MortonQuadTree(double[] x, double[] y, int leafCapacity) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+        if (leafCapacity <= 0) {
+            throw new IllegalArgumentException("Leaf capacity must be positive");
+        }
+        int n = x.length;
+
+        double originX = Double.POSITIVE_INFINITY;
+        double originY = Double.POSITIVE_INFINITY;
+        double extent = 0;
+        for (int i = 0; i < n; i++) {
+            if (!Double.isFinite(x[i]) || !Double.isFinite(y[i])) {
+                throw new IllegalArgumentException("Coordinates must be finite");
+            }
+            originX = Math.min(originX, x[i]);
+            originY = Math.min(originY, y[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            extent = Math.max(extent, Math.max(x[i] - originX, y[i] - originY));
+        }
+        double scale = extent > 0 ? MAX_CELL / extent : 0;
+
+        long[] codes = new long[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            codes[i] = interleave(cell(x[i] - originX, scale)) | (interleave(cell(y[i] - originY, scale)) << 1);
+            order[i] = i;
+        }
+        radixSort(codes, order);
+
+        xs = new double[n];
+        ys = new double[n];
+        ids = order;
+        for (int i = 0; i < n; i++) {
+            xs[i] = x[order[i]];
+            ys[i] = y[order[i]];
+        }
+
+        int initialNodes = Math.max(16, 2 * (n / leafCapacity) + 1);
+        pointStart = new int[initialNodes];
+        pointEnd = new int[initialNodes];
+        firstChild = new int[initialNodes];
+        endChild = new int[initialNodes];
+        minX = new double[initialNodes];
+        minY = new double[initialNodes];
+        maxX = new double[initialNodes];
+        maxY = new double[initialNodes];
+        build(newNode(), codes, 0, n, 2 * BITS_PER_AXIS - 2, leafCapacity);
+    }
+
+    /**
+     * @return the number of points in the tree
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Reports all points inside the rectangle, including its border.
+     *
+     * @param queryMinX the smallest x coordinate of the rectangle
+     * @param queryMinY the smallest y coordinate of the rectangle
+     * @param queryMaxX the largest x coordinate of the rectangle
+     * @param queryMaxY the largest y coordinate of the rectangle
+     * @param visitor receives every point inside the rectangle
+     * @return the number of points reported
+     */
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY, PointVisitor visitor) {
+        if (xs.length == 0) {
+            return 0;
+        }
+        return query(0, queryMinX, queryMinY, queryMaxX, queryMaxY, visitor);
+    }
+
+    /**
+     * Finds the k points closest to (x, y). The results are written to the
+     * arrays in order of increasing distance; the arrays must have room for k elements.
+     *
+     * @param x the x coordinate of the query point
+     * @param y the y coordinate of the query point
+     * @param k the number of neighbours to find
+     * @param indices receives the indices of the nearest points
+     * @param distances receives the Euclidean distances of the nearest points
+     * @return the number of neighbours found, which is less than k only if the tree has fewer points
+     * @throws IllegalArgumentException if k is negative or an array is shorter than k
+     */
+    public int nearest(double x, double y, int k, int[] indices, double[] distances) {
+        if (k < 0 || indices.length < k || distances.length < k) {
+            throw new IllegalArgumentException("k must be non-negative and fit into the result arrays");
+        }
+        int found = 0;
+        if (k > 0 && xs.length > 0) {
+            // indices and distances (squared while searching) form a max-heap of the best points found so far
+            found = nearest(0, x, y, k, indices, distances, 0);
+        }
+
+        // Sort the heap in place by taking the farthest point to the end repeatedly
+        for (int last = found - 1; last > 0; last--) {
+            swap(indices, distances, 0, last);
+            siftDown(indices, distances, 0, last);
+        }
+        for (int i = 0; i < found; i++) {
+            distances[i] = Math.sqrt(distances[i]);
+            indices[i] = ids[indices[i]];
+        }
+        return found;
+    }
+
+    private int query(int node, double queryMinX, double queryMinY, double queryMaxX, double queryMaxY, PointVisitor visitor) {
+        if (maxX[node] < queryMinX || minX[node] > queryMaxX || maxY[node] < queryMinY || minY[node] > queryMaxY) {
+            return 0;
+        }
+        if (minX[node] >= queryMinX && maxX[node] <= queryMaxX && minY[node] >= queryMinY && maxY[node] <= queryMaxY) {
+            for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                visitor.visit(ids[i], xs[i], ys[i]);
+            }
+            return pointEnd[node] - pointStart[node];
+        }
+
+        int count = 0;
+        if (firstChild[node] == endChild[node]) {
+            for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                if (xs[i] >= queryMinX && xs[i] <= queryMaxX && ys[i] >= queryMinY && ys[i] <= queryMaxY) {
+                    visitor.visit(ids[i], xs[i], ys[i]);
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int child = firstChild[node]; child < endChild[node]; child++) {
+            count += query(child, queryMinX, queryMinY, queryMaxX, queryMaxY, visitor);
+        }
+        return count;
+    }
+
+    /**
+     * Searches the subtree of node, visiting the children closest to (x, y) first and skipping
+     * those farther away than the k-th best point found so far.
+     *
+     * @return the new number of points in the heap
+     */
+    private int nearest(int node, double x, double y, int k, int[] heapIndices, double[] heapDistances, int found) {
+        if (firstChild[node] == endChild[node]) {
+            for (int i = pointStart[node]; i < pointEnd[node]; i++) {
+                double dx = xs[i] - x;
+                double dy = ys[i] - y;
+                double distance = dx * dx + dy * dy;
+                if (found < k) {
+                    heapIndices[found] = i;
+                    heapDistances[found] = distance;
+                    siftUp(heapIndices, heapDistances, found++);
+                } else if (distance < heapDistances[0]) {
+                    heapIndices[0] = i;
+                    heapDistances[0] = distance;
+                    siftDown(heapIndices, heapDistances, 0, k);
+                }
+            }
+            return found;
+        }
+
+        // Visit the at most four children in order of their distance, using a bit mask of the visited ones
+        int visited = 0;
+        int childCount = endChild[node] - firstChild[node];
+        for (int round = 0; round < childCount; round++) {
+            int closest = -1;
+            double closestDistance = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < childCount; c++) {
+                if ((visited & (1 << c)) == 0) {
+                    double distance = boxDistance(firstChild[node] + c, x, y);
+                    if (closest < 0 || distance < closestDistance) {
+                        closest = c;
+                        closestDistance = distance;
+                    }
+                }
+            }
+            visited |= 1 << closest;
+            if (found == k && closestDistance >= heapDistances[0]) {
+                break;
+            }
+            found = nearest(firstChild[node] + closest, x, y, k, heapIndices, heapDistances, found);
+        }
+        return found;
+    }
+
+    /**
+     * @return the squared distance from (x, y) to the bounding box of the node, 0 if the point is inside
+     */
+    private double boxDistance(int node, double x, double y) {
+        double dx = Math.max(0, Math.max(minX[node] - x, x - maxX[node]));
+        double dy = Math.max(0, Math.max(minY[node] - y, y - maxY[node]));
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Sets the point range and bounding box of node and creates its children.
+     * The points in [start, end) share the Morton code bits above shift + 2; bits
+     * shift + 1 and shift select the quadrant of a child.
+     */
+    private void build(int node, long[] codes, int start, int end, int shift, int leafCapacity) {
+        pointStart[node] = start;
+        pointEnd[node] = end;
+        if (end - start <= leafCapacity || shift < 0 || codes[start] == codes[end - 1]) {
+            firstChild[node] = nodeCount;
+            endChild[node] = nodeCount;
+            double boxMinX = Double.POSITIVE_INFINITY;
+            double boxMinY = Double.POSITIVE_INFINITY;
+            double boxMaxX = Double.NEGATIVE_INFINITY;
+            double boxMaxY = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                boxMinX = Math.min(boxMinX, xs[i]);
+                boxMinY = Math.min(boxMinY, ys[i]);
+                boxMaxX = Math.max(boxMaxX, xs[i]);
+                boxMaxY = Math.max(boxMaxY, ys[i]);
+            }
+            setBox(node, boxMinX, boxMinY, boxMaxX, boxMaxY);
+            return;
+        }
+
+        // Find the boundaries of the non-empty quadrants and reserve consecutive nodes for them
+        int[] bounds = new int[5];
+        int children = 0;
+        bounds[0] = start;
+        for (int quadrant = 1; quadrant <= 4; quadrant++) {
+            int boundary = quadrant == 4 ? end : firstInQuadrant(codes, bounds[children], end, shift, quadrant);
+            if (boundary > bounds[children]) {
+                bounds[++children] = boundary;
+            }
+        }
+        if (children == 1) {
+            build(node, codes, start, end, shift - 2, leafCapacity);
+            return;
+        }
+        int first = nodeCount;
+        for (int c = 0; c < children; c++) {
+            newNode();
+        }
+        firstChild[node] = first;
+        endChild[node] = first + children;
+
+        double boxMinX = Double.POSITIVE_INFINITY;
+        double boxMinY = Double.POSITIVE_INFINITY;
+        double boxMaxX = Double.NEGATIVE_INFINITY;
+        double boxMaxY = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < children; c++) {
+            int child = first + c;
+            build(child, codes, bounds[c], bounds[c + 1], shift - 2, leafCapacity);
+            boxMinX = Math.min(boxMinX, minX[child]);
+            boxMinY = Math.min(boxMinY, minY[child]);
+            boxMaxX = Math.max(boxMaxX, maxX[child]);
+            boxMaxY = Math.max(boxMaxY, maxY[child]);
+        }
+        setBox(node, boxMinX, boxMinY, boxMaxX, boxMaxY);
+    }
+
+    /**
+     * @return the first position in [from, to) whose quadrant at the given shift is at least quadrant
+     */
+    private static int firstInQuadrant(long[] codes, int from, int to, int shift, int quadrant) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((int) ((codes[mid] >>> shift) & 3) < quadrant) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void setBox(int node, double boxMinX, double boxMinY, double boxMaxX, double boxMaxY) {
+        minX[node] = boxMinX;
+        minY[node] = boxMinY;
+        maxX[node] = boxMaxX;
+        maxY[node] = boxMaxY;
+    }
+
+    private int newNode() {
+        if (nodeCount == pointStart.length) {
+            int capacity = pointStart.length + (pointStart.length >> 1);
+            pointStart = Arrays.copyOf(pointStart, capacity);
+            pointEnd = Arrays.copyOf(pointEnd, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            endChild = Arrays.copyOf(endChild, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+        return nodeCount++;
+    }
+
+    /**
+     * @return the cell of a coordinate relative to the origin on the grid of 2^31 cells per axis
+     */
+    private static long cell(double offset, double scale) {
+        return Math.min(MAX_CELL, (long) (offset * scale));
+    }
+
+    /**
+     * Spreads the lower 31 bits of value to the even bit positions.
+     */
+    private static long interleave(long value) {
+        value &= 0xFFFFFFFFL;
+        value = (value | (value << 16)) & 0x0000FFFF0000FFFFL;
+        value = (value | (value << 8)) & 0x00FF00FF00FF00FFL;
+        value = (value | (value << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        value = (value | (value << 2)) & 0x3333333333333333L;
+        value = (value | (value << 1)) & 0x5555555555555555L;
+        return value;
+    }
+
+    /**
+     * Sorts the non-negative codes with a least significant digit radix sort and applies the same permutation to order.
+     */
+    private static void radixSort(long[] codes, int[] order) {
+        int n = codes.length;
+        long[] codeBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[(1 << RADIX_BITS) + 1];
+        for (int shift = 0; shift < 2 * BITS_PER_AXIS; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (long code : codes) {
+                counts[(int) ((code >>> shift) & ((1 << RADIX_BITS) - 1)) + 1]++;
+            }
+            for (int d = 0; d < 1 << RADIX_BITS; d++) {
+                counts[d + 1] += counts[d];
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(int) ((codes[i] >>> shift) & ((1 << RADIX_BITS) - 1))]++;
+                codeBuffer[position] = codes[i];
+                orderBuffer[position] = order[i];
+            }
+            System.arraycopy(codeBuffer, 0, codes, 0, n);
+            System.arraycopy(orderBuffer, 0, order, 0, n);
+        }
+    }
+
+    private static void siftUp(int[] indices, double[] distances, int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (distances[parent] >= distances[position]) {
+                break;
+            }
+            swap(indices, distances, parent, position);
+            position = parent;
+        }
+    }
+
+    private static void siftDown(int[] indices, double[] distances, int position, int size) {
+        while (true) {
+            int largest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && distances[left] > distances[largest]) {
+                largest = left;
+            }
+            if (right < size && distances[right] > distances[largest]) {
+                largest = right;
+            }
+            if (largest == position) {
+                return;
+            }
+            swap(indices, distances, position, largest);
+            position = largest;
+        }
+    }
+
+    private static void swap(int[] indices, double[] distances, int a, int b) {
+        int index = indices[a];
+        indices[a] = indices[b];
+        indices[b] = index;
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+}
@@ -0,0 +1,238 @@
+package com.thealgorithms.datastructures.hashmap.hashing;
+
+/**
+ * A generic hash map that stores its entries in flat parallel arrays and resolves collisions
+ * with linear probing. It offers the same operations as {@link GenericHashMapUsingArray}, but a
+ * lookup reads the key and value directly from two arrays instead of walking a linked list of
+ * node objects, and no object is allocated per entry.
+ *
+ * <p>
+ * The number of slots is always a power of two, so the slot of a key is found with a bit mask
+ * instead of a modulo. The hash code is mixed before masking so that keys which differ only in
+ * their high bits still spread over the table.
+ * </p>
+ *
+ * <p>
+ * Removal uses backward-shift deletion: the entries following the removed slot in the same
+ * cluster are moved back when their probe sequence allows it. This keeps every cluster free of
+ * holes, so no tombstones are needed and lookups never have to skip deleted slots.
+ * </p>
+ *
+ * <p>
+ * The map doubles its number of slots when the load factor exceeds 0.75. Resizing copies the
+ * entries straight into the new arrays.
+ * </p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Linear_probing">Linear Probing</a>
+ *
+ * @param <K> the type of keys maintained by this hash map
+ * @param <V> the type of mapped values
+ */
+public class OpenAddressingHashMap<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_EXPECTED_SIZE = (int) (MAXIMUM_CAPACITY * LOAD_FACTOR);
+
+    private Object[] keys; // keys[i] == null marks an empty slot
+    private Object[] values;
+    private int mask; // number of slots - 1
+    private int threshold; // size at which the table is doubled
+    private int size;
+
+    /**
+     * Constructs a new empty hash map with an initial capacity of 16 slots.
+     */
+    public OpenAddressingHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty hash map that can hold the given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the map should hold before it resizes
+     * @throws IllegalArgumentException if the expected size is negative or needs more than 2^30 slots
+     */
+    public OpenAddressingHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative.");
+        }
+        if (expectedSize > MAXIMUM_EXPECTED_SIZE) {
+            throw new IllegalArgumentException("Expected size must not exceed " + MAXIMUM_EXPECTED_SIZE + ".");
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this map.
+     * If the map previously contained a mapping for the key, the old value is replaced.
+     *
+     * @param key the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @throws IllegalArgumentException if the key is null
+     */
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null.");
+        }
+        int i = indexFor(key);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) {
+            reHash();
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value associated with the specified key, or null if no mapping exists
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int i = find(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * Removes the mapping for the specified key from this map if present.
+     *
+     * @param key the key whose mapping is to be removed from the map
+     */
+    public void remove(K key) {
+        int i = find(key);
+        if (i < 0) {
+            return;
+        }
+
+        // Shift later entries of the cluster back into the gap while their home slot allows it
+        int gap = i;
+        int j = (gap + 1) & mask;
+        while (keys[j] != null) {
+            int home = indexFor(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+            j = (j + 1) & mask;
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+    }
+
+    /**
+     * Returns true if this map contains a mapping for the specified key.
+     *
+     * @param key the key whose presence in this map is to be tested
+     * @return true if this map contains a mapping for the specified key
+     */
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Returns the number of key-value pairs in this map.
+     *
+     * @return the number of key-value pairs
+     */
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                builder.append(keys[i]);
+                builder.append(" : ");
+                builder.append(values[i]);
+                builder.append(", ");
+            }
+        }
+        // Remove trailing comma and space
+        if (builder.length() > 1) {
+            builder.setLength(builder.length() - 2);
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /**
+     * Returns the slot that holds the specified key.
+     *
+     * @param key the key to look up
+     * @return the slot index, or -1 if the key is not present
+     */
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        for (int i = indexFor(key); keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the home slot of a key by mixing its hash code and masking it to the table size.
+     *
+     * @param key the key whose home slot is to be computed
+     * @return the home slot index
+     */
+    private int indexFor(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Replaces the arrays with empty ones of the given power-of-two capacity.
+     *
+     * @param capacity the new number of slots
+     */
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Doubles the number of slots and moves every entry into the new arrays.
+     */
+    private void reHash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int j = indexFor(oldKeys[i]);
+                while (keys[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
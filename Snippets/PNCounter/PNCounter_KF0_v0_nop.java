@@ -1,7 +1,6 @@
 package com.thealgorithms.datastructures.crdt;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
 /**
  * PN-Counter (Positive-Negative Counter) is a state-based CRDT (Conflict-free Replicated Data Type)
@@ -13,13 +12,15 @@ import java.util.Map;
  * to compute the element-wise maximum for both increment and decrement counters.
  * (https://en.wikipedia.org/wiki/Conflict-free_replicated_data_type)
  *
+ * <p>Like {@link GCounter}, the PN-Counter supports delta-state replication: a {@link Delta}
+ * holds the changed entries of both G-Counters and is encoded as their two deltas in a row.</p>
+ *
  * @author itakurah (Niklas Hoefflin) (https://github.com/itakurah)
  */
 
 class PNCounter {
-    private final Map<Integer, Integer> pCounter;
-    private final Map<Integer, Integer> nCounter;
-    private final int myId;
+    private final GCounter pCounter;
+    private final GCounter nCounter;
     private final int n;
 
     /**
@@ -29,29 +30,23 @@ class PNCounter {
      * @param n    The number of nodes in the cluster.
      */
     PNCounter(int myId, int n) {
-        this.myId = myId;
         this.n = n;
-        this.pCounter = new HashMap<>();
-        this.nCounter = new HashMap<>();
-
-        for (int i = 0; i < n; i++) {
-            pCounter.put(i, 0);
-            nCounter.put(i, 0);
-        }
+        this.pCounter = new GCounter(myId, n);
+        this.nCounter = new GCounter(myId, n);
     }
 
     /**
      * Increments the increment counter for the current node.
      */
     public void increment() {
-        pCounter.put(myId, pCounter.get(myId) + 1);
+        pCounter.increment();
     }
 
     /**
      * Increments the decrement counter for the current node.
      */
     public void decrement() {
-        nCounter.put(myId, nCounter.get(myId) + 1);
+        nCounter.increment();
     }
 
     /**
@@ -59,28 +54,22 @@ class PNCounter {
      *
      * @return The total value of the counter.
      */
-    public int value() {
-        int sumP = pCounter.values().stream().mapToInt(Integer::intValue).sum();
-        int sumN = nCounter.values().stream().mapToInt(Integer::intValue).sum();
-        return sumP - sumN;
+    public long value() {
+        return pCounter.value() - nCounter.value();
     }
 
     /**
      * Compares the state of this PN-Counter with another PN-Counter.
      *
      * @param other The other PN-Counter to compare with.
-     * @return True if the state of this PN-Counter is less than or equal to the state of the other PN-Counter.
+     * @return True if both the increment and the decrement counter of this PN-Counter are less than or
+     *         equal to those of the other PN-Counter.
      */
     public boolean compare(PNCounter other) {
         if (this.n != other.n) {
             throw new IllegalArgumentException("Cannot compare PN-Counters with different number of nodes");
         }
-        for (int i = 0; i < n; i++) {
-            if (this.pCounter.get(i) > other.pCounter.get(i) && this.nCounter.get(i) > other.nCounter.get(i)) {
-                return false;
-            }
-        }
-        return true;
+        return pCounter.compare(other.pCounter) && nCounter.compare(other.nCounter);
     }
 
     /**
@@ -92,9 +81,76 @@ class PNCounter {
         if (this.n != other.n) {
             throw new IllegalArgumentException("Cannot merge PN-Counters with different number of nodes");
         }
-        for (int i = 0; i < n; i++) {
-            this.pCounter.put(i, Math.max(this.pCounter.get(i), other.pCounter.get(i)));
-            this.nCounter.put(i, Math.max(this.nCounter.get(i), other.nCounter.get(i)));
+        pCounter.merge(other.pCounter);
+        nCounter.merge(other.nCounter);
+    }
+
+    /**
+     * Merges a delta, or an encoded full state, of another PN-Counter into this one.
+     *
+     * @param delta The delta to merge.
+     */
+    public void merge(Delta delta) {
+        pCounter.merge(delta.increments);
+        nCounter.merge(delta.decrements);
+    }
+
+    /**
+     * Returns the entries that changed since the previous call and starts collecting anew.
+     *
+     * @return The delta to send to the other nodes.
+     */
+    public Delta takeDelta() {
+        return new Delta(pCounter.takeDelta(), nCounter.takeDelta());
+    }
+
+    /**
+     * @return The full state of this PN-Counter in the form of a delta.
+     */
+    public Delta state() {
+        return new Delta(pCounter.state(), nCounter.state());
+    }
+
+    /**
+     * The changed entries of the increment and the decrement counter of a PN-Counter.
+     */
+    static final class Delta {
+        private final GCounter.Delta increments;
+        private final GCounter.Delta decrements;
+
+        private Delta(GCounter.Delta increments, GCounter.Delta decrements) {
+            this.increments = increments;
+            this.decrements = decrements;
+        }
+
+        /**
+         * @return The number of entries of both counters.
+         */
+        public int size() {
+            return increments.size() + decrements.size();
+        }
+
+        /**
+         * @return The encoded delta.
+         */
+        public byte[] encode() {
+            byte[] buffer = new byte[increments.encodedSize() + decrements.encodedSize()];
+            decrements.encode(buffer, increments.encode(buffer, 0));
+            return buffer;
+        }
+
+        /**
+         * @param bytes An encoded delta.
+         * @return The decoded delta.
+         * @throws IllegalArgumentException if the bytes are not a valid delta
+         */
+        public static Delta decode(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Delta delta = new Delta(GCounter.Delta.decode(buffer), GCounter.Delta.decode(buffer));
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException(buffer.remaining() + " bytes after the end of the delta");
+            }
+            return delta;
         }
     }
 }
@@ -1,9 +1,31 @@
 package com.thealgorithms.others;
 
+import java.util.Arrays;
 import java.util.Scanner;
+import java.util.stream.IntStream;
 
+/**
+ * PageRank of the pages of a link graph.
+ *
+ * <p>{@link #calc(double)} runs two steps on the adjacency matrix in {@link #path} and prints every step.
+ * {@link #compute(int[][], double, double, int, double[])} is an engine for large graphs: it takes the
+ * outgoing links of every page as a sparse adjacency list, stores the incoming links in compressed sparse
+ * row form with the out-degrees precomputed, and runs power iterations until the L1 distance between two
+ * iterations falls below a tolerance. The rank of pages without outgoing links (dangling pages) is spread
+ * according to the personalization vector, so the ranks always sum to 1. Each iteration is split into
+ * blocks of pages that are computed in parallel, and nothing is printed.</p>
+ *
+ * Reference: <a href="https://en.wikipedia.org/wiki/PageRank">PageRank</a>
+ */
 class PageRank {
 
+    private static final double DEFAULT_DAMPING_FACTOR = 0.85;
+    private static final double DEFAULT_TOLERANCE = 1e-10;
+    private static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    /** Number of pages per parallel task of an iteration */
+    private static final int BLOCK_SIZE = 1 << 14;
+
     public static void main(String[] args) {
         int nodes;
         int i;
@@ -92,4 +114,151 @@ class PageRank {
             }
         }
     }
+
+    /**
+     * Computes the PageRank of every page with a damping factor of 0.85 and a uniform personalization vector.
+     *
+     * @param outLinks {@code outLinks[u]} holds the pages that page {@code u} links to
+     * @return the rank of every page; the ranks sum to 1
+     * @throws IllegalArgumentException if a link points to a page that does not exist
+     */
+    public static double[] compute(int[][] outLinks) {
+        return compute(outLinks, DEFAULT_DAMPING_FACTOR, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS, null);
+    }
+
+    /**
+     * Computes the PageRank of every page by power iteration.
+     *
+     * <p>In every iteration, a page keeps the share {@code dampingFactor} of the rank its incoming links pass on,
+     * where every page splits its rank evenly over its outgoing links, and a duplicate link counts twice. The
+     * remaining rank, together with the rank of dangling pages, is distributed according to the personalization
+     * vector. The iteration stops when the L1 distance to the previous iteration is below {@code tolerance}, or
+     * after {@code maxIterations} iterations.</p>
+     *
+     * @param outLinks {@code outLinks[u]} holds the pages that page {@code u} links to
+     * @param dampingFactor the probability of following a link, between 0 and 1
+     * @param tolerance the L1 distance between two iterations at which the ranks are considered converged
+     * @param maxIterations the maximum number of iterations
+     * @param personalization the non-negative weight of every page when jumping to a random page, which is
+     *                        normalized to sum 1; {@code null} for a uniform jump to every page
+     * @return the rank of every page; the ranks sum to 1
+     * @throws IllegalArgumentException if a link points to a page that does not exist, or a parameter is out of range
+     */
+    public static double[] compute(int[][] outLinks, double dampingFactor, double tolerance, int maxIterations, double[] personalization) {
+        int n = outLinks.length;
+        if (dampingFactor < 0 || dampingFactor > 1) {
+            throw new IllegalArgumentException("Damping factor must be between 0 and 1");
+        }
+        if (tolerance < 0 || maxIterations < 0) {
+            throw new IllegalArgumentException("Tolerance and number of iterations cannot be negative");
+        }
+        if (n == 0) {
+            return new double[0];
+        }
+        double[] teleport = normalizedPersonalization(personalization, n);
+
+        // Incoming links in compressed sparse row form: the pages linking to v are inSources[inOffsets[v] .. inOffsets[v + 1] - 1]
+        int[] outDegrees = new int[n];
+        int[] inOffsets = new int[n + 1];
+        long edgeCount = 0;
+        for (int u = 0; u < n; u++) {
+            outDegrees[u] = outLinks[u].length;
+            edgeCount += outDegrees[u];
+            for (int v : outLinks[u]) {
+                if (v < 0 || v >= n) {
+                    throw new IllegalArgumentException("Page " + u + " links to unknown page " + v);
+                }
+                inOffsets[v + 1]++;
+            }
+        }
+        if (edgeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many links: " + edgeCount);
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets[v + 1] += inOffsets[v];
+        }
+        int[] inSources = new int[(int) edgeCount];
+        int[] next = Arrays.copyOf(inOffsets, n);
+        for (int u = 0; u < n; u++) {
+            for (int v : outLinks[u]) {
+                inSources[next[v]++] = u;
+            }
+        }
+
+        double[] rank = new double[n];
+        double[] nextRank = new double[n];
+        double[] contribution = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+        int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double[] current = rank;
+            double[] updated = nextRank;
+
+            // The rank every page passes on through each of its links, and the total rank of dangling pages
+            double danglingRank = IntStream.range(0, blocks).parallel().mapToDouble(block -> {
+                double dangling = 0;
+                for (int u = block * BLOCK_SIZE, end = Math.min(n, u + BLOCK_SIZE); u < end; u++) {
+                    if (outDegrees[u] == 0) {
+                        dangling += current[u];
+                        contribution[u] = 0;
+                    } else {
+                        contribution[u] = current[u] / outDegrees[u];
+                    }
+                }
+                return dangling;
+            }).sum();
+
+            // Every page pulls the contributions of its incoming links, so no two tasks write to the same element
+            double jump = dampingFactor * danglingRank + (1 - dampingFactor);
+            double change = IntStream.range(0, blocks).parallel().mapToDouble(block -> {
+                double distance = 0;
+                for (int v = block * BLOCK_SIZE, end = Math.min(n, v + BLOCK_SIZE); v < end; v++) {
+                    double incoming = 0;
+                    for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                        incoming += contribution[inSources[i]];
+                    }
+                    updated[v] = dampingFactor * incoming + jump * teleport[v];
+                    distance += Math.abs(updated[v] - current[v]);
+                }
+                return distance;
+            }).sum();
+
+            rank = updated;
+            nextRank = current;
+            if (change < tolerance) {
+                break;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * @return the personalization vector scaled to sum 1, or a uniform vector if it is {@code null}
+     * @throws IllegalArgumentException if the vector has the wrong length, a negative weight, or no positive weight
+     */
+    private static double[] normalizedPersonalization(double[] personalization, int n) {
+        double[] teleport = new double[n];
+        if (personalization == null) {
+            Arrays.fill(teleport, 1.0 / n);
+            return teleport;
+        }
+        if (personalization.length != n) {
+            throw new IllegalArgumentException("Personalization vector must have one weight per page");
+        }
+        double sum = 0;
+        for (double weight : personalization) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Personalization weights must be finite and non-negative");
+            }
+            sum += weight;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("Personalization vector must have a positive weight");
+        }
+        for (int v = 0; v < n; v++) {
+            teleport[v] = personalization[v] / sum;
+        }
+        return teleport;
+    }
 }
@@ -0,0 +1,268 @@
+package com.thealgorithms.searches;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tree-parallel Monte Carlo Tree Search: several threads run playouts on one shared tree.
+ *
+ * <p>The game is the one of {@link MonteCarloTreeSearch}: every node has
+ * {@value #CHILD_COUNT} children, a random play is won by the player with probability 1/6, and
+ * UCT selects the child to explore. Instead of objects, the nodes are indexes into preallocated
+ * arrays, one per field: the parent, the first child, whose turn it is, the visits and the score.
+ * The children of a node are allocated together, so they are consecutive indexes, and allocation
+ * is a single compare-and-set on the number of nodes.</p>
+ *
+ * <p>The threads do not lock the tree. Visits and scores are atomic counters. A thread that
+ * selects a node adds a virtual loss of {@value #VIRTUAL_LOSS} visits to it, which lowers the UCT
+ * value of the node until the playout is backed up, so that the other threads explore different
+ * paths. A node is expanded by the thread that claims it with a compare-and-set; the children are
+ * published by writing the index of the first child, and threads that reach the node earlier
+ * simulate from it as from a leaf. Once the pool is full, leaves are no longer expanded.</p>
+ *
+ * Example usage:
+ * <pre>
+ * ParallelMonteCarloTreeSearch mcts = new ParallelMonteCarloTreeSearch(1 &lt;&lt; 20, true, 42);
+ * int best = mcts.search(100_000, 4); // index of the most promising child of the root
+ * </pre>
+ *
+ * @see MonteCarloTreeSearch
+ */
+public class ParallelMonteCarloTreeSearch {
+    static final int CHILD_COUNT = 10;
+    static final int WIN_SCORE = MonteCarloTreeSearch.WIN_SCORE;
+    static final int VIRTUAL_LOSS = 3;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    // values of firstChild for nodes without children
+    private static final int UNEXPANDED = -1;
+    private static final int EXPANDING = -2;
+    private static final int LEAF = -3;
+
+    private final int capacity;
+    private final int[] parent;
+    private final boolean[] isPlayersTurn;
+    private final AtomicIntegerArray firstChild;
+    private final AtomicIntegerArray visitCount;
+    private final AtomicLongArray score;
+    private final AtomicInteger nodeCount = new AtomicInteger(1);
+    private final SplittableRandom seeds;
+
+    /**
+     * Creates a tree with only the root.
+     *
+     * @param capacity the maximum number of nodes, at least 1
+     * @param isPlayersTurn true if it is the player's turn at the root
+     * @param seed the seed of the random plays
+     */
+    public ParallelMonteCarloTreeSearch(int capacity, boolean isPlayersTurn, long seed) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.parent = new int[capacity];
+        this.isPlayersTurn = new boolean[capacity];
+        this.firstChild = new AtomicIntegerArray(capacity);
+        this.visitCount = new AtomicIntegerArray(capacity);
+        this.score = new AtomicLongArray(capacity);
+        this.seeds = new SplittableRandom(seed);
+        parent[ROOT] = NONE;
+        this.isPlayersTurn[ROOT] = isPlayersTurn;
+        firstChild.set(ROOT, UNEXPANDED);
+    }
+
+    /**
+     * Explores the tree with a number of playouts and returns the most promising child of the
+     * root. Later calls continue with the same tree.
+     *
+     * @param playouts the number of playouts, shared by all threads
+     * @param threads the number of threads
+     * @return the index of the child of the root with the highest score, from 0 to {@value #CHILD_COUNT} - 1
+     */
+    public int search(int playouts, int threads) {
+        if (playouts < 0 || threads < 1) {
+            throw new IllegalArgumentException("Cannot run " + playouts + " playouts on " + threads + " threads");
+        }
+        AtomicInteger remaining = new AtomicInteger(playouts);
+        if (threads == 1) {
+            new Worker(seeds.split(), remaining).run();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(new Worker(seeds.split(), remaining)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while searching", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Search failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return getWinnerChild();
+    }
+
+    /**
+     * @return the index of the child of the root with the highest score, or -1 if the root has no children yet
+     */
+    public int getWinnerChild() {
+        int first = firstChild.get(ROOT);
+        if (first < 0) {
+            return -1;
+        }
+        int winner = 0;
+        for (int i = 1; i < CHILD_COUNT; i++) {
+            if (score.get(first + i) > score.get(first + winner)) {
+                winner = i;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * @param child the index of a child of the root
+     * @return the number of playouts through the child
+     */
+    public int childVisitCount(int child) {
+        return visitCount.get(rootChild(child));
+    }
+
+    /**
+     * @param child the index of a child of the root
+     * @return the score of the child
+     */
+    public long childScore(int child) {
+        return score.get(rootChild(child));
+    }
+
+    /**
+     * @return the number of playouts run so far
+     */
+    public int playoutCount() {
+        return visitCount.get(ROOT);
+    }
+
+    /**
+     * @return the number of nodes in the tree
+     */
+    public int nodeCount() {
+        return nodeCount.get();
+    }
+
+    private int rootChild(int child) {
+        int first = firstChild.get(ROOT);
+        if (first < 0 || child < 0 || child >= CHILD_COUNT) {
+            throw new IndexOutOfBoundsException("No child " + child + " of the root");
+        }
+        return first + child;
+    }
+
+    /**
+     * Runs playouts until the shared budget is used up.
+     */
+    private final class Worker implements Runnable {
+        private final SplittableRandom random;
+        private final AtomicInteger remaining;
+
+        Worker(SplittableRandom random, AtomicInteger remaining) {
+            this.random = random;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void run() {
+            while (remaining.getAndDecrement() > 0) {
+                int node = select();
+                if (firstChild.get(node) == UNEXPANDED) {
+                    expand(node);
+                }
+                // see MonteCarloTreeSearch.simulateRandomPlay
+                backPropagate(node, random.nextInt(6) == 0);
+            }
+        }
+
+        /**
+         * Descends with UCT from the root to a node without children, adding a virtual loss to every node on the way.
+         */
+        private int select() {
+            int node = ROOT;
+            visitCount.addAndGet(node, VIRTUAL_LOSS);
+            int first;
+            while ((first = firstChild.get(node)) >= 0) {
+                node = getPromisingChild(node, first);
+                visitCount.addAndGet(node, VIRTUAL_LOSS);
+            }
+            return node;
+        }
+
+        private int getPromisingChild(int node, int first) {
+            double logVisits = Math.log(visitCount.get(node));
+            double bestUct = Double.NEGATIVE_INFINITY;
+            int best = first;
+            for (int child = first; child < first + CHILD_COUNT; child++) {
+                int visits = visitCount.get(child);
+                // a child that has never been visited has the highest UCT value
+                if (visits == 0) {
+                    return child;
+                }
+                double uct = (double) score.get(child) / visits + 1.41 * Math.sqrt(logVisits / visits);
+                if (uct > bestUct) {
+                    bestUct = uct;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Allocates the children of a node, unless another thread is already doing so or the pool is full.
+         */
+        private void expand(int node) {
+            if (!firstChild.compareAndSet(node, UNEXPANDED, EXPANDING)) {
+                return;
+            }
+            int first;
+            do {
+                first = nodeCount.get();
+                if (first > capacity - CHILD_COUNT) {
+                    firstChild.set(node, LEAF);
+                    return;
+                }
+            } while (!nodeCount.compareAndSet(first, first + CHILD_COUNT));
+            for (int child = first; child < first + CHILD_COUNT; child++) {
+                parent[child] = node;
+                isPlayersTurn[child] = !isPlayersTurn[node];
+                firstChild.set(child, UNEXPANDED);
+            }
+            // the volatile write publishes the fields of the children to the threads that read it
+            firstChild.set(node, first);
+        }
+
+        /**
+         * Replaces the virtual losses on the path by the result of the playout.
+         */
+        private void backPropagate(int node, boolean playerWon) {
+            for (int n = node; n != NONE; n = parent[n]) {
+                visitCount.addAndGet(n, 1 - VIRTUAL_LOSS);
+                if (isPlayersTurn[n] == playerWon) {
+                    score.addAndGet(n, WIN_SCORE);
+                }
+            }
+        }
+    }
+}
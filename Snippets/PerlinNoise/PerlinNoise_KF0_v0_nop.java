@@ -1,13 +1,35 @@
 package com.thealgorithms.others;
 
+import java.util.Arrays;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.stream.IntStream;
 
 /**
  * For detailed info and implementation see: <a
  * href="http://devmag.org.za/2009/04/25/perlin-noise/">Perlin-Noise</a>
  */
 public final class PerlinNoise {
+    // constants of the linear congruential generator used by java.util.Random
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // JUMP_MULTIPLIERS[i] and JUMP_ADDENDS[i] advance the generator by 2^i steps at once
+    private static final long[] JUMP_MULTIPLIERS = new long[48];
+    private static final long[] JUMP_ADDENDS = new long[48];
+
+    private static final int TILE_SIZE = 256;
+
+    static {
+        JUMP_MULTIPLIERS[0] = MULTIPLIER;
+        JUMP_ADDENDS[0] = ADDEND;
+        for (int i = 1; i < JUMP_MULTIPLIERS.length; i++) {
+            JUMP_MULTIPLIERS[i] = (JUMP_MULTIPLIERS[i - 1] * JUMP_MULTIPLIERS[i - 1]) & MASK;
+            JUMP_ADDENDS[i] = (JUMP_MULTIPLIERS[i - 1] * JUMP_ADDENDS[i - 1] + JUMP_ADDENDS[i - 1]) & MASK;
+        }
+    }
+
     private PerlinNoise() {
     }
 
@@ -104,6 +126,199 @@ public final class PerlinNoise {
         return perlinNoiseLayer;
     }
 
+    /**
+     * Calculates the part [tileX, tileX + tileWidth) x [tileY, tileY + tileHeight)
+     * of the noise returned by {@link #generatePerlinNoise} for the same
+     * arguments, bit for bit, without materializing the full base array or
+     * any full noise layer. Memory use only depends on the tile size.
+     *
+     * @param width width of the whole noise array
+     * @param height height of the whole noise array
+     * @param octaveCount numbers of layers used for blending noise
+     * @param persistence value of impact each layer get while blending
+     * @param seed used for randomizer
+     * @param tileX first x-coordinate of the tile
+     * @param tileY first y-coordinate of the tile
+     * @param tileWidth width of the tile
+     * @param tileHeight height of the tile
+     * @return row-major float array where the value of (x, y) is at index
+     * (y - tileY) * tileWidth + (x - tileX)
+     */
+    static float[] generatePerlinNoiseTile(int width, int height, int octaveCount, float persistence, long seed, int tileX, int tileY, int tileWidth, int tileHeight) {
+        if (tileX < 0 || tileY < 0 || tileWidth <= 0 || tileHeight <= 0 || tileX + tileWidth > width || tileY + tileHeight > height) {
+            throw new IllegalArgumentException("tile must lie within the noise array");
+        }
+        float[] tile = new float[tileWidth * tileHeight];
+        fillTile(width, height, octaveCount, persistence, seed, tileX, tileY, tileWidth, tileHeight, tile, 0, tileWidth);
+        return tile;
+    }
+
+    /**
+     * Calculates the same noise as {@link #generatePerlinNoise}, bit for bit,
+     * into a single flat buffer. The array is split into tiles of
+     * {@value #TILE_SIZE} x {@value #TILE_SIZE} values which are calculated in
+     * parallel, each accumulating all octaves in one pass over its part of the
+     * buffer.
+     *
+     * @param width width of noise array
+     * @param height height of noise array
+     * @param octaveCount numbers of layers used for blending noise
+     * @param persistence value of impact each layer get while blending
+     * @param seed used for randomizer
+     * @return row-major float array where the value of (x, y) is at index y * width + x
+     */
+    static float[] generatePerlinNoiseParallel(int width, int height, int octaveCount, float persistence, long seed) {
+        float[] perlinNoise = new float[Math.multiplyExact(width, height)];
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+
+        // tiles write to disjoint parts of the buffer, so they need no synchronization
+        IntStream.range(0, tilesX * tilesY).parallel().forEach(tile -> {
+            int tileX = (tile % tilesX) * TILE_SIZE;
+            int tileY = (tile / tilesX) * TILE_SIZE;
+            int tileWidth = Math.min(TILE_SIZE, width - tileX);
+            int tileHeight = Math.min(TILE_SIZE, height - tileY);
+            fillTile(width, height, octaveCount, persistence, seed, tileX, tileY, tileWidth, tileHeight, perlinNoise, tileY * width + tileX, width);
+        });
+        return perlinNoise;
+    }
+
+    /**
+     * Writes the noise of a tile into a row-major buffer. For every octave,
+     * only the base values on the sampling grid of the tile are generated, and
+     * the blended layer value of each cell is added to the buffer right away.
+     * The octaves are added in the same order and with the same amplitudes as
+     * in {@link #generatePerlinNoise}, so the results are identical.
+     *
+     * @param target buffer receiving the noise values
+     * @param offset index of (tileX, tileY) in the buffer
+     * @param stride distance between two rows of the tile in the buffer
+     */
+    private static void fillTile(int width, int height, int octaveCount, float persistence, long seed, int tileX, int tileY, int tileWidth, int tileHeight, float[] target, int offset, int stride) {
+        float amplitude = 1f;
+        float totalAmplitude = 0f;
+        long initialState = (seed ^ MULTIPLIER) & MASK;
+
+        for (int octave = octaveCount - 1; octave >= 0; octave--) {
+            amplitude *= persistence;
+            totalAmplitude += amplitude;
+
+            int period = 1 << octave; // 2^k
+            float frequency = 1f / period; // 1/2^k
+
+            // sampling indices of every column and row of the tile, mapped to positions in the sample grid
+            int[] sampleXs = samplingCoordinates(tileX, tileWidth, period, width);
+            int[] sampleYs = samplingCoordinates(tileY, tileHeight, period, height);
+            float[] samples = sampleBase(initialState, height, sampleXs, sampleYs);
+
+            // calculates the horizontal sampling indices once per column of the tile
+            int[] columns0 = new int[tileWidth];
+            int[] columns1 = new int[tileWidth];
+            float[] horizintalBlends = new float[tileWidth];
+            for (int i = 0; i < tileWidth; i++) {
+                int x = tileX + i;
+                int x0 = (x / period) * period;
+                int x1 = (x0 + period) % width;
+                columns0[i] = Arrays.binarySearch(sampleXs, x0);
+                columns1[i] = Arrays.binarySearch(sampleXs, x1);
+                horizintalBlends[i] = (x - x0) * frequency;
+            }
+
+            for (int y = tileY; y < tileY + tileHeight; y++) {
+                // calculates the vertical sampling indices
+                int y0 = (y / period) * period;
+                int y1 = (y0 + period) % height;
+                float verticalBlend = (y - y0) * frequency;
+                int row0 = Arrays.binarySearch(sampleYs, y0) * sampleXs.length;
+                int row1 = Arrays.binarySearch(sampleYs, y1) * sampleXs.length;
+                int index = offset + (y - tileY) * stride;
+
+                for (int i = 0; i < tileWidth; i++, index++) {
+                    float top = interpolate(samples[columns0[i] + row0], samples[columns1[i] + row0], horizintalBlends[i]);
+                    float bottom = interpolate(samples[columns0[i] + row1], samples[columns1[i] + row1], horizintalBlends[i]);
+                    target[index] += interpolate(top, bottom, verticalBlend) * amplitude;
+                }
+            }
+        }
+
+        // normalize values so that they stay between 0..1
+        for (int y = 0; y < tileHeight; y++) {
+            int index = offset + y * stride;
+            for (int x = 0; x < tileWidth; x++, index++) {
+                target[index] /= totalAmplitude;
+            }
+        }
+    }
+
+    /**
+     * @param start first coordinate of the tile along one axis
+     * @param length length of the tile along that axis
+     * @param period period of the current layer
+     * @param size size of the whole noise array along that axis
+     * @return sorted, distinct coordinates of the base values sampled along that axis
+     */
+    private static int[] samplingCoordinates(int start, int length, int period, int size) {
+        int[] coordinates = new int[2 * length];
+        for (int i = 0; i < length; i++) {
+            int c0 = ((start + i) / period) * period;
+            coordinates[2 * i] = c0;
+            coordinates[2 * i + 1] = (c0 + period) % size;
+        }
+        Arrays.sort(coordinates);
+        int distinct = 0;
+        for (int i = 0; i < coordinates.length; i++) {
+            if (i == 0 || coordinates[i] != coordinates[i - 1]) {
+                coordinates[distinct++] = coordinates[i];
+            }
+        }
+        return Arrays.copyOf(coordinates, distinct);
+    }
+
+    /**
+     * Generates the base values at the given grid of coordinates. The base
+     * value at (x, y) is the (x * height + y)-th float drawn from
+     * {@code new Random(seed)}; it is reproduced by jumping the generator
+     * ahead instead of drawing all preceding values. Consecutive rows of a
+     * column are drawn one after the other.
+     *
+     * @param initialState scrambled seed, as set by {@link Random#setSeed}
+     * @param height height of the whole noise array
+     * @param xs sorted x-coordinates to sample
+     * @param ys sorted y-coordinates to sample
+     * @return the base values, where the value at (xs[i], ys[j]) is at index j * xs.length + i
+     */
+    private static float[] sampleBase(long initialState, int height, int[] xs, int[] ys) {
+        float[] samples = new float[xs.length * ys.length];
+        for (int i = 0; i < xs.length; i++) {
+            int x = xs[i];
+            long state = 0;
+            for (int j = 0; j < ys.length; j++) {
+                if (j > 0 && ys[j] == ys[j - 1] + 1) {
+                    state = (state * MULTIPLIER + ADDEND) & MASK;
+                } else {
+                    state = jump(initialState, (long) x * height + ys[j] + 1);
+                }
+                // same as Random.nextFloat(): the upper 24 of the 48 state bits
+                samples[j * xs.length + i] = (int) (state >>> 24) / ((float) (1 << 24));
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * @param state state of the generator
+     * @param steps number of values to advance
+     * @return the state after drawing the given number of values
+     */
+    private static long jump(long state, long steps) {
+        for (int i = 0; steps != 0; i++, steps >>>= 1) {
+            if ((steps & 1) != 0) {
+                state = (state * JUMP_MULTIPLIERS[i] + JUMP_ADDENDS[i]) & MASK;
+            }
+        }
+        return state;
+    }
+
     /**
      * @param a value of point a
      * @param b value of point b
@@ -1,61 +1,97 @@
 package com.thealgorithms.datastructures.graphs;
 
+import com.thealgorithms.datastructures.heaps.IndexedMinHeap;
+import java.util.Arrays;
+
 /**
  * A Java program for Prim's Minimum Spanning Tree (MST) algorithm.
  * Adjacency matrix representation of the graph.
+ * The vertices not yet included in the MST are kept in an {@link IndexedMinHeap} keyed by
+ * their key value, so the minimum key vertex is found without scanning all vertices.
+ *
+ * <p>The result is the parent of every vertex in the tree, and -1 for a root. If the graph is
+ * not connected, a vertex that cannot be reached from the trees built so far starts a new tree,
+ * so the result is a minimum spanning forest with one root per connected component.</p>
  */
 public class PrimMST {
 
-    // Number of vertices in the graph
-    private static final int V = 5;
-
-    // A utility function to find the vertex with the minimum key
-    // value, from the set of vertices not yet included in the MST
-    int minKey(int[] key, Boolean[] mstSet) {
-        int min = Integer.MAX_VALUE;
-        int minIndex = -1;
-
-        for (int v = 0; v < V; v++) {
-            if (!mstSet[v] && key[v] < min) {
-                min = key[v];
-                minIndex = v;
-            }
-        }
-
-        return minIndex;
-    }
-
     // Function to construct MST for a graph using adjacency matrix representation
     public int[] primMST(int[][] graph) {
-        int[] parent = new int[V]; // Array to store constructed MST
-        int[] key = new int[V]; // Key values to pick minimum weight edge
-        Boolean[] mstSet = new Boolean[V]; // Vertices not yet included in MST
+        int vertexCount = graph.length; // Number of vertices in the graph
+        int[] parent = new int[vertexCount]; // Array to store constructed MST
+        Arrays.fill(parent, -1); // Vertices without a parent are roots
+        int[] key = new int[vertexCount]; // Key values to pick minimum weight edge
+        boolean[] mstSet = new boolean[vertexCount]; // Vertices already included in MST
+        IndexedMinHeap notInMst = new IndexedMinHeap(vertexCount); // Vertices not yet included in MST
 
-        // Initialize all keys as INFINITE and mstSet[] as false
-        for (int i = 0; i < V; i++) {
+        // Initialize all keys as INFINITE
+        for (int i = 0; i < vertexCount; i++) {
             key[i] = Integer.MAX_VALUE;
-            mstSet[i] = Boolean.FALSE;
+            notInMst.insert(i, key[i]);
+        }
+
+        if (vertexCount == 0) {
+            return parent;
         }
 
         // Always include the first vertex in MST
         key[0] = 0; // Make key 0 to pick the first vertex
-        parent[0] = -1; // First node is always root of MST
+        notInMst.decreaseKey(0, 0);
 
         // The MST will have V vertices
-        for (int count = 0; count < V - 1; count++) {
-            // Pick the minimum key vertex not yet included in MST
-            int u = minKey(key, mstSet);
-            mstSet[u] = Boolean.TRUE;
+        for (int count = 0; count < vertexCount - 1; count++) {
+            // Pick the minimum key vertex not yet included in MST; ties go to the smallest vertex
+            int u = notInMst.poll();
+            mstSet[u] = true;
 
             // Update key value and parent index of adjacent vertices of the picked vertex
-            for (int v = 0; v < V; v++) {
+            for (int v = 0; v < vertexCount; v++) {
                 if (graph[u][v] != 0 && !mstSet[v] && graph[u][v] < key[v]) {
                     parent[v] = u;
                     key[v] = graph[u][v];
+                    notInMst.decreaseKey(v, key[v]);
                 }
             }
         }
 
         return parent; // Return the MST parent array
     }
+
+    // Function to construct MST for an undirected graph in compressed sparse row form,
+    // which stores every edge in both directions. Only the edges of each picked vertex are visited.
+    public int[] primMST(CsrGraph graph) {
+        int vertexCount = graph.vertexCount();
+        int[] parent = new int[vertexCount];
+        Arrays.fill(parent, -1);
+        int[] key = new int[vertexCount];
+        boolean[] mstSet = new boolean[vertexCount];
+        IndexedMinHeap notInMst = new IndexedMinHeap(vertexCount);
+
+        for (int i = 0; i < vertexCount; i++) {
+            key[i] = Integer.MAX_VALUE;
+            notInMst.insert(i, key[i]);
+        }
+        if (vertexCount == 0) {
+            return parent;
+        }
+
+        key[0] = 0;
+        notInMst.decreaseKey(0, 0);
+
+        for (int count = 0; count < vertexCount - 1; count++) {
+            int u = notInMst.poll();
+            mstSet[u] = true;
+
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                if (!mstSet[v] && graph.weight(e) < key[v]) {
+                    parent[v] = u;
+                    key[v] = graph.weight(e);
+                    notInMst.decreaseKey(v, key[v]);
+                }
+            }
+        }
+
+        return parent;
+    }
 }
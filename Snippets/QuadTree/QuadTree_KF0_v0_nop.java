@@ -2,6 +2,7 @@ package com.thealgorithms.datastructures.trees;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Point is a simple class that represents a point in 2D space.
@@ -60,7 +61,8 @@ class BoundingBox {
  * QuadTree is a tree data structure that is used to store spatial information
  * in an efficient way.
  *
- * This implementation is specific to Point QuadTrees
+ * This implementation is specific to Point QuadTrees. For large static point
+ * sets, {@link MortonQuadTree} is built in bulk into flat arrays.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Quadtree">Quad Tree</a>
  * @author <a href="https://github.com/sailok">Sailok Chinta</a>
@@ -88,6 +90,18 @@ public class QuadTree {
         this.southEast = null;
     }
 
+    /**
+     * Creates a quad tree for the square with the given center and half width
+     *
+     * @param centerX The x coordinate of the center of the square
+     * @param centerY The y coordinate of the center of the square
+     * @param halfWidth Half the side length of the square
+     * @param capacity The number of points a quad holds before it is divided
+     */
+    public QuadTree(double centerX, double centerY, double halfWidth, int capacity) {
+        this(new BoundingBox(new Point(centerX, centerY), halfWidth), capacity);
+    }
+
     /**
      * Inserts a point into the tree
      *
@@ -135,6 +149,17 @@ public class QuadTree {
         return false;
     }
 
+    /**
+     * Inserts the point with the given coordinates into the tree
+     *
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @return true if the point is successfully inserted, false otherwise
+     */
+    public boolean insert(double x, double y) {
+        return insert(new Point(x, y));
+    }
+
     /**
      * Create four children that fully divide this quad into four quads of equal area
      */
@@ -156,21 +181,49 @@ public class QuadTree {
      */
     public List<Point> query(BoundingBox otherBoundingBox) {
         List<Point> points = new ArrayList<>();
+        query(otherBoundingBox, points::add);
+        return points;
+    }
 
+    /**
+     * Passes all the points that intersect with the other bounding box to the sink,
+     * without creating intermediate lists
+     *
+     * @param otherBoundingBox The other bounding box
+     * @param sink Receives every point that intersects with the other bounding box
+     */
+    public void query(BoundingBox otherBoundingBox, Consumer<Point> sink) {
         if (!boundary.intersectsBoundingBox(otherBoundingBox)) {
-            return points;
+            return;
         }
 
-        // filter the points that intersect with the other bounding box
-        points.addAll(pointList.stream().filter(otherBoundingBox::containsPoint).toList());
+        // pass on the points that intersect with the other bounding box
+        for (Point point : pointList) {
+            if (otherBoundingBox.containsPoint(point)) {
+                sink.accept(point);
+            }
+        }
 
         if (divided) {
-            points.addAll(northWest.query(otherBoundingBox));
-            points.addAll(northEast.query(otherBoundingBox));
-            points.addAll(southWest.query(otherBoundingBox));
-            points.addAll(southEast.query(otherBoundingBox));
+            northWest.query(otherBoundingBox, sink);
+            northEast.query(otherBoundingBox, sink);
+            southWest.query(otherBoundingBox, sink);
+            southEast.query(otherBoundingBox, sink);
         }
+    }
 
-        return points;
+    /**
+     * Counts the points inside the square with the given center and half width, including its border,
+     * without creating intermediate lists
+     *
+     * @param centerX The x coordinate of the center of the square
+     * @param centerY The y coordinate of the center of the square
+     * @param halfWidth Half the side length of the square
+     * @return The number of points inside the square
+     */
+    public int count(double centerX, double centerY, double halfWidth) {
+        int[] count = new int[1];
+        query(new BoundingBox(new Point(centerX, centerY), halfWidth), point -> count[0]++);
+        return count[0];
     }
 }
@@ -0,0 +1,113 @@
+package com.thealgorithms.datastructures.trees;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares the range query throughput of {@link QuadTree} and {@link MortonQuadTree}
+ * on the same uniformly distributed points, and measures the k-nearest-neighbour
+ * query of {@link MortonQuadTree}.
+ *
+ * <p>The number of points is given as first argument (10,000,000 by default); the
+ * object tree needs a heap of several gigabytes at that size. The points and the
+ * query squares are generated from fixed seeds. For every query size, the same
+ * squares are run against both trees and the number of points found must match.</p>
+ *
+ * <p>The results are written as CSV to standard output.</p>
+ */
+public final class QuadTreeBenchmark {
+    private static final int DEFAULT_POINT_COUNT = 10_000_000;
+    private static final int QUADTREE_CAPACITY = 16;
+    private static final int QUERIES = 10_000;
+    private static final double[] QUERY_HALF_WIDTHS = {0.0005, 0.005, 0.05};
+    private static final int[] NEIGHBOUR_COUNTS = {1, 10, 100};
+    private static final long SEED = 42;
+
+    private QuadTreeBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int pointCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_POINT_COUNT;
+        Random random = new Random(SEED);
+        double[] x = new double[pointCount];
+        double[] y = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            x[i] = random.nextDouble();
+            y[i] = random.nextDouble();
+        }
+
+        long start = System.nanoTime();
+        QuadTree quadTree = new QuadTree(0.5, 0.5, 0.5, QUADTREE_CAPACITY);
+        for (int i = 0; i < pointCount; i++) {
+            quadTree.insert(x[i], y[i]);
+        }
+        long quadTreeBuild = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        MortonQuadTree mortonQuadTree = new MortonQuadTree(x, y);
+        long mortonBuild = System.nanoTime() - start;
+
+        System.out.println("implementation,operation,parameter,ns_per_op,results_per_op");
+        System.out.println(String.format(Locale.ROOT, "QuadTree,build,%d,%.1f,0", pointCount, (double) quadTreeBuild));
+        System.out.println(String.format(Locale.ROOT, "MortonQuadTree,build,%d,%.1f,0", pointCount, (double) mortonBuild));
+
+        for (double halfWidth : QUERY_HALF_WIDTHS) {
+            double[] centerX = new double[QUERIES];
+            double[] centerY = new double[QUERIES];
+            Random queryRandom = new Random(SEED + 1);
+            for (int i = 0; i < QUERIES; i++) {
+                centerX[i] = queryRandom.nextDouble();
+                centerY[i] = queryRandom.nextDouble();
+            }
+
+            // run every loop twice and report the second run, so that both are compiled
+            long quadTreeFound = 0;
+            long quadTreeNanos = 0;
+            for (int round = 0; round < 2; round++) {
+                quadTreeFound = 0;
+                start = System.nanoTime();
+                for (int i = 0; i < QUERIES; i++) {
+                    quadTreeFound += quadTree.count(centerX[i], centerY[i], halfWidth);
+                }
+                quadTreeNanos = System.nanoTime() - start;
+            }
+
+            long mortonFound = 0;
+            long mortonNanos = 0;
+            MortonQuadTree.PointVisitor ignore = (index, px, py) -> { };
+            for (int round = 0; round < 2; round++) {
+                mortonFound = 0;
+                start = System.nanoTime();
+                for (int i = 0; i < QUERIES; i++) {
+                    mortonFound += mortonQuadTree.query(centerX[i] - halfWidth, centerY[i] - halfWidth, centerX[i] + halfWidth, centerY[i] + halfWidth, ignore);
+                }
+                mortonNanos = System.nanoTime() - start;
+            }
+
+            if (quadTreeFound != mortonFound) {
+                throw new IllegalStateException("Trees found different points for half width " + halfWidth);
+            }
+            System.out.println(line("QuadTree", "query", halfWidth, quadTreeNanos, quadTreeFound));
+            System.out.println(line("MortonQuadTree", "query", halfWidth, mortonNanos, mortonFound));
+        }
+
+        for (int k : NEIGHBOUR_COUNTS) {
+            int[] indices = new int[k];
+            double[] distances = new double[k];
+            Random queryRandom = new Random(SEED + 2);
+            long nanos = 0;
+            for (int round = 0; round < 2; round++) {
+                start = System.nanoTime();
+                for (int i = 0; i < QUERIES; i++) {
+                    mortonQuadTree.nearest(queryRandom.nextDouble(), queryRandom.nextDouble(), k, indices, distances);
+                }
+                nanos = System.nanoTime() - start;
+            }
+            System.out.println(line("MortonQuadTree", "nearest", k, nanos, (long) k * QUERIES));
+        }
+    }
+
+    private static String line(String name, String operation, double parameter, long nanos, long found) {
+        return String.format(Locale.ROOT, "%s,%s,%s,%.1f,%.1f", name, operation, parameter, (double) nanos / QUERIES, (double) found / QUERIES);
+    }
+}
@@ -0,0 +1,368 @@
+package com.thealgorithms.sorts;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the throughput and allocation rate of the {@link SortAlgorithm}
+ * implementations of this package on differently shaped inputs, so that a
+ * sorter can be chosen for each shape of data.
+ *
+ * <p>Every sorter is run on random, sorted, reversed, nearly-sorted and
+ * many-duplicates inputs of {@code Integer}s with sizes from 10 to 10,000,000.
+ * Sorters with quadratic behaviour are limited to smaller sizes, and sorters
+ * that only accept small non-negative values skip the random shape. A sorter
+ * that needs more than ten seconds for one run of a shape is not run on the
+ * larger sizes of that shape, so that a quadratic case cannot stall the run. Each
+ * combination is warmed up first and then measured for a fixed time; the
+ * input is copied before every run so that each run sorts the same data.
+ * Small inputs are sorted in batches of copies that are timed together, so
+ * that the timer does not dominate, and every sorted array is kept until the
+ * batch ends so that no sort can be optimized away.
+ * Allocated bytes are read from the per-thread allocation counter of the
+ * HotSpot JVM, similar to what {@code -prof gc} reports in JMH.</p>
+ *
+ * <p>The sorters with {@code int[]} overloads are additionally run on the
+ * unboxed inputs, next to {@link Arrays#sort(int[])} as a baseline, to show
+ * the cost of boxing and of the virtual {@code compareTo} call.</p>
+ *
+ * <p>The results are written as CSV, with one line per sorter, shape and size,
+ * to standard output or to the file given as first argument. An optional
+ * second argument limits the largest input size.</p>
+ */
+public final class SortBenchmark {
+    private static final int[] SIZES = {10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+    private static final int QUADRATIC_MAX_SIZE = 10_000;
+    // MergeSortNoExtraSpace stores two values below max + 1 in one int, which overflows once max exceeds 46,340
+    private static final int ENCODED_MAX_SIZE = 10_000;
+    // a batch of copies of small inputs holds about this many elements in total
+    private static final int BATCH_ELEMENTS = 10_000;
+    private static final long WARMUP_NANOS = 200_000_000L;
+    private static final long MEASUREMENT_NANOS = 1_000_000_000L;
+    // a sorter that needs longer than this for one run of a shape is not run on larger sizes of that shape
+    private static final long MAX_RUN_NANOS = 10_000_000_000L;
+    private static final long SEED = 42;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    // bytes reported between two reads of the allocation counter without any work in between
+    private static final long ALLOCATION_OVERHEAD = allocationOverhead();
+    // receives the sorted arrays of every batch, so that no sort can be optimized away
+    private static volatile Object sink;
+
+    private SortBenchmark() {
+    }
+
+    /**
+     * The shapes of input data the sorters are measured on.
+     */
+    enum InputShape {
+        RANDOM,
+        SORTED,
+        REVERSED,
+        NEARLY_SORTED,
+        MANY_DUPLICATES;
+
+        Integer[] generate(int size, Random random) {
+            Integer[] array = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                switch (this) {
+                case RANDOM:
+                    array[i] = random.nextInt();
+                    break;
+                case REVERSED:
+                    array[i] = size - i;
+                    break;
+                case MANY_DUPLICATES:
+                    array[i] = random.nextInt(16);
+                    break;
+                default:
+                    array[i] = i;
+                    break;
+                }
+            }
+            if (this == NEARLY_SORTED) {
+                // swap about 1% of the elements with a close neighbour
+                for (int swaps = size / 100; swaps > 0; swaps--) {
+                    int a = random.nextInt(size);
+                    int b = Math.min(size - 1, a + 1 + random.nextInt(8));
+                    Integer tmp = array[a];
+                    array[a] = array[b];
+                    array[b] = tmp;
+                }
+            }
+            return array;
+        }
+    }
+
+    /**
+     * A sorter under test together with the largest input size it is run on.
+     */
+    private static final class Candidate {
+        private final String name;
+        private final Supplier<SortAlgorithm> factory;
+        private final int maxSize;
+        private final boolean producesSortedOutput;
+        private final Predicate<InputShape> shapes;
+
+        Candidate(String name, Supplier<SortAlgorithm> factory, int maxSize, boolean producesSortedOutput) {
+            this(name, factory, maxSize, producesSortedOutput, shape -> true);
+        }
+
+        Candidate(String name, Supplier<SortAlgorithm> factory, int maxSize, boolean producesSortedOutput, Predicate<InputShape> shapes) {
+            this.name = name;
+            this.factory = factory;
+            this.maxSize = maxSize;
+            this.producesSortedOutput = producesSortedOutput;
+            this.shapes = shapes;
+        }
+    }
+
+    private static List<Candidate> candidates() {
+        List<Candidate> candidates = new ArrayList<>();
+        candidates.add(new Candidate("BitonicSort", BitonicSort::new, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("CircleSort", CircleSort::new, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("CocktailShakerSort", CocktailShakerSort::new, QUADRATIC_MAX_SIZE, true));
+        // counts every value up to the maximum, so it needs small non-negative values
+        candidates.add(new Candidate("DarkSort", SortBenchmark::darkSort, Integer.MAX_VALUE, true, shape -> shape != InputShape.RANDOM));
+        // the first and last elements are the pivots, which is quadratic with deep recursion on sorted input
+        candidates.add(new Candidate("DualPivotQuickSort", DualPivotQuickSort::new, QUADRATIC_MAX_SIZE, true));
+        candidates.add(new Candidate("FlashSort", FlashSort::new, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("InsertionSort", InsertionSort::new, QUADRATIC_MAX_SIZE, true));
+        candidates.add(new Candidate("IntrospectiveSort", IntrospectiveSort::new, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("MergeSort", MergeSort::new, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("MergeSortRecursive", SortBenchmark::mergeSortRecursive, Integer.MAX_VALUE, true));
+        candidates.add(new Candidate("StrandSort", StrandSort::new, QUADRATIC_MAX_SIZE, true));
+        // an unbalanced search tree degenerates to quadratic time and deep recursion on sorted input
+        candidates.add(new Candidate("TreeSort", TreeSort::new, QUADRATIC_MAX_SIZE, true));
+        candidates.add(new Candidate("WiggleSort", WiggleSort::new, Integer.MAX_VALUE, false));
+        return candidates;
+    }
+
+    /**
+     * @return {@link DarkSort}, which sorts only {@code Integer} arrays, as a {@link SortAlgorithm}
+     */
+    private static SortAlgorithm darkSort() {
+        DarkSort sorter = new DarkSort();
+        return new SortAlgorithm() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T extends Comparable<T>> T[] sort(T[] unsorted) {
+                return (T[]) sorter.sort((Integer[]) unsorted);
+            }
+        };
+    }
+
+    /**
+     * @return {@link MergeSortRecursive}, which sorts a copy of an {@code Integer} list, as a {@link SortAlgorithm}
+     */
+    private static SortAlgorithm mergeSortRecursive() {
+        return new SortAlgorithm() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T extends Comparable<T>> T[] sort(T[] unsorted) {
+                List<Integer> sorted = new MergeSortRecursive(Arrays.asList((Integer[]) unsorted)).mergeSort();
+                return (T[]) sorted.toArray(new Integer[0]);
+            }
+        };
+    }
+
+    /**
+     * A sorter of {@code int} arrays under test together with the largest input size it is run on.
+     */
+    private static final class PrimitiveCandidate {
+        private final String name;
+        private final Supplier<Consumer<int[]>> factory;
+        private final int maxSize;
+        private final Predicate<InputShape> shapes;
+
+        PrimitiveCandidate(String name, Supplier<Consumer<int[]>> factory, int maxSize) {
+            this(name, factory, maxSize, shape -> true);
+        }
+
+        PrimitiveCandidate(String name, Supplier<Consumer<int[]>> factory, int maxSize, Predicate<InputShape> shapes) {
+            this.name = name;
+            this.factory = factory;
+            this.maxSize = maxSize;
+            this.shapes = shapes;
+        }
+    }
+
+    private static List<PrimitiveCandidate> primitiveCandidates() {
+        List<PrimitiveCandidate> candidates = new ArrayList<>();
+        candidates.add(new PrimitiveCandidate("DualPivotQuickSort(int[])", () -> new DualPivotQuickSort()::sort, QUADRATIC_MAX_SIZE));
+        candidates.add(new PrimitiveCandidate("IntrospectiveSort(int[])", () -> new IntrospectiveSort()::sort, Integer.MAX_VALUE));
+        candidates.add(new PrimitiveCandidate("MergeSort(int[])", () -> new MergeSort()::sort, Integer.MAX_VALUE));
+        // rejects negative values, so it cannot sort the random shape
+        candidates.add(new PrimitiveCandidate("MergeSortNoExtraSpace(int[])", () -> MergeSortNoExtraSpace::sort, ENCODED_MAX_SIZE, shape -> shape != InputShape.RANDOM));
+        candidates.add(new PrimitiveCandidate("Arrays.sort(int[])", () -> Arrays::sort, Integer.MAX_VALUE));
+        return candidates;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int maxSize = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        try (PrintStream out = args.length > 0 ? new PrintStream(args[0], "UTF-8") : null) {
+            PrintStream target = out != null ? out : System.out;
+            target.println("algorithm,shape,size,ops_per_second,ns_per_op,bytes_per_op");
+            for (Candidate candidate : candidates()) {
+                for (InputShape shape : InputShape.values()) {
+                    if (!candidate.shapes.test(shape)) {
+                        continue;
+                    }
+                    for (int size : SIZES) {
+                        if (size > candidate.maxSize || size > maxSize) {
+                            break;
+                        }
+                        long[] result = run(candidate, shape, size);
+                        target.println(format(candidate.name, shape, size, result));
+                        target.flush();
+                        if (result[1] / result[0] > MAX_RUN_NANOS) {
+                            break;
+                        }
+                    }
+                }
+            }
+            for (PrimitiveCandidate candidate : primitiveCandidates()) {
+                for (InputShape shape : InputShape.values()) {
+                    if (!candidate.shapes.test(shape)) {
+                        continue;
+                    }
+                    for (int size : SIZES) {
+                        if (size > candidate.maxSize || size > maxSize) {
+                            break;
+                        }
+                        long[] result = run(candidate, shape, size);
+                        target.println(format(candidate.name, shape, size, result));
+                        target.flush();
+                        if (result[1] / result[0] > MAX_RUN_NANOS) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Warms up and measures one sorter on one input.
+     *
+     * @return the number of runs, the nanoseconds and the bytes allocated in total
+     */
+    private static long[] run(Candidate candidate, InputShape shape, int size) {
+        Integer[] input = shape.generate(size, new Random(SEED));
+        SortAlgorithm sorter = candidate.factory.get();
+
+        measure(input, size, Integer[]::clone, sorter::sort, WARMUP_NANOS);
+        long[] result = measure(input, size, Integer[]::clone, sorter::sort, MEASUREMENT_NANOS);
+
+        if (candidate.producesSortedOutput && !isSorted(sorter.sort(input.clone()))) {
+            throw new IllegalStateException(candidate.name + " did not sort " + shape + " input of size " + size);
+        }
+        return result;
+    }
+
+    /**
+     * Warms up and measures one {@code int} array sorter on one input.
+     *
+     * @return the number of runs, the nanoseconds and the bytes allocated in total
+     */
+    private static long[] run(PrimitiveCandidate candidate, InputShape shape, int size) {
+        int[] input = Arrays.stream(shape.generate(size, new Random(SEED))).mapToInt(Integer::intValue).toArray();
+        Consumer<int[]> sorter = candidate.factory.get();
+        Function<int[], int[]> sortInPlace = array -> {
+            sorter.accept(array);
+            return array;
+        };
+
+        measure(input, size, int[]::clone, sortInPlace, WARMUP_NANOS);
+        long[] result = measure(input, size, int[]::clone, sortInPlace, MEASUREMENT_NANOS);
+
+        int[] sorted = input.clone();
+        sorter.accept(sorted);
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+        if (!Arrays.equals(sorted, expected)) {
+            throw new IllegalStateException(candidate.name + " did not sort " + shape + " input of size " + size);
+        }
+        return result;
+    }
+
+    private static String format(String name, InputShape shape, int size, long[] result) {
+        long runs = result[0];
+        double nanosPerOp = (double) result[1] / runs;
+        double bytesPerOp = (double) result[2] / runs;
+        return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.1f,%.1f", name, shape, size, 1e9 / nanosPerOp, nanosPerOp, bytesPerOp);
+    }
+
+    /**
+     * Sorts copies of the input until the given time is used up, and at least once.
+     * Inputs smaller than {@value #BATCH_ELEMENTS} elements are copied into a batch
+     * of about that many elements in total, and the whole batch is timed at once.
+     * Copying the input is not included in the measured time or allocation.
+     *
+     * @return the number of runs, the nanoseconds and the bytes allocated in total
+     */
+    private static <A> long[] measure(A input, int size, UnaryOperator<A> copier, Function<A, ?> sorter, long budgetNanos) {
+        int batch = Math.max(1, BATCH_ELEMENTS / Math.max(1, size));
+        List<A> copies = new ArrayList<>(batch);
+        Object[] sorted = new Object[batch];
+        long runs = 0;
+        long nanos = 0;
+        long bytes = 0;
+        while (runs == 0 || nanos < budgetNanos) {
+            copies.clear();
+            for (int i = 0; i < batch; i++) {
+                copies.add(copier.apply(input));
+            }
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < batch; i++) {
+                sorted[i] = sorter.apply(copies.get(i));
+            }
+            nanos += System.nanoTime() - start;
+            bytes += allocatedBytes() - bytesBefore - ALLOCATION_OVERHEAD;
+            runs += batch;
+        }
+        sink = sorted;
+        return new long[] {runs, nanos, bytes};
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far, or 0 if the JVM does not report it
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static long allocationOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 1_000; i++) {
+            long before = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - before);
+        }
+        return overhead;
+    }
+
+    private static <T extends Comparable<T>> boolean isSorted(T[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1].compareTo(array[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,167 @@
+package com.thealgorithms.others;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Auto-complete that returns the {@code k} highest weighted words starting with a prefix,
+ * built on a trie of the lower-case letters 'a' to 'z'.
+ *
+ * <p>Every trie node caches the best {@code maxK} completions of its subtree, ordered by
+ * descending weight and then alphabetically. A query walks down the prefix and copies the
+ * first {@code k} cached completions, so it takes O(prefix length + k) time no matter how
+ * many words share the prefix. The caches are filled bottom-up once per load by merging the
+ * caches of the children; a node with a single child and no word of its own shares the cache
+ * of that child.</p>
+ *
+ * <p>A loaded trie is never modified. {@link #reload(Map)} builds a complete new trie and then
+ * publishes it with a single write to a volatile field, so any number of threads can query
+ * while a reload is running; each query sees either the old or the new words, never a mix.</p>
+ *
+ * Example usage:
+ * <pre>
+ * TopKAutocomplete autocomplete = new TopKAutocomplete(5);
+ * autocomplete.reload(Map.of("help", 10L, "hello", 30L, "dog", 5L));
+ * autocomplete.complete("hel", 1); // Returns [Completion[word=hello, weight=30]]
+ * </pre>
+ */
+public class TopKAutocomplete {
+
+    /**
+     * A word together with its weight.
+     */
+    public record Completion(String word, long weight) {
+    }
+
+    private static final int ALPHABET_SIZE = 26; // the letters 'a' to 'z'
+
+    /** Descending weight, then alphabetical order */
+    private static final Comparator<Completion> RANKING = Comparator.comparingLong(Completion::weight).reversed().thenComparing(Completion::word);
+
+    private static final Completion[] NO_COMPLETIONS = {};
+
+    // Trie node with the best completions of its subtree
+    private static final class Node {
+        Node[] children; // null while the node has no children
+        Completion word; // the word ending at this node, or null
+        Completion[] top = NO_COMPLETIONS;
+    }
+
+    // A completely built trie together with its number of words
+    private record Snapshot(Node root, int size) {
+    }
+
+    private final int maxK;
+    private volatile Snapshot snapshot = new Snapshot(new Node(), 0);
+
+    /**
+     * @param maxK the largest number of completions a query can return
+     * @throws IllegalArgumentException if maxK is not positive
+     */
+    public TopKAutocomplete(int maxK) {
+        if (maxK <= 0) {
+            throw new IllegalArgumentException("maxK must be positive");
+        }
+        this.maxK = maxK;
+    }
+
+    /**
+     * Replaces all words with the given ones. Queries running in the meantime keep
+     * using the previous words until the new trie is complete.
+     *
+     * @param weights the weight of every word; words consist of the letters 'a' to 'z'
+     * @throws IllegalArgumentException if a word contains another character
+     */
+    public void reload(Map<String, Long> weights) {
+        Node newRoot = new Node();
+        for (Map.Entry<String, Long> entry : weights.entrySet()) {
+            insert(newRoot, new Completion(entry.getKey(), entry.getValue()));
+        }
+        fillTop(newRoot);
+        snapshot = new Snapshot(newRoot, weights.size());
+    }
+
+    /**
+     * Returns the highest weighted words that start with the prefix.
+     *
+     * @param prefix the prefix typed so far
+     * @param k the number of completions wanted
+     * @return at most {@code min(k, maxK)} completions, best first; empty if no word has the prefix
+     * @throws IllegalArgumentException if k is negative
+     */
+    public List<Completion> complete(String prefix, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        Node node = snapshot.root();
+        for (int level = 0; level < prefix.length() && node != null; level++) {
+            int index = prefix.charAt(level) - 'a';
+            if (index < 0 || index >= ALPHABET_SIZE || node.children == null) {
+                return Collections.emptyList();
+            }
+            node = node.children[index];
+        }
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(node.top, Math.min(k, node.top.length))));
+    }
+
+    /**
+     * @return the number of words currently loaded
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    // Adds a word below root, creating the missing nodes
+    private static void insert(Node root, Completion completion) {
+        String word = completion.word();
+        Node pCrawl = root;
+        for (int level = 0; level < word.length(); level++) {
+            int index = word.charAt(level) - 'a';
+            if (index < 0 || index >= ALPHABET_SIZE) {
+                throw new IllegalArgumentException("Word must consist of the letters 'a' to 'z': " + word);
+            }
+            if (pCrawl.children == null) {
+                pCrawl.children = new Node[ALPHABET_SIZE];
+            }
+            if (pCrawl.children[index] == null) {
+                pCrawl.children[index] = new Node();
+            }
+            pCrawl = pCrawl.children[index];
+        }
+        pCrawl.word = completion;
+    }
+
+    // Fills the caches of the subtree of node after those of its children
+    private void fillTop(Node node) {
+        List<Completion[]> childTops = new ArrayList<>();
+        if (node.children != null) {
+            for (Node child : node.children) {
+                if (child != null) {
+                    fillTop(child);
+                    childTops.add(child.top);
+                }
+            }
+        }
+
+        if (node.word == null && childTops.size() == 1) {
+            node.top = childTops.get(0);
+            return;
+        }
+        List<Completion> candidates = new ArrayList<>();
+        if (node.word != null) {
+            candidates.add(node.word);
+        }
+        for (Completion[] childTop : childTops) {
+            candidates.addAll(Arrays.asList(childTop));
+        }
+        candidates.sort(RANKING);
+        node.top = candidates.subList(0, Math.min(maxK, candidates.size())).toArray(NO_COMPLETIONS);
+    }
+}
@@ -0,0 +1,180 @@
+package com.thealgorithms.datastructures.trees;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link Trie} and {@link CompactTrie} on the same dictionary: the heap
+ * retained by a filled trie, and the throughput of {@code insert},
+ * {@code search} and {@code countWordsWithPrefix}.
+ *
+ * <p>The dictionary is read from the file given as first argument, one word per
+ * line, or generated from a fixed seed with the number of words given as second
+ * argument (1,000,000 by default). The retained heap is the difference of the
+ * used heap after a full garbage collection before and after filling the trie,
+ * so the benchmark should run with a heap large enough for both tries and
+ * without other allocating threads.</p>
+ *
+ * <p>The results are written as CSV to standard output.</p>
+ */
+public final class TrieBenchmark {
+    private static final int DEFAULT_WORD_COUNT = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42;
+
+    private TrieBenchmark() {
+    }
+
+    /**
+     * A trie implementation under test, accessed through its common operations.
+     */
+    private static final class Candidate<T> {
+        private final String name;
+        private final Supplier<T> factory;
+        private final BiConsumer<T, String> insert;
+        private final BiPredicate<T, String> search;
+        private final BiPredicate<T, String> countWithPrefix;
+
+        Candidate(String name, Supplier<T> factory, BiConsumer<T, String> insert, BiPredicate<T, String> search, BiPredicate<T, String> countWithPrefix) {
+            this.name = name;
+            this.factory = factory;
+            this.insert = insert;
+            this.search = search;
+            this.countWithPrefix = countWithPrefix;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] words = args.length > 0 && !args[0].isEmpty() ? Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8).toArray(new String[0]) : generateWords(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WORD_COUNT, new Random(SEED));
+        String[] queries = shuffledQueries(words, new Random(SEED));
+        String[] prefixes = prefixes(queries);
+
+        List<Candidate<?>> candidates = new ArrayList<>();
+        candidates.add(new Candidate<>("Trie", Trie::new, Trie::insert, Trie::search, (trie, prefix) -> trie.countWordsWithPrefix(prefix) > 0));
+        candidates.add(new Candidate<>("CompactTrie", CompactTrie::new, CompactTrie::insert, CompactTrie::search, (trie, prefix) -> trie.countWordsWithPrefix(prefix) > 0));
+
+        System.out.println("implementation,words,retained_bytes,bytes_per_word,insert_ns_per_op,search_ns_per_op,prefix_count_ns_per_op");
+        for (Candidate<?> candidate : candidates) {
+            System.out.println(run(candidate, words, queries, prefixes));
+        }
+    }
+
+    /**
+     * Measures the retained heap of one filled trie, then the throughput of the operations over several rounds.
+     *
+     * @return the CSV line with the results
+     */
+    private static <T> String run(Candidate<T> candidate, String[] words, String[] queries, String[] prefixes) {
+        long before = usedHeap();
+        T trie = candidate.factory.get();
+        for (String word : words) {
+            candidate.insert.accept(trie, word);
+        }
+        long retained = usedHeap() - before;
+
+        long insertNanos = Long.MAX_VALUE;
+        long searchNanos = Long.MAX_VALUE;
+        long prefixNanos = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            T fresh = candidate.factory.get();
+            long start = System.nanoTime();
+            for (String word : words) {
+                candidate.insert.accept(fresh, word);
+            }
+            insertNanos = Math.min(insertNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (String query : queries) {
+                found += candidate.search.test(trie, query) ? 1 : 0;
+            }
+            searchNanos = Math.min(searchNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (String prefix : prefixes) {
+                found += candidate.countWithPrefix.test(trie, prefix) ? 1 : 0;
+            }
+            prefixNanos = Math.min(prefixNanos, System.nanoTime() - start);
+        }
+        if (found == 0) {
+            throw new IllegalStateException(candidate.name + " found no words");
+        }
+
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.1f,%.1f,%.1f", candidate.name, words.length, retained, (double) retained / words.length, (double) insertNanos / words.length, (double) searchNanos / queries.length, (double) prefixNanos / prefixes.length);
+    }
+
+    /**
+     * @return the heap in use after asking the JVM for a full garbage collection until the value settles
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    /**
+     * Generates lower-case words of 3 to 14 letters, with letters drawn from a skewed
+     * distribution so that words share prefixes as in natural language.
+     */
+    private static String[] generateWords(int count, Random random) {
+        String[] words = new String[count];
+        char[] buffer = new char[14];
+        for (int i = 0; i < count; i++) {
+            int length = 3 + random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                double skewed = random.nextDouble();
+                buffer[j] = (char) ('a' + (int) (26 * skewed * skewed));
+            }
+            words[i] = new String(buffer, 0, length);
+        }
+        return words;
+    }
+
+    /**
+     * @return the words in random order, where every second word has its last letter changed so that about half of the searches miss
+     */
+    private static String[] shuffledQueries(String[] words, Random random) {
+        String[] queries = words.clone();
+        for (int i = queries.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String tmp = queries[i];
+            queries[i] = queries[j];
+            queries[j] = tmp;
+        }
+        for (int i = 1; i < queries.length; i += 2) {
+            String query = queries[i];
+            if (!query.isEmpty()) {
+                queries[i] = query.substring(0, query.length() - 1) + (char) ('a' + random.nextInt(26));
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * @return the first half of every query as prefix
+     */
+    private static String[] prefixes(String[] queries) {
+        String[] prefixes = new String[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            prefixes[i] = queries[i].substring(0, (queries[i].length() + 1) / 2);
+        }
+        return prefixes;
+    }
+}
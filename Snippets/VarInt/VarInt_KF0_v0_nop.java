@@ -0,0 +1,66 @@
+package com.thealgorithms.datastructures.crdt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length encoding of non-negative {@code long}s (unsigned LEB128), as used by the
+ * binary codecs of the CRDTs in this package.
+ *
+ * <p>Every byte carries seven bits of the value, least significant group first; the high bit
+ * is set on all bytes but the last. Values below 128 take one byte, values below 16384 two,
+ * and the largest values ten.</p>
+ */
+final class VarInt {
+    /** The most bytes a value can take */
+    static final int MAX_SIZE = 10;
+
+    private VarInt() {
+    }
+
+    /**
+     * @param value the value to encode
+     * @return the number of bytes {@link #write(byte[], int, long)} writes for the value
+     */
+    static int size(long value) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(value | 1);
+        return (bits + 6) / 7;
+    }
+
+    /**
+     * Writes a value.
+     *
+     * @param buffer the array to write to
+     * @param offset the index of the first byte to write
+     * @param value the value to write
+     * @return the index after the last byte written
+     * @throws ArrayIndexOutOfBoundsException if the buffer is too small
+     */
+    static int write(byte[] buffer, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * Reads a value and advances the position of the buffer past it.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException if the value is longer than {@value #MAX_SIZE} bytes
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the value
+     */
+    static long read(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Variable-length value is longer than " + MAX_SIZE + " bytes");
+    }
+}